@@ -1,13 +1,23 @@
 package com.database.gametradefrontend;
 
+import com.database.gametradefrontend.client.ApiClient;
+import com.database.gametradefrontend.client.ApiMetrics;
+import com.database.gametradefrontend.client.CircuitBreaker;
+import com.database.gametradefrontend.client.WireCodecs;
+import com.database.gametradefrontend.model.GameOrder;
+import com.database.gametradefrontend.model.GameReview;
+import com.database.gametradefrontend.model.GameSummary;
+import com.database.gametradefrontend.model.LibraryEntry;
+import com.database.gametradefrontend.model.SalesRecord;
+import com.database.gametradefrontend.model.VendorGame;
+import com.database.gametradefrontend.util.BackgroundTasks;
+import com.database.gametradefrontend.util.FxStallMonitor;
+import com.database.gametradefrontend.util.ImageCache;
 import javafx.application.Application;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Scene;
-import javafx.scene.image.Image;
 import javafx.stage.Stage;
 
-import java.util.Objects;
-
 public class GameTradeApp extends Application {
 
     @Override
@@ -20,11 +30,18 @@ public class GameTradeApp extends Application {
             Scene scene = new Scene(loader.load(), 1000, 800);
             primaryStage.setTitle("GameTrade - 欢迎");
             primaryStage.setScene(scene);
-            primaryStage.getIcons().add(new Image(Objects.requireNonNull(getClass().getResourceAsStream("/icon/yuanshen.png"))));
+            primaryStage.getIcons().add(ImageCache.getAppIcon());
             primaryStage.show();
 
+            // 监测界面线程卡顿（超过一帧的脉冲和事件处理）
+            FxStallMonitor.start();
+
+            // 请求统计：发布到JMX并定期写入文件
+            ApiMetrics.start();
+
             // 测试后端连接
             testBackendConnection();
+            watchBackendState();
 
         } catch (Exception e) {
             e.printStackTrace();
@@ -32,9 +49,15 @@ public class GameTradeApp extends Application {
         }
     }
 
+    @Override
+    public void stop() {
+        // 退出前写入最终的请求统计
+        ApiMetrics.stop();
+    }
+
     private void testBackendConnection() {
-        // 在新线程中测试后端连接
-        new Thread(() -> {
+        // 在后台任务中测试后端连接
+        BackgroundTasks.run(() -> {
             try {
                 // 使用实际存在的API路径进行连接测试
                 java.net.HttpURLConnection conn = (java.net.HttpURLConnection)
@@ -56,7 +79,18 @@ public class GameTradeApp extends Application {
                                 "请确保后端服务已启动: http://localhost:8080\n" +
                                 "错误: " + e.getMessage()));
             }
-        }).start();
+        });
+    }
+
+    private void watchBackendState() {
+        // 后端熔断状态变化时输出提示，熔断期间的请求会直接失败而不是等待超时
+        ApiClient.backendStateProperty().addListener((obs, oldState, newState) -> {
+            if (newState == CircuitBreaker.State.CLOSED) {
+                System.out.println("✅ 后端服务已恢复");
+            } else {
+                System.err.println("⚠️ 后端服务状态: " + newState.getDisplayName());
+            }
+        });
     }
 
     private void showErrorDialog(String title, String message) {
@@ -70,10 +104,9 @@ public class GameTradeApp extends Application {
     }
 
     public static void main(String[] args) {
-        // 初始化Jackson模块
-        com.fasterxml.jackson.databind.ObjectMapper mapper =
-                new com.fasterxml.jackson.databind.ObjectMapper();
-        mapper.findAndRegisterModules();
+        // 在后台预热共享的编解码器（注册Jackson模块、构建常用列表的反序列化器），首个请求不再承担这部分开销
+        BackgroundTasks.run(() -> WireCodecs.warmUp(GameSummary.LIST_TYPE, LibraryEntry.LIST_TYPE, GameOrder.LIST_TYPE,
+                GameReview.LIST_TYPE, VendorGame.LIST_TYPE, SalesRecord.LIST_TYPE));
 
         launch(args);
     }
@@ -1,225 +1,901 @@
 package com.database.gametradefrontend.client;
 
 import com.database.gametradefrontend.config.AppConfig;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.type.TypeFactory;
 
-import java.io.BufferedReader;
+import javafx.application.Platform;
+import javafx.beans.property.ReadOnlyObjectProperty;
+import javafx.beans.property.ReadOnlyObjectWrapper;
+
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.io.InputStreamReader;
-import java.io.OutputStream;
-import java.net.HttpURLConnection;
-import java.net.URL;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * 优化的API客户端类 - 封装HTTP请求逻辑
  * 支持配置外部化和重试机制
+ * 所有实例共享同一个长连接的HttpClient（连接池 + HTTP/2多路复用）和同一个JSON编解码器，创建实例没有额外开销
  */
 public class ApiClient {
     private static final String BASE_URL = AppConfig.getApiBaseUrl();
     private static final int CONNECT_TIMEOUT = AppConfig.getApiConnectTimeout();
-    private static final int READ_TIMEOUT = AppConfig.getApiReadTimeout();
-    private static final int MAX_RETRY_ATTEMPTS = AppConfig.getApiMaxRetryAttempts();
-    private static final int RETRY_DELAY = AppConfig.getApiRetryDelay();
     
-    private final ObjectMapper objectMapper;
+    /**
+     * 超时策略：按接口选择每次尝试的读超时和一次调用的总时限
+     */
+    private static final TimeoutPolicy TIMEOUT_POLICY = new TimeoutPolicy();
+    
+    /**
+     * 重试策略：只重试幂等或标记为安全的请求，指数退避加随机抖动
+     */
+    private static final RetryPolicy RETRY_POLICY = new RetryPolicy();
+    
+    /**
+     * 按后端主机划分的熔断器
+     */
+    private static final Map<String, CircuitBreaker> CIRCUIT_BREAKERS = new ConcurrentHashMap<>();
+    private static final ReadOnlyObjectWrapper<CircuitBreaker.State> BACKEND_STATE =
+            new ReadOnlyObjectWrapper<>(CircuitBreaker.State.CLOSED);
+    
+    /**
+     * 进程内共享的HTTP客户端，复用keep-alive连接，避免每次请求都重新握手
+     */
+    private static final HttpClient HTTP_CLIENT = createHttpClient();
+    
+    /**
+     * 进程内共享的响应缓存，各界面的ApiClient实例共用
+     */
+    private static final ResponseCache RESPONSE_CACHE = new ResponseCache();
+    
+    /**
+     * 进程内共享的请求合并器，相同的在途请求只发送一次
+     */
+    private static final RequestCoalescer REQUEST_COALESCER = new RequestCoalescer();
+    private static final boolean COALESCE_ENABLED = AppConfig.isApiCoalesceEnabled();
+    private static final Set<String> COALESCE_POST_PATHS = Set.copyOf(AppConfig.getApiCoalescePostEndpoints());
+    
+    /**
+     * 请求体序列化和JSON响应解码使用的共享编解码器
+     */
+    private static final JacksonCodec JSON = WireCodecs.JSON;
+    
+    /**
+     * 本客户端所有请求共享的截止时间，为null时每次调用只受所在接口的超时档位限制
+     */
+    private final Deadline deadline;
     
     public ApiClient() {
-        this.objectMapper = new ObjectMapper();
-        objectMapper.findAndRegisterModules();
+        this(null);
+    }
+    
+    private ApiClient(Deadline deadline) {
+        this.deadline = deadline;
+    }
+    
+    /**
+     * 获取共享指定截止时间的客户端：通过它发出的所有请求（包括重试和批量请求）都必须在截止时间前完成
+     * 用于一次用户操作需要多个请求的场景，如打开界面时的批量加载
+     */
+    public ApiClient withDeadline(Deadline deadline) {
+        return new ApiClient(deadline);
+    }
+    
+    /**
+     * 获取本客户端共享的截止时间，没有时返回null
+     */
+    public Deadline getDeadline() {
+        return deadline;
+    }
+    
+    /**
+     * 创建批量请求：收集多个请求后一次性并行发出，整批只等待一个往返
+     */
+    public RequestBatch batch() {
+        return new RequestBatch(this);
     }
     
     /**
      * 发送GET请求（带重试机制）
      */
     public <T> T get(String endpoint, Class<T> responseType) throws Exception {
-        return sendRequestWithRetry("GET", endpoint, null, responseType);
+        return await(getAsync(endpoint, responseType));
     }
     
     /**
      * 发送POST请求（带重试机制）
      */
     public <T> T post(String endpoint, Object requestBody, Class<T> responseType) throws Exception {
-        return sendRequestWithRetry("POST", endpoint, requestBody, responseType);
+        return await(postAsync(endpoint, requestBody, responseType));
+    }
+    
+    /**
+     * 发送GET请求并按泛型类型解析（如 List&lt;GameSummary&gt;）
+     */
+    public <T> T get(String endpoint, TypeReference<T> responseType) throws Exception {
+        return await(getAsync(endpoint, responseType));
+    }
+    
+    /**
+     * 发送POST请求并按泛型类型解析
+     */
+    public <T> T post(String endpoint, Object requestBody, TypeReference<T> responseType) throws Exception {
+        return await(postAsync(endpoint, requestBody, responseType));
     }
     
     /**
      * 发送PUT请求（带重试机制）
      */
     public <T> T put(String endpoint, Object requestBody, Class<T> responseType) throws Exception {
-        return sendRequestWithRetry("PUT", endpoint, requestBody, responseType);
+        return await(putAsync(endpoint, requestBody, responseType));
     }
     
     /**
      * 发送DELETE请求（带重试机制）
      */
     public boolean delete(String endpoint) throws Exception {
-        for (int attempt = 1; attempt <= MAX_RETRY_ATTEMPTS; attempt++) {
-            try {
-                HttpURLConnection connection = null;
-                try {
-                    URL url = new URL(BASE_URL + endpoint);
-                    connection = (HttpURLConnection) url.openConnection();
-                    connection.setRequestMethod("DELETE");
-                    connection.setConnectTimeout(CONNECT_TIMEOUT);
-                    connection.setReadTimeout(READ_TIMEOUT);
-                    
-                    int responseCode = connection.getResponseCode();
-                    boolean success = responseCode == HttpURLConnection.HTTP_OK || 
-                           responseCode == HttpURLConnection.HTTP_NO_CONTENT;
-                    
-                    // 如果成功，立即返回结果，不继续重试
-                    if (success) {
-                        return true;
-                    } else {
-                        throw new ApiException("HTTP " + responseCode + ": " + connection.getResponseMessage(), responseCode);
-                    }
-                } finally {
-                    if (connection != null) {
-                        connection.disconnect();
-                    }
-                }
-            } catch (Exception e) {
-                if (attempt == MAX_RETRY_ATTEMPTS) {
-                    throw e;
-                }
-                Thread.sleep(RETRY_DELAY * attempt);
+        return await(deleteAsync(endpoint));
+    }
+    
+    public <T> T delete(String endpoint, Object requestBody, Class<T> responseType) throws Exception {
+        return await(deleteAsync(endpoint, requestBody, responseType));
+    }
+    
+    /**
+     * 异步发送GET请求（带非阻塞重试），取消返回的Future会中止正在进行的请求
+     */
+    public <T> CompletableFuture<T> getAsync(String endpoint, Class<T> responseType) {
+        return sendRequestWithRetry("GET", endpoint, null, constructType(responseType));
+    }
+    
+    /**
+     * 异步发送GET请求，响应直接绑定到泛型类型（如 List&lt;GameSummary&gt;），不再经过Map中转
+     */
+    public <T> CompletableFuture<T> getAsync(String endpoint, TypeReference<T> responseType) {
+        return sendRequestWithRetry("GET", endpoint, null, constructType(responseType));
+    }
+    
+    /**
+     * 异步发送GET请求，响应类型由调用方通过TypeFactory动态构造
+     */
+    public <T> CompletableFuture<T> getAsync(String endpoint, JavaType responseType) {
+        return sendRequestWithRetry("GET", endpoint, null, responseType);
+    }
+    
+    /**
+     * 异步发送POST请求（带非阻塞重试）
+     */
+    public <T> CompletableFuture<T> postAsync(String endpoint, Object requestBody, Class<T> responseType) {
+        return sendRequestWithRetry("POST", endpoint, requestBody, constructType(responseType));
+    }
+    
+    /**
+     * 异步发送POST请求，响应直接绑定到泛型类型
+     */
+    public <T> CompletableFuture<T> postAsync(String endpoint, Object requestBody, TypeReference<T> responseType) {
+        return sendRequestWithRetry("POST", endpoint, requestBody, constructType(responseType));
+    }
+    
+    /**
+     * 异步发送POST请求，响应类型由调用方通过TypeFactory动态构造
+     */
+    public <T> CompletableFuture<T> postAsync(String endpoint, Object requestBody, JavaType responseType) {
+        return sendRequestWithRetry("POST", endpoint, requestBody, responseType);
+    }
+    
+    /**
+     * 异步发送PUT请求（带非阻塞重试）
+     */
+    public <T> CompletableFuture<T> putAsync(String endpoint, Object requestBody, Class<T> responseType) {
+        return sendRequestWithRetry("PUT", endpoint, requestBody, constructType(responseType));
+    }
+    
+    /**
+     * 异步发送DELETE请求（带非阻塞重试），成功时结果为true
+     */
+    public CompletableFuture<Boolean> deleteAsync(String endpoint) {
+        return this.<Void>sendRequestWithRetry("DELETE", endpoint, null, constructType(Void.class))
+                .thenApply(ignored -> true);
+    }
+    
+    public <T> CompletableFuture<T> deleteAsync(String endpoint, Object requestBody, Class<T> responseType) {
+        return sendRequestWithRetry("DELETE", endpoint, requestBody, constructType(responseType));
+    }
+    
+    /**
+     * 获取类型工厂，用于构造JavaType（如 typeFactory().constructCollectionType(List.class, SalesRecord.class)）
+     */
+    public TypeFactory typeFactory() {
+        return JSON.mapper().getTypeFactory();
+    }
+    
+    private JavaType constructType(Class<?> type) {
+        return JSON.mapper().getTypeFactory().constructType(type);
+    }
+    
+    private JavaType constructType(TypeReference<?> type) {
+        return JSON.mapper().getTypeFactory().constructType(type);
+    }
+    
+    /**
+     * 把回调切换到JavaFX应用线程执行的Executor，配合 whenCompleteAsync / thenAcceptAsync 使用
+     */
+    public static final Executor FX_EXECUTOR = command -> {
+        if (Platform.isFxApplicationThread()) {
+            command.run();
+        } else {
+            Platform.runLater(command);
+        }
+    };
+    
+    /**
+     * 手动失效路径以指定前缀开头的缓存（如用户点击"刷新"时）
+     */
+    public static void invalidateCache(String pathPrefix) {
+        RESPONSE_CACHE.invalidate(pathPrefix);
+    }
+    
+    /**
+     * 清空全部响应缓存（如退出登录时）
+     */
+    public static void clearCache() {
+        RESPONSE_CACHE.clear();
+    }
+    
+    /**
+     * 获取响应缓存统计（命中/未命中/重验证/淘汰），用于日志输出
+     */
+    public static String getCacheStats() {
+        return RESPONSE_CACHE.describe();
+    }
+    
+    /**
+     * 获取请求合并统计（实际发出/被合并的请求数），用于日志输出
+     */
+    public static String getCoalesceStats() {
+        return REQUEST_COALESCER.describe();
+    }
+    
+    /**
+     * 获取响应压缩统计（传输/解压后字节数及节省的字节数），用于日志输出
+     */
+    public static String getCompressionStats() {
+        return HttpCompression.describe();
+    }
+    
+    /**
+     * 获取请求体缓冲池统计（新分配/复用/归还的字节块数），用于日志输出
+     */
+    public static String getBodyBufferStats() {
+        return BufferPool.describe();
+    }
+    
+    /**
+     * 获取某个接口累计接收的响应体字节数（实际传输的字节数，不含命中缓存的响应）
+     * @param path 接口路径（不含查询参数）
+     */
+    public static long getReceivedBytes(String path) {
+        return ApiMetrics.getBytesIn(path);
+    }
+    
+    /**
+     * 剥离CompletableFuture包装的异常，返回真正的失败原因
+     */
+    public static Throwable unwrap(Throwable error) {
+        Throwable cause = error;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException
+                || cause instanceof UncheckedIOException) && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+    
+    /**
+     * 同步等待异步请求结果，保持原有同步接口的异常语义
+     */
+    private static <T> T await(CompletableFuture<T> future) throws Exception {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            throw e;
+        } catch (ExecutionException e) {
+            Throwable cause = unwrap(e);
+            if (cause instanceof Exception exception) {
+                throw exception;
             }
+            throw new ExecutionException(cause);
         }
-        return false;
     }
     
-    public <T> T delete(String endpoint, Object requestBody, Class<T> responseType) throws Exception {
-        return sendRequestWithRetry("DELETE", endpoint, requestBody, responseType);
+    /**
+     * 请求发送入口
+     * GET请求和配置为可合并的POST查询请求，若已有完全相同的请求在途，则共享同一次网络请求和解析结果；
+     * 截止时间取接口超时档位的总时限和本客户端共享截止时间中较早的一个；
+     * 请求体直接序列化到池化的字节块，只有需要按请求体合并或缓存的查询接口才会另外解码出字符串作为键
+     */
+    private <T> CompletableFuture<T> sendRequestWithRetry(String method, String endpoint, Object requestBody, JavaType responseType) {
+        String path = pathOf(endpoint);
+        boolean coalescable = isCoalescable(method, path);
+        PooledBody body;
+        String bodyKey;
+        try {
+            body = hasRequestBody(method, requestBody) ? PooledBody.encode(JSON.mapper(), requestBody) : null;
+            bodyKey = body != null && (coalescable || RESPONSE_CACHE.ttlFor(method, path) > 0) ? body.asString() : null;
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        
+        TimeoutPolicy.Profile profile = TIMEOUT_POLICY.profileFor(path);
+        Deadline callDeadline = Deadline.after(profile.totalMillis()).earlierOf(deadline);
+        
+        try {
+            CompletableFuture<T> result;
+            if (!coalescable) {
+                result = sendRequest(method, endpoint, body, bodyKey, responseType, profile.readMillis(), callDeadline);
+            } else {
+                // 响应类型也作为键的一部分：同一接口按不同类型解析的结果不能共享
+                String key = ResponseCache.key(method, endpoint, bodyKey) + "\n" + responseType.toCanonical();
+                result = REQUEST_COALESCER.execute(key,
+                        () -> sendRequest(method, endpoint, body, bodyKey, responseType, profile.readMillis(), callDeadline));
+            }
+            // 整个调用（含读取响应体和解析）最迟在截止时间失败；共享的在途请求按发起者的截止时间进行，
+            // 本调用方的截止时间可能更早
+            return callDeadline.bound(result, method + " " + path);
+        } finally {
+            // 发送方法已按需持有请求体；被合并的请求没有使用它，字节块直接归还
+            if (body != null) {
+                body.release(true);
+            }
+        }
     }
     
     /**
      * 带重试机制的请求发送方法
+     * 重试通过延迟调度实现，不占用任何线程等待；取消返回的Future会同时取消当前在途请求
+     * 配置了缓存TTL的接口先查响应缓存，新鲜的直接返回，过期的带条件头重新验证
+     * @param body 请求体，没有时为null
+     * @param bodyKey 请求体的字符串形式（用作缓存键），不需要时为null
+     * @param readMillis 每次尝试的读超时
+     * @param deadline 本次调用（含所有重试）的截止时间
      */
-    private <T> T sendRequestWithRetry(String method, String endpoint, Object requestBody, Class<T> responseType) throws Exception {
-        Exception lastException = null;
+    private <T> CompletableFuture<T> sendRequest(String method, String endpoint, PooledBody body, String bodyKey,
+                                                 JavaType responseType, long readMillis, Deadline deadline) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        AtomicReference<CompletableFuture<?>> inFlight = new AtomicReference<>();
+        // 是否有发出的尝试没有收到响应就结束（网络错误、超时、取消），此时连接可能仍在读取请求体
+        AtomicBoolean abandoned = new AtomicBoolean();
         
-        for (int attempt = 1; attempt <= MAX_RETRY_ATTEMPTS; attempt++) {
-            try {
-                T result = sendRequest(method, endpoint, requestBody, responseType);
-                // 如果成功，立即返回结果，不继续重试
-                return result;
-            } catch (Exception e) {
-                lastException = e;
-                
-                if (attempt == MAX_RETRY_ATTEMPTS) {
-                    throw lastException;
+        result.whenComplete((value, error) -> {
+            if (result.isCancelled()) {
+                CompletableFuture<?> current = inFlight.get();
+                if (current != null) {
+                    current.cancel(true);
                 }
-                Thread.sleep(RETRY_DELAY * attempt);
             }
+        });
+        
+        HttpRequest request;
+        CachePlan cachePlan;
+        try {
+            cachePlan = planCache(method, endpoint, bodyKey);
+            
+            ResponseCache.Entry cached = cachePlan != null ? RESPONSE_CACHE.get(cachePlan.key()) : null;
+            if (cached != null && cached.isFresh()) {
+                // 缓存命中：在后台解码缓存的响应字节，避免在调用线程（可能是FX线程）上解析
+                RESPONSE_CACHE.recordHit();
+                CompletableFuture<T> decoded = CompletableFuture.supplyAsync(() -> decodeCached(cached, responseType));
+                inFlight.set(decoded);
+                decoded.whenComplete((value, error) -> {
+                    if (error == null) {
+                        result.complete(value);
+                    } else {
+                        result.completeExceptionally(unwrap(error));
+                    }
+                });
+                return result;
+            }
+            if (cachePlan != null) {
+                RESPONSE_CACHE.recordMiss();
+            }
+            PooledBody wireBody = prepareWireBody(body);
+            request = buildRequest(method, endpoint, wireBody, wireBody != body, cached);
+            if (wireBody != null) {
+                // 所有发出的尝试都收到了响应（包括错误状态码）时，连接不会再读取请求体，字节块可以复用；
+                // 否则（取消、超时、网络错误）交给GC
+                result.whenComplete((value, error) -> wireBody.release(!result.isCancelled() && !abandoned.get()));
+            }
+        } catch (Exception e) {
+            result.completeExceptionally(unwrap(e));
+            return result;
         }
         
-        // 理论上不会执行到这里，因为如果所有重试都失败会抛出异常
-        return null;
+        sendAttempt(request, responseType, cachePlan, readMillis, deadline, 1, result, inFlight, abandoned);
+        return result;
     }
-
+    
+    private <T> void sendAttempt(HttpRequest request, JavaType responseType, CachePlan cachePlan, long readMillis,
+                                 Deadline deadline, int attempt, CompletableFuture<T> result,
+                                 AtomicReference<CompletableFuture<?>> inFlight, AtomicBoolean abandoned) {
+        if (result.isDone()) {
+            return;
+        }
+        
+        EndpointMetrics metrics = ApiMetrics.forRequest(request.method(), pathOf(request.uri()));
+        
+        // 剩余时间不足以完成一次尝试时直接失败，本次尝试的超时不超过剩余时间
+        long remaining = deadline.remainingMillis();
+        if (remaining < TIMEOUT_POLICY.getMinAttemptMillis()) {
+            Deadline.DeadlineExceededException exceeded =
+                    deadline.exceeded(request.method() + " " + pathOf(request.uri()));
+            metrics.recordError(exceeded);
+            result.completeExceptionally(exceeded);
+            return;
+        }
+        HttpRequest attemptRequest = HttpRequest.newBuilder(request, (name, value) -> true)
+                .timeout(Duration.ofMillis(Math.min(readMillis, remaining)))
+                .build();
+        
+        // 后端处于熔断状态时直接失败，不再等待连接超时
+        CircuitBreaker breaker = circuitBreakerFor(request.uri());
+        if (!breaker.tryAcquire()) {
+            CircuitBreaker.CircuitOpenException rejected =
+                    new CircuitBreaker.CircuitOpenException(breaker.getHost(), breaker.getRemainingOpenMillis());
+            metrics.recordError(rejected);
+            result.completeExceptionally(rejected);
+            return;
+        }
+        
+        long startNanos = System.nanoTime();
+        long attemptMillis = Math.min(readMillis, remaining);
+        AtomicBoolean responded = new AtomicBoolean();
+        AtomicReference<InputStream> responseBody = new AtomicReference<>();
+        CompletableFuture<T> attemptFuture = new CompletableFuture<>();
+        CompletableFuture<HttpResponse<InputStream>> exchange =
+                HTTP_CLIENT.sendAsync(attemptRequest, HttpResponse.BodyHandlers.ofInputStream());
+        exchange.whenComplete((response, error) -> {
+            if (error != null) {
+                attemptFuture.completeExceptionally(error);
+                return;
+            }
+            responseBody.set(response.body());
+            if (attemptFuture.isDone()) {
+                // 响应头到达前本次尝试已超时或被取消，不再读取
+                closeQuietly(response.body());
+                return;
+            }
+            responded.set(true);
+            try {
+                attemptFuture.complete(this.<T>handleResponse(response, responseType, cachePlan, metrics));
+            } catch (Throwable e) {
+                attemptFuture.completeExceptionally(e);
+            }
+        });
+        // 请求头的超时只覆盖到收到响应头为止，读取响应体同样受本次尝试的时限约束：
+        // 超时或取消时中止交换并关闭响应体，正在读取的线程随之结束，连接不会一直被占用
+        attemptFuture.orTimeout(attemptMillis, TimeUnit.MILLISECONDS);
+        attemptFuture.whenComplete((value, error) -> {
+            if (error != null) {
+                exchange.cancel(true);
+                InputStream stalled = responseBody.get();
+                if (stalled != null) {
+                    closeQuietly(stalled);
+                }
+            }
+        });
+        inFlight.set(attemptFuture);
+        
+        attemptFuture.whenComplete((value, error) -> {
+            if (!responded.get()) {
+                abandoned.set(true);
+            }
+            Throwable cause = error == null ? null : unwrap(error);
+            if (cause instanceof TimeoutException) {
+                cause = new HttpTimeoutException("读取响应超时（" + attemptMillis + "毫秒）");
+            }
+            if (cause instanceof CacheEntryLostException) {
+                // 304是正常响应：去掉条件头重新获取完整内容，不计为失败或重试
+                metrics.recordAttempt(System.nanoTime() - startNanos, 0, null);
+                breaker.onSuccess();
+                sendAttempt(unconditional(request), responseType, cachePlan, readMillis, deadline, attempt,
+                        result, inFlight, abandoned);
+                return;
+            }
+            metrics.recordAttempt(System.nanoTime() - startNanos,
+                    request.bodyPublisher().map(HttpRequest.BodyPublisher::contentLength).orElse(0L), cause);
+            if (cause instanceof CancellationException) {
+                breaker.onAbandoned();
+            } else if (cause != null && RETRY_POLICY.isServerFailure(cause)) {
+                breaker.onFailure();
+            } else {
+                breaker.onSuccess();
+            }
+            
+            if (error == null) {
+                // 如果成功，立即返回结果，不继续重试
+                result.complete(value);
+                return;
+            }
+            if (result.isDone()
+                    || !RETRY_POLICY.hasAttemptsLeft(attempt)
+                    || !RETRY_POLICY.isRetryable(request.method(), pathOf(request.uri()))
+                    || !RETRY_POLICY.isRetryableFailure(cause)) {
+                result.completeExceptionally(cause);
+                return;
+            }
+            long delay = RETRY_POLICY.backoffDelay(attempt);
+            if (deadline.remainingMillis() - delay < TIMEOUT_POLICY.getMinAttemptMillis()) {
+                // 等待之后已来不及完成下一次尝试，直接返回本次的失败原因
+                result.completeExceptionally(cause);
+                return;
+            }
+            // 延迟调度下一次尝试，不占用线程等待
+            metrics.recordRetry();
+            Executor delayed = CompletableFuture.delayedExecutor(delay, TimeUnit.MILLISECONDS);
+            delayed.execute(() -> sendAttempt(request, responseType, cachePlan, readMillis, deadline, attempt + 1,
+                    result, inFlight, abandoned));
+        });
+    }
+    
     /**
-     * 通用的HTTP请求发送方法
+     * 关闭响应体：未读完时中止连接上的读取（关闭时的异常没有意义，忽略）
      */
-    private <T> T sendRequest(String method, String endpoint, Object requestBody, Class<T> responseType) throws Exception {
-        HttpURLConnection connection = null;
+    private static void closeQuietly(InputStream body) {
         try {
-            String fullUrl = BASE_URL + endpoint;
-            
-            URL url = new URL(fullUrl);
-            connection = (HttpURLConnection) url.openConnection();
-            connection.setRequestMethod(method);
-            connection.setRequestProperty("Content-Type", "application/json");
-            connection.setRequestProperty("Accept", "application/json");
-            connection.setConnectTimeout(CONNECT_TIMEOUT);
-            connection.setReadTimeout(READ_TIMEOUT);
-            
-            // 如果有请求体，发送请求体
-            if (requestBody != null && ("POST".equals(method) || "PUT".equals(method) || "DELETE".equals(method))) {
-                connection.setDoOutput(true);
-                String requestBodyJson = objectMapper.writeValueAsString(requestBody);
-                
-                try (OutputStream os = connection.getOutputStream()) {
-                    byte[] input = requestBodyJson.getBytes(StandardCharsets.UTF_8);
-                    os.write(input, 0, input.length);
+            body.close();
+        } catch (IOException ignored) {
+        }
+    }
+    
+    /**
+     * 获取请求目标主机的熔断器
+     */
+    private static CircuitBreaker circuitBreakerFor(URI uri) {
+        String host = uri.getHost() + ":" + uri.getPort();
+        return CIRCUIT_BREAKERS.computeIfAbsent(host, ApiClient::createCircuitBreaker);
+    }
+    
+    private static CircuitBreaker createCircuitBreaker(String host) {
+        CircuitBreaker breaker = new CircuitBreaker(host, AppConfig.getApiCircuitFailureThreshold(), AppConfig.getApiCircuitOpenMillis());
+        URI base = URI.create(BASE_URL);
+        if (host.equals(base.getHost() + ":" + base.getPort())) {
+            // 主后端的熔断状态同步到JavaFX属性，供界面绑定显示
+            breaker.addListener(state -> Platform.runLater(() -> BACKEND_STATE.set(breaker.getState())));
+        }
+        return breaker;
+    }
+    
+    /**
+     * 主后端的熔断状态（在JavaFX线程上更新），界面可绑定用于提示"服务暂时不可用"
+     */
+    public static ReadOnlyObjectProperty<CircuitBreaker.State> backendStateProperty() {
+        return BACKEND_STATE.getReadOnlyProperty();
+    }
+    
+    /**
+     * 获取主后端的熔断器
+     */
+    public static CircuitBreaker getBackendCircuitBreaker() {
+        return circuitBreakerFor(URI.create(BASE_URL));
+    }
+    
+    /**
+     * 判断请求是否可以合并：GET总是可以，POST只有显式配置的只读查询接口才可以
+     */
+    private static boolean isCoalescable(String method, String path) {
+        if (!COALESCE_ENABLED) {
+            return false;
+        }
+        return "GET".equals(method) || ("POST".equals(method) && COALESCE_POST_PATHS.contains(path));
+    }
+    
+    private static boolean hasRequestBody(String method, Object requestBody) {
+        return requestBody != null && ("POST".equals(method) || "PUT".equals(method) || "DELETE".equals(method));
+    }
+    
+    /**
+     * 得到实际发送的请求体：较大的请求体按配置gzip压缩为新的池化请求体，否则增加一个使用者
+     * 调用方在请求结束后负责release
+     */
+    private static PooledBody prepareWireBody(PooledBody body) {
+        if (body == null) {
+            return null;
+        }
+        if (!HttpCompression.shouldCompressRequest(body)) {
+            return body.retain();
+        }
+        try {
+            return HttpCompression.gzip(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    /**
+     * 构建HTTP请求
+     * @param body 实际发送的请求体，没有时为null
+     * @param compressed 请求体是否经过gzip压缩
+     * @param cached 已过期但可重新验证的缓存条目，存在时附加If-None-Match/If-Modified-Since
+     */
+    private HttpRequest buildRequest(String method, String endpoint, PooledBody body, boolean compressed,
+                                     ResponseCache.Entry cached) {
+        HttpRequest.Builder builder = newRequestBuilder(endpoint)
+                .header("Content-Type", "application/json");
+        
+        if (cached != null && cached.isRevalidatable()) {
+            if (cached.etag() != null) {
+                builder.header("If-None-Match", cached.etag());
+            }
+            if (cached.lastModified() != null) {
+                builder.header("If-Modified-Since", cached.lastModified());
+            }
+        }
+        
+        if (body == null) {
+            return builder.method(method, HttpRequest.BodyPublishers.noBody()).build();
+        }
+        
+        // 发送池化的请求体，每次尝试重新订阅同一组字节块
+        if (compressed) {
+            builder.header("Content-Encoding", "gzip");
+        }
+        return builder.method(method, body.publisher()).build();
+    }
+    
+    /**
+     * 处理HTTP响应并解析为目标类型
+     * 响应体直接从输入流交给Jackson流式解析，不再先拼接成完整的字符串；
+     * 需要缓存的响应先读成字节数组保存（连同Content-Type），再从字节解码
+     */
+    private <T> T handleResponse(HttpResponse<InputStream> httpResponse, JavaType responseType, CachePlan cachePlan,
+                                 EndpointMetrics metrics) {
+        int responseCode = httpResponse.statusCode();
+        
+        // 统计的是实际传输的字节数；压缩的响应边读边解压，直接交给JSON解析
+        try (InputStream body = HttpCompression.decode(new CountingInputStream(httpResponse.body(), metrics.bytesInCounter()),
+                httpResponse.headers().firstValue("Content-Encoding").orElse(null))) {
+            if (responseCode == 304 && cachePlan != null) {
+                // 条件请求命中：内容未变化，继续使用缓存的响应
+                ResponseCache.Entry cached = RESPONSE_CACHE.revalidated(cachePlan.key());
+                if (cached != null) {
+                    return decodeCached(cached, responseType);
+                }
+                // 请求发出后缓存条目已被淘汰或失效，304没有可用的内容，需要去掉条件头重新获取
+                if (isConditional(httpResponse.request())) {
+                    throw new CacheEntryLostException();
                 }
             }
             
-            // 获取响应
-            int responseCode = connection.getResponseCode();
-            
-            if (responseCode >= 200 && responseCode < 300) {
-                // 成功响应
-                try (BufferedReader br = new BufferedReader(
-                        new InputStreamReader(connection.getInputStream(), StandardCharsets.UTF_8))) {
-                    StringBuilder response = new StringBuilder();
-                    String responseLine;
-                    while ((responseLine = br.readLine()) != null) {
-                        response.append(responseLine.trim());
-                    }
-                    
-                    if (responseType == Void.class) {
-                        return null;
-                    }
-                    
-                    // 如果响应类型是String，直接返回响应字符串，不进行JSON解析
-                    if (responseType == String.class) {
-                        return responseType.cast(response.toString());
-                    }
-                    
-                    // 如果响应类型是Object.class，尝试解析JSON，如果失败则返回原始字符串
-                    if (responseType == Object.class) {
-                        try {
-                            return objectMapper.readValue(response.toString(), responseType);
-                        } catch (Exception jsonException) {
-                            // JSON解析失败，返回原始字符串
-                            return responseType.cast(response.toString());
-                        }
-                    }
-                    
-                    return objectMapper.readValue(response.toString(), responseType);
-                }
-            } else {
+            if (responseCode < 200 || responseCode >= 300) {
                 // 错误响应
-                String errorMessage = getErrorMessage(connection);
+                String errorMessage = getErrorMessage(body);
                 throw new ApiException("HTTP " + responseCode + ": " + errorMessage, responseCode);
             }
-        } finally {
-            if (connection != null) {
-                connection.disconnect();
+            
+            String method = httpResponse.request().method();
+            String contentType = httpResponse.headers().firstValue("Content-Type").orElse(null);
+            if (cachePlan != null) {
+                byte[] bytes = body.readAllBytes();
+                RESPONSE_CACHE.put(cachePlan.key(), cachePlan.path(), bytes, contentType,
+                        httpResponse.headers().firstValue("ETag").orElse(null),
+                        httpResponse.headers().firstValue("Last-Modified").orElse(null),
+                        cachePlan.ttl(), cachePlan.generation());
+                return decode(new ByteArrayInputStream(bytes), contentType, responseType);
+            } else if (!"GET".equals(method)) {
+                // 变更接口调用成功，失效相关缓存
+                RESPONSE_CACHE.onMutation(pathOf(httpResponse.request().uri()));
             }
+            
+            return decode(body, contentType, responseType);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    private <T> T decodeCached(ResponseCache.Entry cached, JavaType responseType) {
+        try {
+            return decode(new ByteArrayInputStream(cached.body()), cached.contentType(), responseType);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    /**
+     * 按响应的Content-Type选择编解码器，再按目标类型解码响应体
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T decode(InputStream body, String contentType, JavaType responseType) throws IOException {
+        Class<?> rawType = responseType.getRawClass();
+        if (rawType == Void.class) {
+            return null;
+        }
+        
+        // 协商得到的二进制格式整体交给对应的编解码器
+        WireCodec codec = WireCodecs.forContentType(contentType);
+        if (codec != JSON) {
+            return codec.decode(body, responseType);
+        }
+        
+        // 如果响应类型是String，直接返回响应字符串，不进行JSON解析
+        if (rawType == String.class) {
+            return (T) readString(body);
+        }
+        
+        // 如果响应类型是Object.class，JSON对象和数组直接流式解析，其余内容按原逻辑尝试解析，失败则返回原始字符串
+        if (rawType == Object.class) {
+            return (T) readJsonOrString(body);
         }
+        
+        // 其余类型（模型record、泛型集合等）直接由Jackson绑定，复用缓存的ObjectReader
+        return JSON.decode(body, responseType);
+    }
+    
+    /**
+     * 判断请求是否走缓存，不缓存时返回null
+     */
+    private static CachePlan planCache(String method, String endpoint, String requestBodyJson) {
+        String path = pathOf(endpoint);
+        long ttl = RESPONSE_CACHE.ttlFor(method, path);
+        if (ttl <= 0) {
+            return null;
+        }
+        return new CachePlan(ResponseCache.key(method, endpoint, requestBodyJson), path, ttl, RESPONSE_CACHE.generation());
+    }
+    
+    /**
+     * 去掉查询参数，得到接口路径
+     */
+    private static String pathOf(String endpoint) {
+        int query = endpoint.indexOf('?');
+        return query >= 0 ? endpoint.substring(0, query) : endpoint;
+    }
+    
+    /**
+     * 由完整请求地址得到相对于BASE_URL的接口路径
+     */
+    private static String pathOf(URI uri) {
+        String path = uri.getPath();
+        String basePath = URI.create(BASE_URL).getPath();
+        return basePath != null && path.startsWith(basePath) ? path.substring(basePath.length()) : path;
+    }
+    
+    private static boolean isConditional(HttpRequest request) {
+        return request.headers().firstValue("If-None-Match").isPresent()
+                || request.headers().firstValue("If-Modified-Since").isPresent();
+    }
+    
+    /**
+     * 去掉条件请求头（If-None-Match/If-Modified-Since），得到普通请求
+     */
+    private static HttpRequest unconditional(HttpRequest request) {
+        return HttpRequest.newBuilder(request, (name, value) ->
+                !"If-None-Match".equalsIgnoreCase(name) && !"If-Modified-Since".equalsIgnoreCase(name)).build();
+    }
+    
+    /**
+     * 条件请求收到304，但对应的缓存条目已不存在
+     */
+    private static final class CacheEntryLostException extends RuntimeException {
+        CacheEntryLostException() {
+            super("缓存条目已失效", null, false, false);
+        }
+    }
+    
+    /**
+     * 单次请求的缓存参数
+     */
+    private record CachePlan(String key, String path, long ttl, long generation) {
+    }
+    
+    /**
+     * 读取Object.class类型的响应
+     * 后端部分接口返回纯文本（如"创建成功"），需要根据首个非空白字节判断内容类型
+     */
+    private Object readJsonOrString(InputStream body) throws IOException {
+        PushbackInputStream in = new PushbackInputStream(body, 1);
+        int first = in.read();
+        while (first != -1 && Character.isWhitespace(first)) {
+            first = in.read();
+        }
+        if (first != -1) {
+            in.unread(first);
+        }
+        if (first == '{' || first == '[') {
+            return JSON.mapper().readValue(in, Object.class);
+        }
+        
+        // 标量或纯文本响应体积很小，读成字符串后再判断（首字节可能是多字节字符的一部分，需整体解码）
+        String response = readString(in);
+        try {
+            return JSON.mapper().readValue(response, Object.class);
+        } catch (Exception jsonException) {
+            // JSON解析失败，返回原始字符串
+            return response;
+        }
+    }
+    
+    private static String readString(InputStream in) throws IOException {
+        return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+    }
+    
+    /**
+     * 创建带公共请求头的请求构建器（超时在每次尝试时按超时档位和剩余时间设置）
+     */
+    private HttpRequest.Builder newRequestBuilder(String endpoint) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(BASE_URL + endpoint))
+                .header("Accept", WireCodecs.acceptHeader(pathOf(endpoint)));
+        if (HttpCompression.ENABLED) {
+            builder.header("Accept-Encoding", HttpCompression.ACCEPT_ENCODING);
+        }
+        return builder;
     }
     
     /**
      * 获取错误信息
      */
-    private String getErrorMessage(HttpURLConnection connection) throws IOException {
-        if (connection == null) {
+    private String getErrorMessage(InputStream body) {
+        if (body == null) {
             return "Unknown error";
         }
         
-        // 先尝试读取 error stream，如果为 null 则回退到 response message
+        // 先尝试读取响应体，如果为空则回退到默认描述
         try {
-            java.io.InputStream errorStream = connection.getErrorStream();
-            if (errorStream != null) {
-                try (BufferedReader br = new BufferedReader(
-                        new InputStreamReader(errorStream, StandardCharsets.UTF_8))) {
-                    StringBuilder errorResponse = new StringBuilder();
-                    String line;
-                    while ((line = br.readLine()) != null) {
-                        errorResponse.append(line.trim());
-                    }
-                    String result = errorResponse.toString();
-                    return result.isEmpty() ? connection.getResponseMessage() : result;
-                }
-            } else {
-                String msg = connection.getResponseMessage();
-                return msg != null ? msg : "No error message";
+            String message = readString(body);
+            if (!message.isBlank()) {
+                return message.trim();
             }
-        } catch (Exception e) {
-            return connection.getResponseMessage();
+        } catch (IOException e) {
+            System.err.println("读取错误响应失败: " + e.getMessage());
+        }
+        return "No error message";
+    }
+    
+    /**
+     * 创建共享的HttpClient，连接池与协议版本从配置文件读取
+     */
+    private static HttpClient createHttpClient() {
+        // JDK HttpClient的连接池参数只能通过系统属性设置，必须在第一个客户端创建之前生效
+        System.setProperty("jdk.httpclient.connectionPoolSize",
+                String.valueOf(AppConfig.getApiConnectionPoolSize()));
+        System.setProperty("jdk.httpclient.keepalive.timeout",
+                String.valueOf(AppConfig.getApiKeepAliveTimeout()));
+        
+        HttpClient.Version version;
+        try {
+            version = HttpClient.Version.valueOf(AppConfig.getApiHttpVersion());
+        } catch (IllegalArgumentException e) {
+            System.err.println("未知的HTTP协议版本配置: " + AppConfig.getApiHttpVersion() + "，使用HTTP/2");
+            version = HttpClient.Version.HTTP_2;
         }
+        
+        // HTTP/2在后端不支持时会自动降级为HTTP/1.1 keep-alive
+        return HttpClient.newBuilder()
+                .version(version)
+                .connectTimeout(Duration.ofMillis(CONNECT_TIMEOUT))
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
     }
     
     /**
@@ -254,6 +930,11 @@ public class ApiClient {
      * API异常类
      */
     public static class ApiException extends RuntimeException {
+        /**
+         * 客户端本地产生的失败（熔断、超过截止时间）没有HTTP状态码
+         */
+        public static final int NO_STATUS = 0;
+        
         private final int statusCode;
         
         public ApiException(String message, int statusCode) {
@@ -0,0 +1,33 @@
+package com.database.gametradefrontend.client;
+
+/**
+ * ApiClient的整体统计（通过JMX查看），各接口的明细见EndpointMetricsMXBean
+ */
+public interface ApiClientMXBean {
+
+    int getEndpointCount();
+
+    long getTotalRequestCount();
+
+    long getTotalErrorCount();
+
+    long getTotalBytesIn();
+
+    long getTotalBytesOut();
+
+    String getCacheStats();
+
+    String getCoalesceStats();
+
+    String getCompressionStats();
+
+    String getBodyBufferStats();
+
+    String getBackendState();
+
+    /**
+     * 立即把统计写入文件
+     * @return 写入的文件路径
+     */
+    String dumpToFile();
+}
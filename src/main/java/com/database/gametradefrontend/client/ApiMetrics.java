@@ -0,0 +1,239 @@
+package com.database.gametradefrontend.client;
+
+import com.database.gametradefrontend.config.AppConfig;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 请求统计注册表 - 按接口模板（请求方法 + 去掉查询参数和ID段的路径）汇总ApiClient的请求统计
+ * 统计通过JMX发布（com.database.gametradefrontend:type=ApiClient 及 type=ApiEndpoint），
+ * 并定期追加写入本地CSV文件（累计值），便于对比不同版本在相同负载下的表现
+ */
+public final class ApiMetrics {
+    private static final String JMX_DOMAIN = "com.database.gametradefrontend";
+    private static final boolean JMX_ENABLED = AppConfig.isMetricsJmxEnabled();
+    private static final long DUMP_INTERVAL_MILLIS = AppConfig.getMetricsDumpIntervalMillis();
+    private static final Path DUMP_FILE = Path.of(AppConfig.getMetricsDumpFile());
+    private static final String CSV_HEADER = "time,version,endpoint,requests,errors,retries,bytesIn,bytesOut,"
+            + "p50Millis,p90Millis,p99Millis,maxMillis,meanMillis,errorClasses";
+
+    // 路径中的数字或UUID段视为ID，归入同一个接口模板
+    private static final Pattern ID_SEGMENT = Pattern.compile("/(\\d+|[0-9a-fA-F]{8}-[0-9a-fA-F-]{27})(?=/|$)");
+
+    private static final Map<String, EndpointMetrics> ENDPOINTS = new ConcurrentHashMap<>();
+
+    private static ScheduledExecutorService dumper;
+
+    private ApiMetrics() {
+    }
+
+    /**
+     * 获取接口的统计，第一次使用时创建并发布到JMX
+     * @param method 请求方法
+     * @param path 接口路径（不含查询参数）
+     */
+    static EndpointMetrics forRequest(String method, String path) {
+        String endpoint = method + " " + ID_SEGMENT.matcher(path).replaceAll("/{id}");
+        EndpointMetrics metrics = ENDPOINTS.get(endpoint);
+        if (metrics != null) {
+            return metrics;
+        }
+        EndpointMetrics created = new EndpointMetrics(endpoint);
+        metrics = ENDPOINTS.putIfAbsent(endpoint, created);
+        if (metrics != null) {
+            return metrics;
+        }
+        if (JMX_ENABLED) {
+            register(created, "type=ApiEndpoint,name=" + ObjectName.quote(endpoint));
+        }
+        return created;
+    }
+
+    /**
+     * 启动统计：发布ApiClient的整体统计到JMX，并按配置定期写入文件
+     * 重复调用不做任何事
+     */
+    public static synchronized void start() {
+        if (dumper != null) {
+            return;
+        }
+        if (JMX_ENABLED) {
+            register(new ClientStats(), "type=ApiClient");
+        }
+        dumper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "api-metrics-dump");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (DUMP_INTERVAL_MILLIS > 0) {
+            dumper.scheduleWithFixedDelay(ApiMetrics::dump, DUMP_INTERVAL_MILLIS, DUMP_INTERVAL_MILLIS,
+                    TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * 停止定期写入，并把最终统计写入文件（应用退出时调用）
+     */
+    public static synchronized void stop() {
+        if (dumper == null) {
+            return;
+        }
+        dumper.shutdownNow();
+        dumper = null;
+        dump();
+    }
+
+    private static void register(Object mbean, String properties) {
+        try {
+            ObjectName name = new ObjectName(JMX_DOMAIN + ":" + properties);
+            if (!ManagementFactory.getPlatformMBeanServer().isRegistered(name)) {
+                ManagementFactory.getPlatformMBeanServer().registerMBean(mbean, name);
+            }
+        } catch (JMException e) {
+            System.err.println("发布JMX统计失败: " + properties + " - " + e.getMessage());
+        }
+    }
+
+    /**
+     * 把所有有请求的接口的累计统计追加到统计文件，每个接口一行
+     * @return 写入的文件路径
+     */
+    public static synchronized String dump() {
+        List<EndpointMetrics> endpoints = new ArrayList<>(ENDPOINTS.values());
+        endpoints.removeIf(metrics -> metrics.getRequestCount() == 0 && metrics.getErrorCount() == 0);
+        if (endpoints.isEmpty()) {
+            return DUMP_FILE.toString();
+        }
+        endpoints.sort(Comparator.comparing(EndpointMetrics::getEndpoint));
+
+        String time = LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+        String version = AppConfig.getAppVersion();
+        try {
+            Path parent = DUMP_FILE.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            boolean newFile = !Files.exists(DUMP_FILE);
+            try (BufferedWriter writer = Files.newBufferedWriter(DUMP_FILE, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                if (newFile) {
+                    writer.write(CSV_HEADER);
+                    writer.newLine();
+                }
+                for (EndpointMetrics metrics : endpoints) {
+                    writer.write(String.format("%s,%s,\"%s\",%d,%d,%d,%d,%d,%.1f,%.1f,%.1f,%.1f,%.1f,\"%s\"",
+                            time, version, metrics.getEndpoint(), metrics.getRequestCount(), metrics.getErrorCount(),
+                            metrics.getRetryCount(), metrics.getBytesIn(), metrics.getBytesOut(),
+                            metrics.getLatencyP50Millis(), metrics.getLatencyP90Millis(),
+                            metrics.getLatencyP99Millis(), metrics.getLatencyMaxMillis(),
+                            metrics.getLatencyMeanMillis(), formatErrorClasses(metrics.getErrorClasses())));
+                    writer.newLine();
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("写入请求统计失败: " + DUMP_FILE + " - " + e.getMessage());
+        }
+        return DUMP_FILE.toString();
+    }
+
+    private static String formatErrorClasses(Map<String, Long> errorClasses) {
+        return errorClasses.entrySet().stream()
+                .map(entry -> entry.getKey() + "=" + entry.getValue())
+                .collect(Collectors.joining(";"));
+    }
+
+    /**
+     * 获取某个接口路径（所有请求方法）累计接收的字节数
+     */
+    static long getBytesIn(String path) {
+        long total = 0;
+        for (EndpointMetrics metrics : ENDPOINTS.values()) {
+            String endpoint = metrics.getEndpoint();
+            if (endpoint.endsWith(" " + path)) {
+                total += metrics.getBytesIn();
+            }
+        }
+        return total;
+    }
+
+    /**
+     * ApiClient的整体统计
+     */
+    private static final class ClientStats implements ApiClientMXBean {
+
+        @Override
+        public int getEndpointCount() {
+            return ENDPOINTS.size();
+        }
+
+        @Override
+        public long getTotalRequestCount() {
+            return ENDPOINTS.values().stream().mapToLong(EndpointMetrics::getRequestCount).sum();
+        }
+
+        @Override
+        public long getTotalErrorCount() {
+            return ENDPOINTS.values().stream().mapToLong(EndpointMetrics::getErrorCount).sum();
+        }
+
+        @Override
+        public long getTotalBytesIn() {
+            return ENDPOINTS.values().stream().mapToLong(EndpointMetrics::getBytesIn).sum();
+        }
+
+        @Override
+        public long getTotalBytesOut() {
+            return ENDPOINTS.values().stream().mapToLong(EndpointMetrics::getBytesOut).sum();
+        }
+
+        @Override
+        public String getCacheStats() {
+            return ApiClient.getCacheStats();
+        }
+
+        @Override
+        public String getCoalesceStats() {
+            return ApiClient.getCoalesceStats();
+        }
+
+        @Override
+        public String getCompressionStats() {
+            return ApiClient.getCompressionStats();
+        }
+
+        @Override
+        public String getBodyBufferStats() {
+            return ApiClient.getBodyBufferStats();
+        }
+
+        @Override
+        public String getBackendState() {
+            return ApiClient.getBackendCircuitBreaker().getState().getDisplayName();
+        }
+
+        @Override
+        public String dumpToFile() {
+            return dump();
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.database.gametradefrontend.client;
+
+import com.database.gametradefrontend.config.AppConfig;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 请求体缓冲池 - 固定大小的字节块，请求发送完成后归还复用
+ * 池空时直接分配新块，池满时归还的块交给GC，取用和归还都不会阻塞
+ */
+final class BufferPool {
+    static final int BUFFER_SIZE = Math.max(1024, AppConfig.getApiBodyBufferSize());
+
+    private static final BlockingQueue<byte[]> POOL =
+            new ArrayBlockingQueue<>(Math.max(1, AppConfig.getApiBodyPoolMaxBuffers()));
+
+    private static final AtomicLong allocated = new AtomicLong();
+    private static final AtomicLong reused = new AtomicLong();
+    private static final AtomicLong recycled = new AtomicLong();
+
+    private BufferPool() {
+    }
+
+    /**
+     * 取出一个缓冲区块，池空时新分配
+     */
+    static byte[] take() {
+        byte[] buffer = POOL.poll();
+        if (buffer != null) {
+            reused.incrementAndGet();
+            return buffer;
+        }
+        allocated.incrementAndGet();
+        return new byte[BUFFER_SIZE];
+    }
+
+    /**
+     * 归还缓冲区块，调用方之后不能再使用它
+     */
+    static void recycle(byte[] buffer) {
+        if (buffer.length == BUFFER_SIZE && POOL.offer(buffer)) {
+            recycled.incrementAndGet();
+        }
+    }
+
+    /**
+     * 获取池中当前保留的块数
+     */
+    static int getPooledCount() {
+        return POOL.size();
+    }
+
+    /**
+     * 获取缓冲池统计描述，用于日志输出
+     */
+    static String describe() {
+        long allocatedCount = allocated.get();
+        return String.format("请求体缓冲: 新分配=%d块(%d字节), 复用=%d块, 归还=%d块, 池中=%d块",
+                allocatedCount, allocatedCount * BUFFER_SIZE, reused.get(), recycled.get(), POOL.size());
+    }
+}
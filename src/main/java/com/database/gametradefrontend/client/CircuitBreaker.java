@@ -0,0 +1,163 @@
+package com.database.gametradefrontend.client;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * 熔断器 - 每个后端主机一个
+ * 连续失败达到阈值后进入熔断（OPEN）状态，期间请求直接失败而不再等待超时；
+ * 熔断时间结束后进入半开（HALF_OPEN）状态，只放行一个试探请求，成功则恢复，失败则继续熔断
+ */
+public final class CircuitBreaker {
+
+    /**
+     * 熔断器状态
+     */
+    public enum State {
+        CLOSED("正常"),
+        OPEN("熔断中"),
+        HALF_OPEN("恢复探测中");
+
+        private final String displayName;
+
+        State(String displayName) {
+            this.displayName = displayName;
+        }
+
+        public String getDisplayName() {
+            return displayName;
+        }
+    }
+
+    private final String host;
+    private final int failureThreshold;
+    private final long openMillis;
+    private final List<Consumer<State>> listeners = new CopyOnWriteArrayList<>();
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private boolean trialInFlight;
+
+    CircuitBreaker(String host, int failureThreshold, long openMillis) {
+        this.host = host;
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.openMillis = Math.max(0, openMillis);
+    }
+
+    /**
+     * 申请发送请求
+     * @return 允许发送返回true；熔断中或半开状态已有试探请求时返回false
+     */
+    boolean tryAcquire() {
+        State changed = null;
+        synchronized (this) {
+            if (state == State.OPEN) {
+                if (System.currentTimeMillis() - openedAt < openMillis) {
+                    return false;
+                }
+                state = State.HALF_OPEN;
+                changed = state;
+            } else if (state == State.HALF_OPEN && trialInFlight) {
+                return false;
+            }
+            if (state == State.HALF_OPEN) {
+                trialInFlight = true;
+            }
+        }
+        notifyListeners(changed);
+        return true;
+    }
+
+    /**
+     * 请求成功（包括后端返回的4xx业务错误）
+     */
+    void onSuccess() {
+        State changed = null;
+        synchronized (this) {
+            consecutiveFailures = 0;
+            trialInFlight = false;
+            if (state != State.CLOSED) {
+                state = State.CLOSED;
+                changed = state;
+            }
+        }
+        notifyListeners(changed);
+    }
+
+    /**
+     * 请求因后端不可用而失败
+     */
+    void onFailure() {
+        State changed = null;
+        int failures;
+        synchronized (this) {
+            trialInFlight = false;
+            failures = ++consecutiveFailures;
+            if (state == State.HALF_OPEN || (state == State.CLOSED && consecutiveFailures >= failureThreshold)) {
+                state = State.OPEN;
+                openedAt = System.currentTimeMillis();
+                changed = state;
+            }
+        }
+        if (changed != null) {
+            System.err.println("后端 " + host + " 连续失败 " + failures + " 次，熔断 " + openMillis + "ms");
+        }
+        notifyListeners(changed);
+    }
+
+    /**
+     * 请求被取消，未得出结果：释放半开状态的试探名额
+     */
+    synchronized void onAbandoned() {
+        trialInFlight = false;
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    /**
+     * 获取熔断剩余时间（毫秒），未熔断时返回0
+     */
+    public synchronized long getRemainingOpenMillis() {
+        if (state != State.OPEN) {
+            return 0;
+        }
+        return Math.max(0, openMillis - (System.currentTimeMillis() - openedAt));
+    }
+
+    public String getHost() {
+        return host;
+    }
+
+    /**
+     * 添加状态变化监听器（在状态变化的线程上回调）
+     */
+    public void addListener(Consumer<State> listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(Consumer<State> listener) {
+        listeners.remove(listener);
+    }
+
+    private void notifyListeners(State changed) {
+        if (changed == null) {
+            return;
+        }
+        for (Consumer<State> listener : listeners) {
+            listener.accept(changed);
+        }
+    }
+
+    /**
+     * 熔断期间请求直接失败时抛出的异常（请求没有发出，不带HTTP状态码）
+     */
+    public static class CircuitOpenException extends ApiClient.ApiException {
+        public CircuitOpenException(String host, long remainingMillis) {
+            super("后端服务暂时不可用（" + host + "），请" + Math.max(1, (remainingMillis + 999) / 1000) + "秒后重试", NO_STATUS);
+        }
+    }
+}
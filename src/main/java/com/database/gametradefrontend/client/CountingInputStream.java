@@ -0,0 +1,62 @@
+package com.database.gametradefrontend.client;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 统计读取字节数的输入流，可同时累加到共享的计数器
+ */
+class CountingInputStream extends FilterInputStream {
+    private final LongAdder total;
+    private long count;
+
+    /**
+     * @param in 原始输入流
+     * @param total 共享计数器，不需要时为null
+     */
+    CountingInputStream(InputStream in, LongAdder total) {
+        super(in);
+        this.total = total;
+    }
+
+    @Override
+    public int read() throws IOException {
+        int b = in.read();
+        if (b != -1) {
+            add(1);
+        }
+        return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        int n = in.read(b, off, len);
+        if (n > 0) {
+            add(n);
+        }
+        return n;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        long skipped = in.skip(n);
+        add(skipped);
+        return skipped;
+    }
+
+    private void add(long n) {
+        count += n;
+        if (total != null) {
+            total.add(n);
+        }
+    }
+
+    /**
+     * 获取已读取的字节数
+     */
+    long getCount() {
+        return count;
+    }
+}
@@ -0,0 +1,126 @@
+package com.database.gametradefrontend.client;
+
+import com.database.gametradefrontend.config.AppConfig;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 截止时间 - 一次用户操作内的所有请求、重试和后续请求共享同一个截止时间
+ * 通过 apiClient.withDeadline(deadline) 得到的客户端发出的请求，每次尝试的超时都不会超过剩余时间，
+ * 剩余时间不足以完成一次尝试时直接失败，不再发出请求或等待重试
+ *
+ * <pre>
+ * ApiClient client = apiClient.withDeadline(Deadline.forAction());
+ * RequestBatch batch = client.batch();
+ * </pre>
+ */
+public final class Deadline {
+    // 所有截止时间共用的计时线程；Future提前完成时取消的计时任务立即从队列移除
+    private static final ScheduledThreadPoolExecutor TIMER = createTimer();
+
+    private final long startNanos;
+    private final long deadlineNanos;
+
+    private Deadline(long startNanos, long deadlineNanos) {
+        this.startNanos = startNanos;
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    /**
+     * 创建从现在起指定毫秒数后到期的截止时间
+     */
+    public static Deadline after(long millis) {
+        long now = System.nanoTime();
+        return new Deadline(now, now + TimeUnit.MILLISECONDS.toNanos(Math.max(0, millis)));
+    }
+
+    /**
+     * 创建一次用户操作的截止时间（时限由配置api.timeout.action决定）
+     */
+    public static Deadline forAction() {
+        return after(AppConfig.getApiActionTimeout());
+    }
+
+    /**
+     * 获取剩余毫秒数，已到期时返回0
+     */
+    public long remainingMillis() {
+        return Math.max(0, TimeUnit.NANOSECONDS.toMillis(deadlineNanos - System.nanoTime()));
+    }
+
+    public boolean isExpired() {
+        return deadlineNanos - System.nanoTime() <= 0;
+    }
+
+    /**
+     * 取两个截止时间中较早的一个
+     * @param other 另一个截止时间，可以为null
+     */
+    Deadline earlierOf(Deadline other) {
+        if (other == null || deadlineNanos - other.deadlineNanos <= 0) {
+            return this;
+        }
+        return other;
+    }
+
+    /**
+     * 创建表示已超过截止时间的异常
+     * @param what 未能完成的请求
+     */
+    DeadlineExceededException exceeded(String what) {
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        return new DeadlineExceededException(what, elapsed);
+    }
+
+    private static ScheduledThreadPoolExecutor createTimer() {
+        ScheduledThreadPoolExecutor timer = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = Executors.defaultThreadFactory().newThread(runnable);
+            thread.setName("api-deadline-timer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        timer.setRemoveOnCancelPolicy(true);
+        return timer;
+    }
+
+    /**
+     * 让调用方的Future最迟在截止时间失败
+     * 到期时取消source（进而取消在途请求、关闭响应体），source是独立的副本时不影响其他调用方；
+     * 提前完成时取消计时任务
+     */
+    <T> CompletableFuture<T> bound(CompletableFuture<T> source, String what) {
+        if (source.isDone()) {
+            return source;
+        }
+        CompletableFuture<T> bounded = new CompletableFuture<>();
+        source.whenComplete((value, error) -> {
+            if (error == null) {
+                bounded.complete(value);
+            } else {
+                bounded.completeExceptionally(ApiClient.unwrap(error));
+            }
+        });
+        ScheduledFuture<?> timer = TIMER.schedule(() -> bounded.completeExceptionally(exceeded(what)),
+                remainingMillis(), TimeUnit.MILLISECONDS);
+        bounded.whenComplete((value, error) -> {
+            timer.cancel(false);
+            if (!source.isDone()) {
+                source.cancel(true);
+            }
+        });
+        return bounded;
+    }
+
+    /**
+     * 超过截止时间的异常，请求未发出或不再重试（不带HTTP状态码）
+     */
+    public static class DeadlineExceededException extends ApiClient.ApiException {
+        public DeadlineExceededException(String what, long elapsedMillis) {
+            super("请求超时（" + what + "，已等待" + elapsedMillis + "毫秒），请稍后重试", NO_STATUS);
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.database.gametradefrontend.client;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.http.HttpTimeoutException;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 单个接口的请求统计：请求数、错误数（按类别）、重试数、收发字节数和延迟直方图
+ * 所有计数无锁，可在任意线程上记录
+ */
+final class EndpointMetrics implements EndpointMetricsMXBean {
+    private final String endpoint;
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder bytesIn = new LongAdder();
+    private final LongAdder bytesOut = new LongAdder();
+    private final Map<String, LongAdder> errorClasses = new ConcurrentHashMap<>();
+    private final LatencyHistogram latency = new LatencyHistogram();
+
+    EndpointMetrics(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    /**
+     * 记录一次请求（一次尝试）
+     * @param elapsedNanos 从发出到响应解析完成的时间
+     * @param requestBytes 请求体字节数
+     * @param error 失败原因，成功时为null
+     */
+    void recordAttempt(long elapsedNanos, long requestBytes, Throwable error) {
+        requests.increment();
+        bytesOut.add(Math.max(0, requestBytes));
+        latency.record(TimeUnit.NANOSECONDS.toMicros(elapsedNanos));
+        if (error != null) {
+            recordError(error);
+        }
+    }
+
+    /**
+     * 记录未发出就失败的请求（如熔断）
+     */
+    void recordError(Throwable error) {
+        errors.increment();
+        errorClasses.computeIfAbsent(classify(error), key -> new LongAdder()).increment();
+    }
+
+    void recordRetry() {
+        retries.increment();
+    }
+
+    /**
+     * 接收字节数的计数器，由响应体输入流直接累加
+     */
+    LongAdder bytesInCounter() {
+        return bytesIn;
+    }
+
+    /**
+     * 错误分类：HTTP状态码按百位归类，其余按失败原因归类
+     */
+    static String classify(Throwable error) {
+        if (error instanceof Deadline.DeadlineExceededException) {
+            return "超时";
+        }
+        // 熔断异常也是ApiException（不带状态码），要先于状态码判断
+        if (error instanceof CircuitBreaker.CircuitOpenException) {
+            return "熔断";
+        }
+        if (error instanceof ApiClient.ApiException e) {
+            return "HTTP " + e.getStatusCode() / 100 + "xx";
+        }
+        if (error instanceof HttpTimeoutException) {
+            return "超时";
+        }
+        if (error instanceof ConnectException) {
+            return "连接失败";
+        }
+        if (error instanceof CancellationException) {
+            return "取消";
+        }
+        if (error instanceof IOException) {
+            return "网络错误";
+        }
+        return error.getClass().getSimpleName();
+    }
+
+    @Override
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    @Override
+    public long getRequestCount() {
+        return requests.sum();
+    }
+
+    @Override
+    public long getErrorCount() {
+        return errors.sum();
+    }
+
+    @Override
+    public long getRetryCount() {
+        return retries.sum();
+    }
+
+    @Override
+    public long getBytesIn() {
+        return bytesIn.sum();
+    }
+
+    @Override
+    public long getBytesOut() {
+        return bytesOut.sum();
+    }
+
+    @Override
+    public double getLatencyP50Millis() {
+        return latency.percentile(50) / 1000.0;
+    }
+
+    @Override
+    public double getLatencyP90Millis() {
+        return latency.percentile(90) / 1000.0;
+    }
+
+    @Override
+    public double getLatencyP99Millis() {
+        return latency.percentile(99) / 1000.0;
+    }
+
+    @Override
+    public double getLatencyMaxMillis() {
+        return latency.getMax() / 1000.0;
+    }
+
+    @Override
+    public double getLatencyMeanMillis() {
+        return latency.getMean() / 1000.0;
+    }
+
+    @Override
+    public Map<String, Long> getErrorClasses() {
+        Map<String, Long> result = new TreeMap<>();
+        errorClasses.forEach((name, count) -> result.put(name, count.sum()));
+        return result;
+    }
+}
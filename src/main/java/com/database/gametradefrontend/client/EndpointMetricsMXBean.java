@@ -0,0 +1,42 @@
+package com.database.gametradefrontend.client;
+
+import java.util.Map;
+
+/**
+ * 单个接口的请求统计（通过JMX查看）
+ */
+public interface EndpointMetricsMXBean {
+
+    /**
+     * 接口，如"POST /buyers/orders/pay"
+     */
+    String getEndpoint();
+
+    /**
+     * 发出的请求数（每次重试单独计数）
+     */
+    long getRequestCount();
+
+    long getErrorCount();
+
+    long getRetryCount();
+
+    long getBytesIn();
+
+    long getBytesOut();
+
+    double getLatencyP50Millis();
+
+    double getLatencyP90Millis();
+
+    double getLatencyP99Millis();
+
+    double getLatencyMaxMillis();
+
+    double getLatencyMeanMillis();
+
+    /**
+     * 按错误类别统计的失败数，如"HTTP 5xx"、"超时"
+     */
+    Map<String, Long> getErrorClasses();
+}
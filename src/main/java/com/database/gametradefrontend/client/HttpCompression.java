@@ -0,0 +1,152 @@
+package com.database.gametradefrontend.client;
+
+import com.database.gametradefrontend.config.AppConfig;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * HTTP压缩 - 协商响应压缩（Accept-Encoding: gzip, deflate），并可选压缩较大的请求体
+ * 压缩的响应体边读边解压，直接交给JSON解析器，不在内存中保存完整的压缩数据；
+ * 统计压缩响应的传输字节数和解压后字节数，用于计算节省的流量
+ */
+final class HttpCompression {
+    static final boolean ENABLED = AppConfig.isApiCompressionEnabled();
+    static final String ACCEPT_ENCODING = "gzip, deflate";
+
+    private static final boolean REQUEST_ENABLED = AppConfig.isApiRequestCompressionEnabled();
+    private static final int REQUEST_MIN_BYTES = AppConfig.getApiRequestCompressionMinBytes();
+    private static final int BUFFER_SIZE = 8192;
+
+    private static final AtomicLong compressedResponses = new AtomicLong();
+    private static final AtomicLong responseWireBytes = new AtomicLong();
+    private static final AtomicLong responseDecodedBytes = new AtomicLong();
+    private static final AtomicLong compressedRequests = new AtomicLong();
+    private static final AtomicLong requestBytesSaved = new AtomicLong();
+
+    private HttpCompression() {
+    }
+
+    /**
+     * 按Content-Encoding包装响应体，返回解压后的数据流
+     * @param body 原始响应体
+     * @param encoding Content-Encoding响应头，没有时为null
+     */
+    static InputStream decode(InputStream body, String encoding) throws IOException {
+        if (encoding == null) {
+            return body;
+        }
+        String normalized = encoding.trim().toLowerCase(Locale.ROOT);
+        if (normalized.isEmpty() || "identity".equals(normalized)) {
+            return body;
+        }
+
+        CountingInputStream wire = new CountingInputStream(body, null);
+        PushbackInputStream in = new PushbackInputStream(wire, 2);
+        byte[] head = in.readNBytes(2);
+        if (head.length == 0) {
+            // 空响应体（如204）没有压缩头
+            return in;
+        }
+        in.unread(head);
+
+        InputStream decoded = switch (normalized) {
+            case "gzip", "x-gzip" -> new GZIPInputStream(in, BUFFER_SIZE);
+            case "deflate" -> inflate(in, isZlibHeader(head));
+            default -> throw new IOException("不支持的响应编码: " + encoding);
+        };
+        return new CountingInputStream(decoded, null) {
+            private boolean closed;
+
+            @Override
+            public void close() throws IOException {
+                // Jackson解析完成和调用方try-with-resources都会关闭，只统计一次
+                if (closed) {
+                    return;
+                }
+                closed = true;
+                try {
+                    super.close();
+                } finally {
+                    compressedResponses.incrementAndGet();
+                    responseWireBytes.addAndGet(wire.getCount());
+                    responseDecodedBytes.addAndGet(getCount());
+                }
+            }
+        };
+    }
+
+    /**
+     * deflate按规范是zlib格式，但部分服务器发送不带zlib头的原始deflate数据，按前两个字节区分
+     */
+    private static boolean isZlibHeader(byte[] head) {
+        if (head.length < 2) {
+            return false;
+        }
+        int cmf = head[0] & 0xFF;
+        int flg = head[1] & 0xFF;
+        return (cmf & 0x0F) == 8 && ((cmf << 8) | flg) % 31 == 0;
+    }
+
+    private static InputStream inflate(InputStream in, boolean zlib) {
+        Inflater inflater = new Inflater(!zlib);
+        return new InflaterInputStream(in, inflater, BUFFER_SIZE) {
+            @Override
+            public void close() throws IOException {
+                try {
+                    super.close();
+                } finally {
+                    // 自行创建的Inflater不会随流关闭释放本地内存
+                    inflater.end();
+                }
+            }
+        };
+    }
+
+    /**
+     * 判断请求体是否需要压缩（需服务器支持Content-Encoding: gzip的请求，默认关闭）
+     */
+    static boolean shouldCompressRequest(PooledBody body) {
+        return REQUEST_ENABLED && body != null && body.length() >= REQUEST_MIN_BYTES;
+    }
+
+    /**
+     * gzip压缩请求体，压缩结果同样写入池化的字节块
+     */
+    static PooledBody gzip(PooledBody body) throws IOException {
+        PooledBody.Output buffer = PooledBody.newOutput();
+        try (GZIPOutputStream out = new GZIPOutputStream(buffer, BUFFER_SIZE)) {
+            body.writeTo(out);
+        }
+        PooledBody compressed = buffer.toBody();
+        compressedRequests.incrementAndGet();
+        requestBytesSaved.addAndGet(body.length() - compressed.length());
+        return compressed;
+    }
+
+    /**
+     * 获取压缩响应节省的字节数
+     */
+    static long getResponseBytesSaved() {
+        return responseDecodedBytes.get() - responseWireBytes.get();
+    }
+
+    /**
+     * 获取压缩统计描述，用于日志输出
+     */
+    static String describe() {
+        long wireBytes = responseWireBytes.get();
+        long decodedBytes = responseDecodedBytes.get();
+        double ratio = wireBytes == 0 ? 0 : (double) decodedBytes / wireBytes;
+        return String.format("压缩响应=%d, 传输=%d字节, 解压后=%d字节, 压缩比=%.1f, 节省=%d字节; 压缩请求=%d, 节省=%d字节",
+                compressedResponses.get(), wireBytes, decodedBytes, ratio, decodedBytes - wireBytes,
+                compressedRequests.get(), requestBytesSaved.get());
+    }
+}
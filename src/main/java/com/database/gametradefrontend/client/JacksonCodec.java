@@ -0,0 +1,59 @@
+package com.database.gametradefrontend.client;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 基于Jackson的编解码器，数据格式由ObjectMapper的JsonFactory决定（JSON、Smile、CBOR等）
+ * 按目标类型缓存ObjectReader，根反序列化器只在第一次使用（或预热）时构建，之后的解码直接复用
+ */
+public final class JacksonCodec implements WireCodec {
+    private final ObjectMapper mapper;
+    private final String mediaType;
+    private final Map<JavaType, ObjectReader> readers = new ConcurrentHashMap<>();
+
+    public JacksonCodec(ObjectMapper mapper, String mediaType) {
+        this.mapper = mapper;
+        this.mediaType = mediaType;
+        // 后端返回的字段比模型多时忽略多余字段，避免接口扩展导致解析失败
+        mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    }
+
+    @Override
+    public String mediaType() {
+        return mediaType;
+    }
+
+    @Override
+    public <T> T decode(InputStream body, JavaType type) throws IOException {
+        return readerFor(type).readValue(body);
+    }
+
+    /**
+     * 获取类型对应的ObjectReader（创建时即构建好根反序列化器）
+     */
+    ObjectReader readerFor(JavaType type) {
+        return readers.computeIfAbsent(type, mapper::readerFor);
+    }
+
+    /**
+     * 预先构建类型的反序列化器，首次解码不再承担构建开销
+     */
+    public void warmUp(JavaType type) {
+        readerFor(type);
+    }
+
+    /**
+     * 获取底层的ObjectMapper（请求体序列化、类型构造等）
+     */
+    public ObjectMapper mapper() {
+        return mapper;
+    }
+}
@@ -0,0 +1,235 @@
+package com.database.gametradefrontend.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.http.HttpRequest;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 池化的请求体 - 请求对象由Jackson直接序列化到缓冲池的字节块中，发送时把这些块依次交给连接，
+ * 不再经过"序列化为String - 编码为byte[] - 再复制给连接"的两次完整复制
+ * 长度在发送前已知，按固定长度（Content-Length）发送；重试时重新订阅同一组字节块
+ *
+ * 引用计数：创建者持有一个引用，每个使用者retain后在结束时release；
+ * 计数归零且所有使用者都确认数据已不再被连接读取时，字节块才归还缓冲池，否则交给GC
+ */
+final class PooledBody {
+    private final List<byte[]> chunks;
+    private final long length;
+    private final AtomicInteger refs = new AtomicInteger(1);
+    private volatile boolean recyclable = true;
+
+    private PooledBody(List<byte[]> chunks, long length) {
+        this.chunks = chunks;
+        this.length = length;
+    }
+
+    /**
+     * 把对象序列化为JSON请求体
+     */
+    static PooledBody encode(ObjectMapper mapper, Object value) throws IOException {
+        Output out = new Output();
+        mapper.writeValue(out, value);
+        return out.toBody();
+    }
+
+    /**
+     * 创建写入池化字节块的输出流（如gzip压缩后的请求体）
+     */
+    static Output newOutput() {
+        return new Output();
+    }
+
+    long length() {
+        return length;
+    }
+
+    /**
+     * 把全部内容写入输出流
+     */
+    void writeTo(OutputStream out) throws IOException {
+        for (int i = 0; i < chunks.size(); i++) {
+            out.write(chunks.get(i), 0, chunkLength(i));
+        }
+    }
+
+    /**
+     * 按UTF-8解码为字符串（只用于缓存键、合并键等需要比较请求体的场景）
+     */
+    String asString() {
+        byte[] bytes = new byte[Math.toIntExact(length)];
+        for (int i = 0; i < chunks.size(); i++) {
+            System.arraycopy(chunks.get(i), 0, bytes, i * BufferPool.BUFFER_SIZE, chunkLength(i));
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private int chunkLength(int index) {
+        return (int) Math.min(BufferPool.BUFFER_SIZE, length - (long) index * BufferPool.BUFFER_SIZE);
+    }
+
+    /**
+     * 增加一个使用者
+     * @return 本对象，便于链式调用
+     */
+    PooledBody retain() {
+        refs.incrementAndGet();
+        return this;
+    }
+
+    /**
+     * 使用者结束使用
+     * @param dataReleased 连接是否确定不会再读取这些字节（请求已收到响应）；
+     *                     取消或超时时连接可能仍在写出，字节块不能复用
+     */
+    void release(boolean dataReleased) {
+        if (!dataReleased) {
+            recyclable = false;
+        }
+        if (refs.decrementAndGet() == 0 && recyclable) {
+            for (byte[] chunk : chunks) {
+                BufferPool.recycle(chunk);
+            }
+        }
+    }
+
+    /**
+     * 创建固定长度的请求体发布器，每次订阅（包括重试）都从头依次发送各字节块
+     */
+    HttpRequest.BodyPublisher publisher() {
+        return new HttpRequest.BodyPublisher() {
+            @Override
+            public long contentLength() {
+                return length;
+            }
+
+            @Override
+            public void subscribe(Flow.Subscriber<? super ByteBuffer> subscriber) {
+                subscriber.onSubscribe(new ChunkSubscription(subscriber));
+            }
+        };
+    }
+
+    /**
+     * 按订阅者的请求量依次发送字节块，onNext中再次request时不会递归发送
+     */
+    private final class ChunkSubscription implements Flow.Subscription {
+        private final Flow.Subscriber<? super ByteBuffer> subscriber;
+        private int next;
+        private long demand;
+        private boolean emitting;
+        private boolean done;
+
+        ChunkSubscription(Flow.Subscriber<? super ByteBuffer> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            synchronized (this) {
+                if (done) {
+                    return;
+                }
+                if (n <= 0) {
+                    done = true;
+                } else {
+                    demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+                    if (emitting) {
+                        return;
+                    }
+                    emitting = true;
+                }
+            }
+            if (n <= 0) {
+                subscriber.onError(new IllegalArgumentException("请求数量必须大于0: " + n));
+                return;
+            }
+
+            while (true) {
+                ByteBuffer buffer;
+                synchronized (this) {
+                    if (done) {
+                        emitting = false;
+                        return;
+                    }
+                    if (next == chunks.size()) {
+                        done = true;
+                        emitting = false;
+                        buffer = null;
+                    } else if (demand == 0) {
+                        emitting = false;
+                        return;
+                    } else {
+                        demand--;
+                        buffer = ByteBuffer.wrap(chunks.get(next), 0, chunkLength(next));
+                        next++;
+                    }
+                }
+                if (buffer == null) {
+                    subscriber.onComplete();
+                    return;
+                }
+                subscriber.onNext(buffer);
+            }
+        }
+
+        @Override
+        public synchronized void cancel() {
+            done = true;
+        }
+    }
+
+    /**
+     * 写入池化字节块的输出流，块写满时从缓冲池取下一块
+     */
+    static final class Output extends OutputStream {
+        private final List<byte[]> chunks = new ArrayList<>();
+        private byte[] current;
+        private int position;
+        private long length;
+
+        @Override
+        public void write(int b) {
+            if (current == null || position == current.length) {
+                nextChunk();
+            }
+            current[position++] = (byte) b;
+            length++;
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int count) {
+            while (count > 0) {
+                if (current == null || position == current.length) {
+                    nextChunk();
+                }
+                int n = Math.min(count, current.length - position);
+                System.arraycopy(bytes, offset, current, position, n);
+                position += n;
+                offset += n;
+                count -= n;
+                length += n;
+            }
+        }
+
+        private void nextChunk() {
+            current = BufferPool.take();
+            position = 0;
+            chunks.add(current);
+        }
+
+        /**
+         * 结束写入，得到请求体（创建者持有一个引用）
+         */
+        PooledBody toBody() {
+            return new PooledBody(chunks, length);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.database.gametradefrontend.client;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * 批量请求 - 把一个界面加载时需要的多个请求收集起来一起发出
+ * 后端没有组合接口，调用send()时所有请求同时发出（HTTP/2下作为并行流复用同一连接，否则使用连接池中的多个连接），
+ * 整批完成只需一个往返时间；返回的单个Future在所有请求都结束（成功或失败）后完成，界面可一次性渲染
+ *
+ * <pre>
+ * RequestBatch batch = apiClient.batch();
+ * CompletableFuture&lt;List&lt;VendorGame&gt;&gt; games = batch.post("/vendors/query-vendor-games", body, VendorGame.LIST_TYPE);
+ * CompletableFuture&lt;Map&gt; info = batch.get("/vendors/personal-info?account=...", Map.class);
+ * batch.send().thenRun(() -&gt; ...);
+ * </pre>
+ */
+public class RequestBatch {
+
+    /**
+     * 尚未发出的请求
+     */
+    private record Pending<T>(Supplier<CompletableFuture<T>> request, CompletableFuture<T> result) {
+        CompletableFuture<T> start() {
+            CompletableFuture<T> source;
+            try {
+                source = request.get();
+            } catch (RuntimeException e) {
+                source = CompletableFuture.failedFuture(e);
+            }
+            CompletableFuture<T> started = source;
+            started.whenComplete((value, error) -> {
+                if (error == null) {
+                    result.complete(value);
+                } else {
+                    result.completeExceptionally(ApiClient.unwrap(error));
+                }
+            });
+            // 单个请求的结果被取消时同时取消网络请求
+            result.whenComplete((value, error) -> {
+                if (result.isCancelled()) {
+                    started.cancel(true);
+                }
+            });
+            return started;
+        }
+    }
+
+    private final ApiClient apiClient;
+    private final List<Pending<?>> pending = new ArrayList<>();
+    private boolean sent;
+
+    RequestBatch(ApiClient apiClient) {
+        this.apiClient = apiClient;
+    }
+
+    /**
+     * 加入GET请求
+     * @return 该请求的结果，send()之后才会完成
+     */
+    public <T> CompletableFuture<T> get(String endpoint, Class<T> responseType) {
+        return add(() -> apiClient.getAsync(endpoint, responseType));
+    }
+
+    public <T> CompletableFuture<T> get(String endpoint, TypeReference<T> responseType) {
+        return add(() -> apiClient.getAsync(endpoint, responseType));
+    }
+
+    /**
+     * 加入POST请求
+     * @return 该请求的结果，send()之后才会完成
+     */
+    public <T> CompletableFuture<T> post(String endpoint, Object requestBody, Class<T> responseType) {
+        return add(() -> apiClient.postAsync(endpoint, requestBody, responseType));
+    }
+
+    public <T> CompletableFuture<T> post(String endpoint, Object requestBody, TypeReference<T> responseType) {
+        return add(() -> apiClient.postAsync(endpoint, requestBody, responseType));
+    }
+
+    private synchronized <T> CompletableFuture<T> add(Supplier<CompletableFuture<T>> request) {
+        if (sent) {
+            throw new IllegalStateException("批量请求已发送，不能再添加请求");
+        }
+        CompletableFuture<T> result = new CompletableFuture<>();
+        pending.add(new Pending<>(request, result));
+        return result;
+    }
+
+    /**
+     * 同时发出批内所有请求
+     * 返回的Future在所有请求结束后完成，单个请求失败不会使其失败，各请求的结果和异常从各自的Future获取；
+     * 取消返回的Future会取消批内所有未完成的请求
+     * @return 整批完成的Future
+     */
+    public CompletableFuture<Void> send() {
+        List<Pending<?>> toSend;
+        synchronized (this) {
+            if (sent) {
+                throw new IllegalStateException("批量请求已发送");
+            }
+            sent = true;
+            toSend = List.copyOf(pending);
+            pending.clear();
+        }
+
+        CompletableFuture<?>[] results = new CompletableFuture<?>[toSend.size()];
+        for (int i = 0; i < toSend.size(); i++) {
+            Pending<?> request = toSend.get(i);
+            request.start();
+            // 单个请求失败不影响整批完成
+            results[i] = request.result().handle((value, error) -> null);
+        }
+
+        CompletableFuture<Void> all = CompletableFuture.allOf(results);
+        all.whenComplete((value, error) -> {
+            if (all.isCancelled()) {
+                for (Pending<?> request : toSend) {
+                    request.result().cancel(true);
+                }
+            }
+        });
+        return all;
+    }
+
+    /**
+     * 获取批内请求数
+     */
+    public synchronized int size() {
+        return pending.size();
+    }
+}
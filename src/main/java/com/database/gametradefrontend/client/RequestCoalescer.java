@@ -0,0 +1,128 @@
+package com.database.gametradefrontend.client;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 请求合并（single-flight）- 所有ApiClient实例共享
+ * 同一时刻完全相同的请求只发送一次，后到的调用方直接等待第一个请求的结果；
+ * 单个调用方取消不会影响其他调用方，只有所有调用方都取消后才会取消底层请求
+ */
+class RequestCoalescer {
+
+    /**
+     * 一次在途请求及其等待者
+     */
+    private static final class Flight<T> {
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+        private volatile CompletableFuture<T> source;
+        private int subscribers;
+    }
+
+    private final Map<String, Flight<?>> flights = new HashMap<>();
+
+    private final AtomicLong started = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+
+    /**
+     * 执行请求，已有相同请求在途时直接共享其结果
+     * @param key 请求键（方法、接口地址、请求体、响应类型）
+     * @param request 真正发送请求的函数，只有第一个调用方会执行
+     * @return 本调用方独立的Future，取消它只会让本调用方退出等待
+     */
+    @SuppressWarnings("unchecked")
+    <T> CompletableFuture<T> execute(String key, Supplier<CompletableFuture<T>> request) {
+        Flight<T> flight;
+        boolean leader;
+        synchronized (this) {
+            flight = (Flight<T>) flights.get(key);
+            leader = flight == null;
+            if (leader) {
+                flight = new Flight<>();
+                flights.put(key, flight);
+                started.incrementAndGet();
+            } else {
+                coalesced.incrementAndGet();
+            }
+            flight.subscribers++;
+        }
+
+        if (leader) {
+            start(key, flight, request);
+        }
+
+        Flight<T> joined = flight;
+        CompletableFuture<T> caller = joined.result.copy();
+        caller.whenComplete((value, error) -> {
+            if (caller.isCancelled()) {
+                leave(key, joined);
+            }
+        });
+        return caller;
+    }
+
+    private <T> void start(String key, Flight<T> flight, Supplier<CompletableFuture<T>> request) {
+        CompletableFuture<T> source;
+        try {
+            source = request.get();
+        } catch (RuntimeException e) {
+            source = CompletableFuture.failedFuture(e);
+        }
+        flight.source = source;
+
+        source.whenComplete((value, error) -> {
+            synchronized (this) {
+                flights.remove(key, flight);
+            }
+            if (error == null) {
+                flight.result.complete(value);
+            } else {
+                flight.result.completeExceptionally(ApiClient.unwrap(error));
+            }
+        });
+
+        // 所有调用方在请求发出前就已经取消
+        if (flight.result.isCancelled()) {
+            source.cancel(true);
+        }
+    }
+
+    /**
+     * 调用方取消等待，最后一个调用方离开时取消底层请求
+     */
+    private <T> void leave(String key, Flight<T> flight) {
+        synchronized (this) {
+            if (--flight.subscribers > 0) {
+                return;
+            }
+            flights.remove(key, flight);
+        }
+        flight.result.cancel(true);
+        CompletableFuture<T> source = flight.source;
+        if (source != null) {
+            source.cancel(true);
+        }
+    }
+
+    /**
+     * 获取实际发出的请求数
+     */
+    long getStartedCount() {
+        return started.get();
+    }
+
+    /**
+     * 获取被合并（未实际发出）的请求数
+     */
+    long getCoalescedCount() {
+        return coalesced.get();
+    }
+
+    synchronized String describe() {
+        return String.format("请求合并: 在途=%d, 实际发出=%d, 合并=%d",
+                flights.size(), started.get(), coalesced.get());
+    }
+}
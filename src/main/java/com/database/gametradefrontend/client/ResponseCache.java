@@ -0,0 +1,244 @@
+package com.database.gametradefrontend.client;
+
+import com.database.gametradefrontend.config.AppConfig;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * API响应缓存 - 所有ApiClient实例共享
+ * 只缓存配置了TTL的接口，保存的是原始响应字节，每次命中都重新解码，调用方拿到的对象互不共享；
+ * 过期后如果后端返回过ETag/Last-Modified，则发送条件请求重新验证；
+ * 总大小超过上限时按最近最少使用（LRU）淘汰；变更接口调用成功后按配置的规则失效相关缓存
+ */
+class ResponseCache {
+    private static final String TTL_PREFIX = "api.cache.ttl.";
+    private static final String INVALIDATE_PREFIX = "api.cache.invalidate.";
+
+    /**
+     * 缓存条目
+     */
+    static final class Entry {
+        private final String path;
+        private final byte[] body;
+        private final String contentType;
+        private final String etag;
+        private final String lastModified;
+        private final long ttl;
+        private volatile long expiresAt;
+
+        Entry(String path, byte[] body, String contentType, String etag, String lastModified, long ttl) {
+            this.path = path;
+            this.body = body;
+            this.contentType = contentType;
+            this.etag = etag;
+            this.lastModified = lastModified;
+            this.ttl = ttl;
+            this.expiresAt = System.currentTimeMillis() + ttl;
+        }
+
+        byte[] body() { return body; }
+        String contentType() { return contentType; }
+        String etag() { return etag; }
+        String lastModified() { return lastModified; }
+
+        boolean isFresh() {
+            return System.currentTimeMillis() < expiresAt;
+        }
+
+        /**
+         * 是否可以通过条件请求重新验证
+         */
+        boolean isRevalidatable() {
+            return etag != null || lastModified != null;
+        }
+    }
+
+    private final boolean enabled;
+    private final long maxBytes;
+    private final Map<String, Long> ttlRules = new HashMap<>();
+    private final Map<String, List<String>> invalidationRules = new HashMap<>();
+
+    // accessOrder=true 使迭代顺序为最近访问顺序，便于LRU淘汰
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private long totalBytes;
+    // 每次失效递增，用于丢弃失效之前发出、失效之后才返回的查询结果
+    private long generation;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong revalidations = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    ResponseCache() {
+        this.enabled = AppConfig.isApiCacheEnabled();
+        this.maxBytes = AppConfig.getApiCacheMaxBytes();
+
+        // api.cache.ttl.get./buyers/orders=15000 -> "GET /buyers/orders" : 15000
+        for (Map.Entry<String, String> rule : AppConfig.getPropertiesWithPrefix(TTL_PREFIX).entrySet()) {
+            int dot = rule.getKey().indexOf('.');
+            if (dot <= 0) {
+                System.err.println("无效的缓存TTL配置: " + TTL_PREFIX + rule.getKey());
+                continue;
+            }
+            try {
+                String method = rule.getKey().substring(0, dot).toUpperCase(Locale.ROOT);
+                ttlRules.put(method + " " + rule.getKey().substring(dot + 1), Long.parseLong(rule.getValue()));
+            } catch (NumberFormatException e) {
+                System.err.println("无效的缓存TTL配置: " + TTL_PREFIX + rule.getKey() + "=" + rule.getValue());
+            }
+        }
+
+        for (Map.Entry<String, String> rule : AppConfig.getPropertiesWithPrefix(INVALIDATE_PREFIX).entrySet()) {
+            List<String> prefixes = new ArrayList<>();
+            for (String prefix : rule.getValue().split(",")) {
+                if (!prefix.isBlank()) {
+                    prefixes.add(prefix.trim());
+                }
+            }
+            invalidationRules.put(rule.getKey(), prefixes);
+        }
+    }
+
+    /**
+     * 生成缓存键：方法 + 完整接口地址（含查询参数）+ 请求体
+     */
+    static String key(String method, String endpoint, String requestBody) {
+        if (requestBody == null) {
+            return method + " " + endpoint;
+        }
+        return method + " " + endpoint + "\n" + requestBody;
+    }
+
+    /**
+     * 获取接口的缓存时间，未配置或未启用时返回0
+     * 只有GET和显式配置的POST查询接口才会缓存
+     */
+    long ttlFor(String method, String path) {
+        if (!enabled || !("GET".equals(method) || "POST".equals(method))) {
+            return 0;
+        }
+        return ttlRules.getOrDefault(method + " " + path, 0L);
+    }
+
+    synchronized long generation() {
+        return generation;
+    }
+
+    synchronized Entry get(String key) {
+        return entries.get(key);
+    }
+
+    void recordHit() {
+        hits.incrementAndGet();
+    }
+
+    void recordMiss() {
+        misses.incrementAndGet();
+    }
+
+    /**
+     * 保存响应，超出大小上限时淘汰最久未使用的条目
+     * @param requestGeneration 请求发出时的失效代数，期间发生过失效则不保存
+     */
+    synchronized void put(String key, String path, byte[] body, String contentType, String etag, String lastModified,
+                          long ttl, long requestGeneration) {
+        if (body.length > maxBytes || requestGeneration != generation) {
+            return;
+        }
+        Entry previous = entries.put(key, new Entry(path, body, contentType, etag, lastModified, ttl));
+        if (previous != null) {
+            totalBytes -= previous.body.length;
+        }
+        totalBytes += body.length;
+
+        Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet().iterator();
+        while (totalBytes > maxBytes && iterator.hasNext()) {
+            Map.Entry<String, Entry> eldest = iterator.next();
+            if (eldest.getKey().equals(key)) {
+                continue;
+            }
+            totalBytes -= eldest.getValue().body.length;
+            iterator.remove();
+            evictions.incrementAndGet();
+        }
+    }
+
+    /**
+     * 后端返回304时延长条目有效期
+     * @return 仍在缓存中的条目，已被淘汰时返回null
+     */
+    synchronized Entry revalidated(String key) {
+        Entry entry = entries.get(key);
+        if (entry != null) {
+            entry.expiresAt = System.currentTimeMillis() + entry.ttl;
+            revalidations.incrementAndGet();
+        }
+        return entry;
+    }
+
+    /**
+     * 变更接口调用成功后，按配置失效相关缓存
+     */
+    void onMutation(String path) {
+        List<String> prefixes = invalidationRules.get(path);
+        if (prefixes != null) {
+            for (String prefix : prefixes) {
+                invalidate(prefix);
+            }
+        }
+    }
+
+    /**
+     * 失效路径以指定前缀开头的所有缓存
+     */
+    synchronized void invalidate(String pathPrefix) {
+        generation++;
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            Entry entry = iterator.next();
+            if (entry.path.startsWith(pathPrefix)) {
+                totalBytes -= entry.body.length;
+                iterator.remove();
+                invalidations.incrementAndGet();
+            }
+        }
+    }
+
+    synchronized void clear() {
+        generation++;
+        entries.clear();
+        totalBytes = 0;
+    }
+
+    long getHitCount() {
+        return hits.get();
+    }
+
+    long getMissCount() {
+        return misses.get();
+    }
+
+    long getRevalidationCount() {
+        return revalidations.get();
+    }
+
+    long getEvictionCount() {
+        return evictions.get();
+    }
+
+    synchronized String describe() {
+        long total = hits.get() + misses.get();
+        double hitRate = total == 0 ? 0 : hits.get() * 100.0 / total;
+        return String.format("响应缓存: 条目=%d, 大小=%d/%d字节, 命中=%d, 未命中=%d (命中率%.1f%%), 304重验证=%d, LRU淘汰=%d, 失效=%d",
+                entries.size(), totalBytes, maxBytes, hits.get(), misses.get(), hitRate,
+                revalidations.get(), evictions.get(), invalidations.get());
+    }
+}
@@ -0,0 +1,103 @@
+package com.database.gametradefrontend.client;
+
+import com.database.gametradefrontend.config.AppConfig;
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 请求重试策略
+ * 只重试幂等请求（GET/DELETE）和显式标记为安全的POST查询接口、PUT接口，
+ * 只在网络IO错误和可重试的状态码（如408/429/502/503/504）时重试，
+ * 重试间隔按指数退避并加入随机抖动，避免多个客户端同时重试
+ */
+class RetryPolicy {
+    private static final Set<String> IDEMPOTENT_METHODS = Set.of("GET", "HEAD", "OPTIONS", "DELETE");
+
+    private final int maxAttempts;
+    private final long baseDelay;
+    private final long maxDelay;
+    private final Set<Integer> retryableStatuses;
+    private final Set<String> safePostPaths;
+    private final Set<String> safePutPaths;
+
+    RetryPolicy() {
+        this.maxAttempts = Math.max(1, AppConfig.getApiMaxRetryAttempts());
+        this.baseDelay = Math.max(0, AppConfig.getApiRetryDelay());
+        this.maxDelay = Math.max(baseDelay, AppConfig.getApiRetryMaxDelay());
+        this.retryableStatuses = Set.copyOf(AppConfig.getApiRetryStatuses());
+        this.safePostPaths = Set.copyOf(AppConfig.getApiRetrySafePostEndpoints());
+        this.safePutPaths = Set.copyOf(AppConfig.getApiRetrySafePutEndpoints());
+    }
+
+    /**
+     * 判断请求方法和接口是否允许重试
+     * 非幂等的POST（如下单、创建游戏）重试可能造成重复提交，默认不重试；
+     * 后端的PUT也有非幂等的操作（如支付、取消订单），同样只重试显式列出的接口
+     */
+    boolean isRetryable(String method, String path) {
+        return IDEMPOTENT_METHODS.contains(method)
+                || ("POST".equals(method) && safePostPaths.contains(path))
+                || ("PUT".equals(method) && safePutPaths.contains(path));
+    }
+
+    /**
+     * 判断失败原因是否值得重试：网络IO错误或可重试的HTTP状态码
+     * 4xx参数错误、响应解析失败等重试也不会成功，直接返回；熔断和超过截止时间是本地产生的失败，也不重试
+     */
+    boolean isRetryableFailure(Throwable error) {
+        if (isLocalFailure(error)) {
+            return false;
+        }
+        if (error instanceof ApiClient.ApiException apiException) {
+            return retryableStatuses.contains(apiException.getStatusCode());
+        }
+        if (error instanceof UncheckedIOException uncheckedIOException) {
+            error = uncheckedIOException.getCause();
+        }
+        return error instanceof IOException && !(error instanceof JsonProcessingException);
+    }
+
+    /**
+     * 判断失败是否说明后端不可用（用于熔断统计）
+     * 4xx是后端正常处理后的业务错误，不计入；本地产生的失败没有到达后端，也不计入
+     */
+    boolean isServerFailure(Throwable error) {
+        if (isLocalFailure(error)) {
+            return false;
+        }
+        if (error instanceof ApiClient.ApiException apiException) {
+            return apiException.getStatusCode() >= 500 || retryableStatuses.contains(apiException.getStatusCode());
+        }
+        return isRetryableFailure(error);
+    }
+
+    private static boolean isLocalFailure(Throwable error) {
+        return error instanceof CircuitBreaker.CircuitOpenException
+                || error instanceof Deadline.DeadlineExceededException;
+    }
+
+    /**
+     * 判断是否还可以进行下一次尝试
+     * @param attempt 已完成的尝试次数（从1开始）
+     */
+    boolean hasAttemptsLeft(int attempt) {
+        return attempt < maxAttempts;
+    }
+
+    /**
+     * 计算第attempt次失败后的等待时间："全抖动"指数退避，在[0, min(最大间隔, 基础间隔×2^(attempt-1))]内随机
+     * @param attempt 已完成的尝试次数（从1开始）
+     * @return 等待毫秒数
+     */
+    long backoffDelay(int attempt) {
+        long ceiling = baseDelay << Math.min(attempt - 1, 20);
+        if (ceiling <= 0 || ceiling > maxDelay) {
+            ceiling = maxDelay;
+        }
+        return ceiling == 0 ? 0 : ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+}
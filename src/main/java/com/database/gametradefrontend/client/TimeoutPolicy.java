@@ -0,0 +1,80 @@
+package com.database.gametradefrontend.client;
+
+import com.database.gametradefrontend.config.AppConfig;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 超时策略 - 按接口选择超时档位
+ * 每个档位包含每次尝试的读超时（read）和一次调用含所有重试的总时限（total），
+ * 便宜的查询（如个人信息）快速失败，耗时的报表（如销售数据）有足够的时间
+ */
+class TimeoutPolicy {
+    private static final String PROFILE_PREFIX = "api.timeout.profile.";
+    private static final String ENDPOINT_PREFIX = "api.timeout.endpoint.";
+
+    /**
+     * 超时档位
+     */
+    record Profile(String name, long readMillis, long totalMillis) {
+    }
+
+    private final Profile defaultProfile;
+    private final Map<String, Profile> endpointProfiles = new HashMap<>();
+    private final long minAttemptMillis;
+
+    TimeoutPolicy() {
+        this.defaultProfile = new Profile("default", AppConfig.getApiReadTimeout(),
+                Math.max(AppConfig.getApiReadTimeout(), AppConfig.getApiTotalTimeout()));
+        this.minAttemptMillis = Math.max(0, AppConfig.getApiMinAttemptMillis());
+
+        // api.timeout.profile.report.read=20000 -> report档位的读超时
+        Map<String, Profile> profiles = new HashMap<>();
+        for (Map.Entry<String, String> rule : AppConfig.getPropertiesWithPrefix(PROFILE_PREFIX).entrySet()) {
+            int dot = rule.getKey().lastIndexOf('.');
+            try {
+                String name = rule.getKey().substring(0, dot);
+                String field = rule.getKey().substring(dot + 1);
+                long millis = Long.parseLong(rule.getValue());
+                Profile profile = profiles.getOrDefault(name, new Profile(name, defaultProfile.readMillis(), 0));
+                if ("read".equals(field)) {
+                    profiles.put(name, new Profile(name, millis, profile.totalMillis()));
+                } else if ("total".equals(field)) {
+                    profiles.put(name, new Profile(name, profile.readMillis(), millis));
+                } else {
+                    System.err.println("无效的超时档位配置: " + PROFILE_PREFIX + rule.getKey());
+                }
+            } catch (RuntimeException e) {
+                System.err.println("无效的超时档位配置: " + PROFILE_PREFIX + rule.getKey() + "=" + rule.getValue());
+            }
+        }
+
+        // api.timeout.endpoint./vendors/query-game-sales=report
+        for (Map.Entry<String, String> rule : AppConfig.getPropertiesWithPrefix(ENDPOINT_PREFIX).entrySet()) {
+            Profile profile = profiles.get(rule.getValue());
+            if (profile == null) {
+                System.err.println("未定义的超时档位: " + ENDPOINT_PREFIX + rule.getKey() + "=" + rule.getValue());
+                continue;
+            }
+            // 未配置总时限的档位至少允许一次完整的尝试
+            endpointProfiles.put(rule.getKey(), new Profile(profile.name(), profile.readMillis(),
+                    Math.max(profile.readMillis(), profile.totalMillis())));
+        }
+    }
+
+    /**
+     * 获取接口的超时档位
+     * @param path 接口路径（不含查询参数）
+     */
+    Profile profileFor(String path) {
+        return endpointProfiles.getOrDefault(path, defaultProfile);
+    }
+
+    /**
+     * 获取发出一次尝试所需的最少剩余时间（毫秒）
+     */
+    long getMinAttemptMillis() {
+        return minAttemptMillis;
+    }
+}
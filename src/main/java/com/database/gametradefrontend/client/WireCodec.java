@@ -0,0 +1,27 @@
+package com.database.gametradefrontend.client;
+
+import com.fasterxml.jackson.databind.JavaType;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 响应编解码器 - ApiClient按响应的Content-Type选择编解码器，把响应体解码为目标类型
+ * 默认只有JSON；二进制JSON格式（如Smile、CBOR）可基于对应的Jackson数据格式模块注册，例如
+ * WireCodecs.register(new JacksonCodec(new ObjectMapper(new SmileFactory()), "application/x-jackson-smile"))
+ */
+public interface WireCodec {
+
+    /**
+     * 编解码器对应的媒体类型，如"application/json"
+     */
+    String mediaType();
+
+    /**
+     * 解码响应体
+     * @param body 响应体（已解压）
+     * @param type 目标类型
+     * @return 解码结果
+     */
+    <T> T decode(InputStream body, JavaType type) throws IOException;
+}
@@ -0,0 +1,94 @@
+package com.database.gametradefrontend.client;
+
+import com.database.gametradefrontend.config.AppConfig;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 编解码器注册表 - 所有ApiClient实例共享同一个JSON编解码器（只注册一次Jackson模块）
+ * 配置为可协商的大列表接口，在注册了二进制编解码器时通过Accept头优先请求二进制格式，
+ * 服务器不支持时仍按JSON返回，解码时按响应的Content-Type选择编解码器
+ */
+public final class WireCodecs {
+    public static final String JSON_MEDIA_TYPE = "application/json";
+
+    /**
+     * 共享的JSON编解码器
+     */
+    public static final JacksonCodec JSON = new JacksonCodec(createJsonMapper(), JSON_MEDIA_TYPE);
+
+    private static final List<WireCodec> BINARY = new CopyOnWriteArrayList<>();
+    private static final Set<String> NEGOTIATE_PATHS = Set.copyOf(AppConfig.getApiCodecNegotiateEndpoints());
+
+    private WireCodecs() {
+    }
+
+    private static ObjectMapper createJsonMapper() {
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.findAndRegisterModules();
+        return mapper;
+    }
+
+    /**
+     * 注册二进制编解码器，先注册的优先协商
+     */
+    public static void register(WireCodec codec) {
+        if (JSON_MEDIA_TYPE.equals(codec.mediaType())) {
+            throw new IllegalArgumentException("JSON编解码器不能替换");
+        }
+        BINARY.add(codec);
+    }
+
+    /**
+     * 获取请求的Accept头：可协商的接口依次列出二进制格式，JSON作为后备
+     * @param path 接口路径（不含查询参数）
+     */
+    static String acceptHeader(String path) {
+        if (BINARY.isEmpty() || !NEGOTIATE_PATHS.contains(path)) {
+            return JSON_MEDIA_TYPE;
+        }
+        StringBuilder accept = new StringBuilder();
+        for (WireCodec codec : BINARY) {
+            accept.append(codec.mediaType()).append(", ");
+        }
+        return accept.append(JSON_MEDIA_TYPE).append(";q=0.9").toString();
+    }
+
+    /**
+     * 按响应的Content-Type选择编解码器，未知或缺失时按JSON处理
+     */
+    static WireCodec forContentType(String contentType) {
+        if (contentType == null || BINARY.isEmpty()) {
+            return JSON;
+        }
+        int params = contentType.indexOf(';');
+        String mediaType = (params >= 0 ? contentType.substring(0, params) : contentType).trim().toLowerCase(Locale.ROOT);
+        for (WireCodec codec : BINARY) {
+            if (codec.mediaType().equals(mediaType)) {
+                return codec;
+            }
+        }
+        return JSON;
+    }
+
+    /**
+     * 预热：构建常用响应类型在各编解码器中的反序列化器（应用启动时在后台调用）
+     */
+    public static void warmUp(TypeReference<?>... types) {
+        for (TypeReference<?> type : types) {
+            JavaType javaType = JSON.mapper().getTypeFactory().constructType(type);
+            JSON.warmUp(javaType);
+            for (WireCodec codec : BINARY) {
+                if (codec instanceof JacksonCodec jackson) {
+                    jackson.warmUp(javaType);
+                }
+            }
+        }
+    }
+}
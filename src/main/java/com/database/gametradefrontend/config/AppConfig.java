@@ -2,6 +2,11 @@ package com.database.gametradefrontend.config;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 
 /**
@@ -32,8 +37,44 @@ public class AppConfig {
         properties.setProperty("api.base.url", "http://localhost:8080/api");
         properties.setProperty("api.timeout.connect", "5000");
         properties.setProperty("api.timeout.read", "5000");
+        properties.setProperty("api.timeout.total", "15000");
+        properties.setProperty("api.timeout.action", "30000");
+        properties.setProperty("api.timeout.minAttempt", "500");
         properties.setProperty("api.retry.maxAttempts", "3");
         properties.setProperty("api.retry.delay", "1000");
+        properties.setProperty("api.retry.maxDelay", "8000");
+        properties.setProperty("api.retry.statuses", "408,429,502,503,504");
+        properties.setProperty("api.circuit.failureThreshold", "5");
+        properties.setProperty("api.circuit.openMillis", "15000");
+        properties.setProperty("api.http.version", "HTTP_2");
+        properties.setProperty("api.http.pool.size", "20");
+        properties.setProperty("api.http.keepAlive", "30");
+        properties.setProperty("api.compression.enabled", "true");
+        properties.setProperty("api.codec.negotiate", "");
+        properties.setProperty("metrics.jmx.enabled", "true");
+        properties.setProperty("metrics.dumpIntervalMillis", "60000");
+        properties.setProperty("metrics.dumpFile", "logs/api-metrics.csv");
+        properties.setProperty("api.compression.request.enabled", "false");
+        properties.setProperty("api.compression.request.minBytes", "8192");
+        properties.setProperty("api.body.bufferSize", "16384");
+        properties.setProperty("api.body.poolMaxBuffers", "64");
+        properties.setProperty("task.maxConcurrent", "16");
+        properties.setProperty("image.cache.maxBytes", "33554432");
+        properties.setProperty("image.thumbnail.enabled", "true");
+        properties.setProperty("image.thumbnail.dir", "cache/thumbnails");
+        properties.setProperty("api.page.size", "50");
+        properties.setProperty("review.pageSize", "5");
+        properties.setProperty("review.cache.maxGames", "20");
+        properties.setProperty("catalog.refreshMillis", "60000");
+        properties.setProperty("catalog.delta.enabled", "true");
+        properties.setProperty("snapshot.enabled", "true");
+        properties.setProperty("catalog.pageSize", "500");
+        properties.setProperty("search.debounceMillis", "250");
+        properties.setProperty("fx.stall.monitor.enabled", "true");
+        properties.setProperty("fx.stall.thresholdMillis", "16");
+        properties.setProperty("api.coalesce.enabled", "true");
+        properties.setProperty("api.cache.enabled", "true");
+        properties.setProperty("api.cache.maxBytes", "4194304");
         properties.setProperty("session.timeout", "1800000");
         properties.setProperty("session.checkInterval", "60000");
         properties.setProperty("log.level", "INFO");
@@ -51,6 +92,27 @@ public class AppConfig {
         return Integer.parseInt(properties.getProperty("api.timeout.read"));
     }
     
+    /**
+     * 获取一次调用（含重试）的默认总时限（毫秒）
+     */
+    public static long getApiTotalTimeout() {
+        return Long.parseLong(properties.getProperty("api.timeout.total", "15000"));
+    }
+    
+    /**
+     * 获取一次用户操作的总时限（毫秒），操作内的所有请求和重试共享
+     */
+    public static long getApiActionTimeout() {
+        return Long.parseLong(properties.getProperty("api.timeout.action", "30000"));
+    }
+    
+    /**
+     * 获取发出一次尝试所需的最少剩余时间（毫秒），不足时直接失败
+     */
+    public static long getApiMinAttemptMillis() {
+        return Long.parseLong(properties.getProperty("api.timeout.minAttempt", "500"));
+    }
+    
     public static int getApiMaxRetryAttempts() {
         return Integer.parseInt(properties.getProperty("api.retry.maxAttempts"));
     }
@@ -59,6 +121,216 @@ public class AppConfig {
         return Integer.parseInt(properties.getProperty("api.retry.delay"));
     }
     
+    public static long getApiRetryMaxDelay() {
+        return Long.parseLong(properties.getProperty("api.retry.maxDelay", "8000"));
+    }
+    
+    /**
+     * 获取可重试的HTTP状态码（逗号分隔）
+     */
+    public static List<Integer> getApiRetryStatuses() {
+        List<Integer> statuses = new ArrayList<>();
+        for (String status : getList("api.retry.statuses", "408,429,502,503,504")) {
+            statuses.add(Integer.parseInt(status));
+        }
+        return statuses;
+    }
+    
+    /**
+     * 获取允许重试的POST接口（只读查询接口，逗号分隔）
+     */
+    public static List<String> getApiRetrySafePostEndpoints() {
+        return getList("api.retry.safePost", "");
+    }
+    
+    /**
+     * 获取允许重试的PUT接口（整体覆盖、重复执行结果相同的接口，逗号分隔）
+     */
+    public static List<String> getApiRetrySafePutEndpoints() {
+        return getList("api.retry.safePut", "");
+    }
+    
+    /**
+     * 获取可协商二进制响应格式的接口（大列表接口，逗号分隔）
+     */
+    public static List<String> getApiCodecNegotiateEndpoints() {
+        return getList("api.codec.negotiate", "");
+    }
+    
+    public static int getApiCircuitFailureThreshold() {
+        return Integer.parseInt(properties.getProperty("api.circuit.failureThreshold", "5"));
+    }
+    
+    public static long getApiCircuitOpenMillis() {
+        return Long.parseLong(properties.getProperty("api.circuit.openMillis", "15000"));
+    }
+    
+    public static String getApiHttpVersion() {
+        return properties.getProperty("api.http.version", "HTTP_2");
+    }
+    
+    public static int getApiConnectionPoolSize() {
+        return Integer.parseInt(properties.getProperty("api.http.pool.size", "20"));
+    }
+    
+    public static int getApiKeepAliveTimeout() {
+        return Integer.parseInt(properties.getProperty("api.http.keepAlive", "30"));
+    }
+    
+    public static boolean isApiCacheEnabled() {
+        return Boolean.parseBoolean(properties.getProperty("api.cache.enabled", "true"));
+    }
+    
+    public static long getApiCacheMaxBytes() {
+        return Long.parseLong(properties.getProperty("api.cache.maxBytes", "4194304"));
+    }
+    
+    public static boolean isMetricsJmxEnabled() {
+        return Boolean.parseBoolean(properties.getProperty("metrics.jmx.enabled", "true"));
+    }
+    
+    public static long getMetricsDumpIntervalMillis() {
+        return Long.parseLong(properties.getProperty("metrics.dumpIntervalMillis", "60000"));
+    }
+    
+    public static String getMetricsDumpFile() {
+        return properties.getProperty("metrics.dumpFile", "logs/api-metrics.csv");
+    }
+    
+    public static String getAppVersion() {
+        return properties.getProperty("app.version", "1.0.0");
+    }
+    
+    public static boolean isApiCompressionEnabled() {
+        return Boolean.parseBoolean(properties.getProperty("api.compression.enabled", "true"));
+    }
+    
+    public static boolean isApiRequestCompressionEnabled() {
+        return Boolean.parseBoolean(properties.getProperty("api.compression.request.enabled", "false"));
+    }
+    
+    public static int getApiRequestCompressionMinBytes() {
+        return Integer.parseInt(properties.getProperty("api.compression.request.minBytes", "8192"));
+    }
+    
+    /**
+     * 获取请求体缓冲区的块大小（字节）
+     */
+    public static int getApiBodyBufferSize() {
+        return Integer.parseInt(properties.getProperty("api.body.bufferSize", "16384"));
+    }
+    
+    /**
+     * 获取请求体缓冲池最多保留的缓冲区块数
+     */
+    public static int getApiBodyPoolMaxBuffers() {
+        return Integer.parseInt(properties.getProperty("api.body.poolMaxBuffers", "64"));
+    }
+    
+    public static boolean isApiCoalesceEnabled() {
+        return Boolean.parseBoolean(properties.getProperty("api.coalesce.enabled", "true"));
+    }
+    
+    /**
+     * 获取允许合并的只读POST查询接口（逗号分隔）
+     */
+    public static List<String> getApiCoalescePostEndpoints() {
+        return getList("api.coalesce.post", "");
+    }
+    
+    /**
+     * 读取逗号分隔的配置项，忽略空白项
+     */
+    private static List<String> getList(String key, String defaultValue) {
+        List<String> values = new ArrayList<>();
+        for (String value : properties.getProperty(key, defaultValue).split(",")) {
+            if (!value.isBlank()) {
+                values.add(value.trim());
+            }
+        }
+        return values;
+    }
+    
+    /**
+     * 获取指定前缀下的所有配置项（键中去掉前缀），用于按接口配置的规则
+     */
+    public static Map<String, String> getPropertiesWithPrefix(String prefix) {
+        Map<String, String> result = new LinkedHashMap<>();
+        for (String key : properties.stringPropertyNames()) {
+            if (key.startsWith(prefix)) {
+                result.put(key.substring(prefix.length()), properties.getProperty(key).trim());
+            }
+        }
+        return result;
+    }
+    
+    public static int getTaskMaxConcurrent() {
+        return Integer.parseInt(properties.getProperty("task.maxConcurrent", "16"));
+    }
+    
+    public static long getImageCacheMaxBytes() {
+        return Long.parseLong(properties.getProperty("image.cache.maxBytes", "33554432"));
+    }
+    
+    public static boolean isImageThumbnailEnabled() {
+        return Boolean.parseBoolean(properties.getProperty("image.thumbnail.enabled", "true"));
+    }
+    
+    public static String getImageThumbnailDir() {
+        return properties.getProperty("image.thumbnail.dir", "cache/thumbnails");
+    }
+    
+    public static int getApiPageSize() {
+        return Integer.parseInt(properties.getProperty("api.page.size", "50"));
+    }
+    
+    public static int getReviewPageSize() {
+        return Integer.parseInt(properties.getProperty("review.pageSize", "5"));
+    }
+    
+    public static int getReviewCacheMaxGames() {
+        return Integer.parseInt(properties.getProperty("review.cache.maxGames", "20"));
+    }
+    
+    public static int getCatalogPageSize() {
+        return Integer.parseInt(properties.getProperty("catalog.pageSize", "500"));
+    }
+    
+    public static boolean isCatalogDeltaEnabled() {
+        return Boolean.parseBoolean(properties.getProperty("catalog.delta.enabled", "true"));
+    }
+    
+    public static boolean isSnapshotEnabled() {
+        return Boolean.parseBoolean(properties.getProperty("snapshot.enabled", "true"));
+    }
+    
+    /**
+     * 获取本地快照目录，未配置时使用用户目录下的.gametrade/snapshots
+     */
+    public static String getSnapshotDir() {
+        String dir = properties.getProperty("snapshot.dir");
+        if (dir == null || dir.isBlank()) {
+            return Path.of(System.getProperty("user.home"), ".gametrade", "snapshots").toString();
+        }
+        return dir;
+    }
+    
+    public static long getCatalogRefreshMillis() {
+        return Long.parseLong(properties.getProperty("catalog.refreshMillis", "60000"));
+    }
+    
+    public static long getSearchDebounceMillis() {
+        return Long.parseLong(properties.getProperty("search.debounceMillis", "250"));
+    }
+    
+    public static boolean isFxStallMonitorEnabled() {
+        return Boolean.parseBoolean(properties.getProperty("fx.stall.monitor.enabled", "true"));
+    }
+    
+    public static long getFxStallThresholdMillis() {
+        return Long.parseLong(properties.getProperty("fx.stall.thresholdMillis", "16"));
+    }
+    
     public static long getSessionTimeout() {
         return Long.parseLong(properties.getProperty("session.timeout"));
     }
@@ -1,11 +1,15 @@
 package com.database.gametradefrontend.controller;
 
 import com.database.gametradefrontend.client.ApiClient;
+import com.database.gametradefrontend.model.GameReview;
 import com.database.gametradefrontend.model.User;
+import com.database.gametradefrontend.service.GameReviewStore;
+import com.database.gametradefrontend.util.BackgroundTasks;
 import com.database.gametradefrontend.util.ControllerUtils;
+import com.database.gametradefrontend.util.ImageCache;
+import com.database.gametradefrontend.util.TaskScope;
 import javafx.application.Platform;
 import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.fxml.Initializable;
 import javafx.geometry.Pos;
@@ -20,6 +24,7 @@ import javafx.stage.Stage;
 import java.net.URL;
 import java.util.*;
 import java.util.ResourceBundle;
+import java.util.concurrent.CompletableFuture;
 
 public class BuyerGameDetailsController implements Initializable {
     
@@ -58,31 +63,15 @@ public class BuyerGameDetailsController implements Initializable {
     @FXML private Button backButton;
     
     private ApiClient apiClient;
+    
+    // 本界面发起的后台任务，界面关闭或切换时统一取消
+    private final TaskScope taskScope = BackgroundTasks.newScope("买家游戏详情");
     private User currentUser;
     private BuyerMainController.Game currentGame;
-    private ObservableList<Review> reviews;
+    // 评价按页从服务器获取，已看过的页按游戏缓存
+    private final GameReviewStore reviewStore = GameReviewStore.getInstance();
+    private CompletableFuture<List<GameReview>> reviewRequest;
     private int currentReviewPage = 0;
-    private static final int REVIEWS_PER_PAGE = 5;
-    
-    // 内部类用于存储评价数据
-    public static class Review {
-        private final String username;
-        private final String rating;
-        private final String content;
-        private final String date;
-        
-        public Review(String username, String rating, String content, String date) {
-            this.username = username;
-            this.rating = rating;
-            this.content = content;
-            this.date = date;
-        }
-        
-        public String getUsername() { return username; }
-        public String getRating() { return rating; }
-        public String getContent() { return content; }
-        public String getDate() { return date; }
-    }
     
     public void setApiClient(ApiClient apiClient) {
         this.apiClient = apiClient;
@@ -98,6 +87,9 @@ public class BuyerGameDetailsController implements Initializable {
     
     @Override
     public void initialize(URL location, ResourceBundle resources) {
+        // 界面关闭或切换时取消未完成的后台任务
+        taskScope.bindTo(backButton);
+        
         // 初始化评价评分选项
         ratingComboBox.setItems(FXCollections.observableArrayList(
             "5星 ⭐⭐⭐⭐⭐", "4星 ⭐⭐⭐⭐", "3星 ⭐⭐⭐", "2星 ⭐⭐", "1星 ⭐"
@@ -106,9 +98,6 @@ public class BuyerGameDetailsController implements Initializable {
         // 设置默认值
         ratingComboBox.setValue("5星 ⭐⭐⭐⭐⭐");
         
-        // 初始化评价列表
-        reviews = FXCollections.observableArrayList();
-        
         // 初始化后加载游戏信息
         Platform.runLater(this::initializeGameInfo);
     }
@@ -135,15 +124,17 @@ public class BuyerGameDetailsController implements Initializable {
         averageRatingLabel.setText("平均评分: 加载中...");
         
         // 异步调用API获取游戏详细信息
-        new Thread(() -> {
-            try {
-                // 调用API获取游戏详细信息
-                String endpoint = "/buyers/games/details?gameName=" + 
-                    java.net.URLEncoder.encode(currentGame.getName(), "UTF-8");
-                Object response = apiClient.get(endpoint, Object.class);
-                
-                // 在主线程中更新UI
-                Platform.runLater(() -> {
+        String endpoint = "/buyers/games/details?gameName=" + 
+            java.net.URLEncoder.encode(currentGame.getName(), java.nio.charset.StandardCharsets.UTF_8);
+        taskScope.track(apiClient.getAsync(endpoint, Object.class))
+                .whenCompleteAsync((response, error) -> {
+                    if (error != null) {
+                        Throwable e = ApiClient.unwrap(error);
+                        updateUIWithDefaultData();
+                        ControllerUtils.showErrorAlert("获取游戏详细信息失败: " + e.getMessage());
+                        return;
+                    }
+                    // 在主线程中更新UI
                     if (response instanceof Map) {
                         Map<String, Object> gameDetails = (Map<String, Object>) response;
                         
@@ -177,20 +168,13 @@ public class BuyerGameDetailsController implements Initializable {
                         licenseNumberLabel.setText("版号: " + licenseNumber);
                         descriptionArea.setText(description);
                         averageRatingLabel.setText("平均评分: " + score + "⭐");
-                        
+                    
                     } else {
                         // 如果API调用失败，使用默认的游戏数据
                         updateUIWithDefaultData();
                         ControllerUtils.showErrorAlert("获取游戏详细信息失败，显示基础信息");
                     }
-                });
-            } catch (Exception e) {
-                Platform.runLater(() -> {
-                    updateUIWithDefaultData();
-                    ControllerUtils.showErrorAlert("获取游戏详细信息失败: " + e.getMessage());
-                });
-            }
-        }).start();
+                }, taskScope.fxExecutor());
         
         // 加载游戏图片
         loadGameImage();
@@ -224,16 +208,13 @@ public class BuyerGameDetailsController implements Initializable {
     }
     
     private void loadGameImage() {
-        try {
-            Image image = new Image(Objects.requireNonNull(getClass().getResourceAsStream("/icon/" + currentGame.getImage())));
+        // 详情页图片保持原始比例，按图片框大小解码（与卡片的缩略尺寸分开缓存）
+        Image image = ImageCache.getGameImage(currentGame.getImage(),
+                gameImageView.getFitWidth(), gameImageView.getFitHeight(), true);
+        if (image != null) {
             gameImageView.setImage(image);
-        } catch (Exception e) {
-            try {
-                Image defaultImage = new Image(Objects.requireNonNull(getClass().getResourceAsStream("/icon/yuanshen.png")));
-                gameImageView.setImage(defaultImage);
-            } catch (Exception ex) {
-                gameImageView.setStyle("-fx-background-color: #667eea; -fx-min-width: 300px; -fx-min-height: 200px;");
-            }
+        } else {
+            gameImageView.setStyle("-fx-background-color: #667eea; -fx-min-width: 300px; -fx-min-height: 200px;");
         }
     }
     
@@ -247,73 +228,82 @@ public class BuyerGameDetailsController implements Initializable {
     }
     
     private void loadReviews() {
-        reviewsContainer.getChildren().clear();
-        currentReviewPage = 0;
+        showReviewPage(0);
+    }
+    
+    /**
+     * 显示指定页的评价：已缓存的页立即显示，否则从服务器获取
+     */
+    private void showReviewPage(int page) {
+        currentReviewPage = page;
+        if (reviewRequest != null) {
+            reviewRequest.cancel(true);
+            reviewRequest = null;
+        }
+        
+        List<GameReview> cached = reviewStore.getCachedPage(currentGame.getName(), page);
+        if (cached != null) {
+            displayReviews(cached);
+            return;
+        }
         
         // 显示加载状态
         Label loadingLabel = new Label("正在加载评价...");
         loadingLabel.getStyleClass().add("loading-label");
-        reviewsContainer.getChildren().add(loadingLabel);
+        reviewsContainer.getChildren().setAll(loadingLabel);
+        prevPageButton.setDisable(true);
+        nextPageButton.setDisable(true);
         
-        // 异步加载评价数据
-        new Thread(() -> {
-            try {
-                // 模拟API调用获取评价数据
-                Thread.sleep(500); // 模拟网络延迟
-                
-                // 模拟评价数据
-                List<Review> mockReviews = Arrays.asList(
-                    new Review("玩家123", "5星 ⭐⭐⭐⭐⭐", "游戏画面精美，玩法有趣，强烈推荐！", "2024-01-15"),
-                    new Review("游戏爱好者", "4星 ⭐⭐⭐⭐", "整体体验不错，但有些小bug需要修复", "2024-01-14"),
-                    new Review("资深玩家", "5星 ⭐⭐⭐⭐⭐", "这是我玩过的最好的游戏之一，物超所值！", "2024-01-13")
-                );
-                
-                Platform.runLater(() -> {
-                    reviewsContainer.getChildren().clear();
-                    reviews.setAll(mockReviews);
-                    
-                    if (reviews.isEmpty()) {
-                        Label noReviewsLabel = new Label("暂无评价");
-                        noReviewsLabel.getStyleClass().add("no-data-label");
-                        reviewsContainer.getChildren().add(noReviewsLabel);
-                    } else {
-                        displayReviews();
-                    }
-                });
-                
-            } catch (Exception e) {
-                Platform.runLater(() -> {
-                    reviewsContainer.getChildren().clear();
-                    Label errorLabel = new Label("加载评价失败: " + e.getMessage());
-                    errorLabel.getStyleClass().add("error-label");
-                    reviewsContainer.getChildren().add(errorLabel);
-                });
+        CompletableFuture<List<GameReview>> request =
+                taskScope.track(reviewStore.getPage(apiClient, account(), currentGame.getName(), page));
+        reviewRequest = request;
+        request.whenCompleteAsync((pageReviews, error) -> {
+            if (reviewRequest != request) {
+                // 已切换到其他页
+                return;
+            }
+            reviewRequest = null;
+            if (error != null) {
+                Throwable e = ApiClient.unwrap(error);
+                Label errorLabel = new Label("加载评价失败: " + e.getMessage());
+                errorLabel.getStyleClass().add("error-label");
+                reviewsContainer.getChildren().setAll(errorLabel);
+                updatePaginationInfo();
+                return;
             }
-        }).start();
+            displayReviews(pageReviews);
+        }, taskScope.fxExecutor());
     }
     
-    private void displayReviews() {
-        int startIndex = currentReviewPage * REVIEWS_PER_PAGE;
-        int endIndex = Math.min(startIndex + REVIEWS_PER_PAGE, reviews.size());
-        
-        reviewsContainer.getChildren().clear();
+    private void displayReviews(List<GameReview> pageReviews) {
+        if (pageReviews.isEmpty()) {
+            if (currentReviewPage > 0) {
+                // 上一页恰好是最后一页，回到最后一页
+                showReviewPage(currentReviewPage - 1);
+                return;
+            }
+            Label noReviewsLabel = new Label("暂无评价");
+            noReviewsLabel.getStyleClass().add("no-data-label");
+            reviewsContainer.getChildren().setAll(noReviewsLabel);
+            updatePaginationInfo();
+            return;
+        }
         
-        for (int i = startIndex; i < endIndex; i++) {
-            Review review = reviews.get(i);
-            
+        List<VBox> reviewCards = new ArrayList<>(pageReviews.size());
+        for (GameReview review : pageReviews) {
             VBox reviewCard = new VBox(8);
             reviewCard.setStyle("-fx-padding: 15; -fx-background-color: #f8f9fa; -fx-border-radius: 4; -fx-background-radius: 4;");
             
             HBox header = new HBox(10);
             header.setAlignment(Pos.CENTER_LEFT);
             
-            Label usernameLabel = new Label(review.getUsername());
+            Label usernameLabel = new Label(review.nickname());
             usernameLabel.setStyle("-fx-font-weight: bold;");
             
-            Label ratingLabel = new Label(review.getRating());
+            Label ratingLabel = new Label(formatRating(review.score()));
             ratingLabel.setStyle("-fx-text-fill: #ffa500; -fx-font-weight: bold;");
             
-            Label dateLabel = new Label(review.getDate());
+            Label dateLabel = new Label(review.reviewTime());
             dateLabel.setStyle("-fx-text-fill: #666; -fx-font-size: 12px;");
             
             HBox.setHgrow(dateLabel, Priority.ALWAYS);
@@ -321,24 +311,48 @@ public class BuyerGameDetailsController implements Initializable {
             
             header.getChildren().addAll(usernameLabel, ratingLabel, dateLabel);
             
-            Label contentLabel = new Label(review.getContent());
+            Label contentLabel = new Label(review.comment());
             contentLabel.setWrapText(true);
             contentLabel.setStyle("-fx-text-fill: #333;");
             
             reviewCard.getChildren().addAll(header, contentLabel);
-            reviewsContainer.getChildren().add(reviewCard);
+            reviewCards.add(reviewCard);
         }
+        reviewsContainer.getChildren().setAll(reviewCards);
         
         // 更新分页信息
         updatePaginationInfo();
     }
     
+    private String account() {
+        return currentUser != null ? currentUser.getAccount() : null;
+    }
+    
+    // 评分为0-10分，转换为与评分选项相同的星级文本
+    private static String formatRating(String score) {
+        double value;
+        try {
+            value = Double.parseDouble(score);
+        } catch (NumberFormatException e) {
+            value = 0;
+        }
+        int stars = (int) Math.max(0, Math.min(5, Math.round(value / 2.0)));
+        return stars + "星 " + "⭐".repeat(stars);
+    }
+    
     private void updatePaginationInfo() {
-        int totalPages = (int) Math.ceil((double) reviews.size() / REVIEWS_PER_PAGE);
-        pageInfoLabel.setText("第 " + (currentReviewPage + 1) + " 页 / 共 " + totalPages + " 页");
+        int totalPages = reviewStore.getPageCount(currentGame.getName());
+        if (totalPages == 0) {
+            pageInfoLabel.setText("");
+        } else if (totalPages > 0) {
+            pageInfoLabel.setText("第 " + (currentReviewPage + 1) + " 页 / 共 " + totalPages + " 页");
+        } else {
+            pageInfoLabel.setText("第 " + (currentReviewPage + 1) + " 页");
+        }
         
         prevPageButton.setDisable(currentReviewPage == 0);
-        nextPageButton.setDisable(currentReviewPage >= totalPages - 1);
+        // 评价尚未获取时总页数未知，此时允许翻到下一页
+        nextPageButton.setDisable(totalPages >= 0 && currentReviewPage >= totalPages - 1);
     }
     
     @FXML
@@ -355,24 +369,22 @@ public class BuyerGameDetailsController implements Initializable {
         ControllerUtils.showInfoAlert("评价提交成功！");
         reviewTextArea.clear();
         
-        // 重新加载评价
+        // 丢弃已缓存的评价页，重新加载评价
+        reviewStore.invalidate(currentGame.getName());
         loadReviews();
     }
     
     @FXML
     private void handlePrevPage() {
         if (currentReviewPage > 0) {
-            currentReviewPage--;
-            displayReviews();
+            showReviewPage(currentReviewPage - 1);
         }
     }
     
     @FXML
     private void handleNextPage() {
-        int totalPages = (int) Math.ceil((double) reviews.size() / REVIEWS_PER_PAGE);
-        if (currentReviewPage < totalPages - 1) {
-            currentReviewPage++;
-            displayReviews();
+        if (!nextPageButton.isDisabled()) {
+            showReviewPage(currentReviewPage + 1);
         }
     }
     
@@ -398,29 +410,24 @@ public class BuyerGameDetailsController implements Initializable {
         }
         
         // 异步调用API生成订单
-        new Thread(() -> {
-            try {
-                // 构建请求体
-                Map<String, Object> requestBody = new HashMap<>();
-                requestBody.put("buyerNickname", buyerNickname);
-                requestBody.put("gameName", gameName);
-                
-                // 调用API生成订单
-                String endpoint = "/buyers/orders";
-                String response = apiClient.post(endpoint, requestBody, String.class);
-                
-                // 在主线程中显示成功信息
-                Platform.runLater(() -> {
+        // 构建请求体
+        Map<String, Object> requestBody = new HashMap<>();
+        requestBody.put("buyerNickname", buyerNickname);
+        requestBody.put("gameName", gameName);
+        
+        // 调用API生成订单
+        String endpoint = "/buyers/orders";
+        taskScope.track(apiClient.postAsync(endpoint, requestBody, String.class))
+                .whenCompleteAsync((response, error) -> {
+                    if (error != null) {
+                        Throwable e = ApiClient.unwrap(error);
+                        // 在主线程中显示错误信息
+                        ControllerUtils.showErrorAlert("生成订单失败: " + e.getMessage());
+                        return;
+                    }
+                    // 在主线程中显示成功信息
                     ControllerUtils.showInfoAlert("订单生成成功！游戏已加入购物车");
-                });
-                
-            } catch (Exception e) {
-                // 在主线程中显示错误信息
-                Platform.runLater(() -> {
-                    ControllerUtils.showErrorAlert("生成订单失败: " + e.getMessage());
-                });
-            }
-        }).start();
+                }, taskScope.fxExecutor());
     }
     
     @FXML
@@ -1,9 +1,24 @@
 package com.database.gametradefrontend.controller;
 
 import com.database.gametradefrontend.client.ApiClient;
+import com.database.gametradefrontend.config.AppConfig;
+import com.database.gametradefrontend.model.GameOrder;
+import com.database.gametradefrontend.model.GameSummary;
+import com.database.gametradefrontend.model.LibraryEntry;
 import com.database.gametradefrontend.model.User;
+import com.database.gametradefrontend.service.GameCatalog;
+import com.database.gametradefrontend.service.GameQuery;
+import com.database.gametradefrontend.service.GameSearchIndex;
+import com.database.gametradefrontend.service.SnapshotStore;
+import com.database.gametradefrontend.util.BackgroundTasks;
 import com.database.gametradefrontend.util.ControllerUtils;
-import javafx.application.Platform;
+import com.database.gametradefrontend.util.DebouncedSearch;
+import com.database.gametradefrontend.util.ImageCache;
+import com.database.gametradefrontend.util.IncrementalListLoader;
+import com.database.gametradefrontend.util.PagedLoader;
+import com.database.gametradefrontend.util.TaskScope;
+import com.database.gametradefrontend.util.ViewModels;
+import com.fasterxml.jackson.core.type.TypeReference;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
@@ -13,12 +28,13 @@ import javafx.scene.Scene;
 import javafx.scene.control.*;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
-import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.StackPane;
 import javafx.scene.layout.VBox;
 import javafx.stage.Modality;
 import javafx.stage.Stage;
+import org.controlsfx.control.GridCell;
+import org.controlsfx.control.GridView;
 
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
@@ -27,6 +43,9 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 
 /**
  * 买家主页面控制器
@@ -34,8 +53,14 @@ import java.util.Objects;
  */
 public class BuyerMainController {
 
+    // 游戏卡片尺寸与每帧追加到商店网格的游戏数
+    private static final double CARD_WIDTH = 250;
+    private static final double CARD_HEIGHT = 380;
+    private static final int STORE_APPEND_CHUNK = 200;
+
     // FXML 组件注入
     @FXML private Label userInfoLabel;
+    @FXML private Label backendStatusBanner;
     @FXML private Button logoutButton;
     
     // 选项卡按钮
@@ -52,8 +77,12 @@ public class BuyerMainController {
     @FXML private ComboBox<String> popularityFilter;
     @FXML private Button preferenceFilter;
     private boolean isPreferenceFilterActive = false;
+    // 偏好游戏名集合（服务器按偏好返回的游戏），与其他筛选条件在本地组合
+    private Set<String> preferredGames;
+    private long preferredGamesLoadedAt;
     @FXML private Button resetFilterButton;
-    @FXML private FlowPane gameCardsContainer;
+    @FXML private GridView<Game> gameGrid;
+    @FXML private Label gameStoreStatusLabel;
     
     // 我的游戏库页面组件
     @FXML private VBox myGamesContent;
@@ -86,10 +115,29 @@ public class BuyerMainController {
     // API客户端
     private ApiClient apiClient;
     
+    // 本界面发起的后台任务，界面关闭或切换时统一取消
+    private final TaskScope taskScope = BackgroundTasks.newScope("买家中心");
+    
     // 数据集合
-    private final List<Game> games = new ArrayList<>();
+    private final ObservableList<Game> storeGames = FXCollections.observableArrayList();
+    // 商店游戏分批追加到网格，避免一次加入大量数据卡顿
+    private final IncrementalListLoader<Game> storeLoader = new IncrementalListLoader<>(storeGames, STORE_APPEND_CHUNK);
+    // 本地游戏目录：搜索索引及与其下标对应的游戏对象，输入即在本地搜索
+    private StoreCatalog storeCatalog;
+    // 商店搜索：输入防抖，新搜索取消旧请求，过时的结果直接丢弃
+    private final DebouncedSearch<List<Game>> storeSearch = new DebouncedSearch<>("商店搜索",
+            AppConfig.getSearchDebounceMillis(), taskScope.fxExecutor(), this::searchStore, this::showSearchResult);
     private final ObservableList<LibraryGame> libraryGames = FXCollections.observableArrayList();
     private final ObservableList<Order> orders = FXCollections.observableArrayList();
+    // 游戏库和订单按页加载，滚动接近底部时加载下一页
+    private PagedLoader<LibraryGame> libraryLoader;
+    private PagedLoader<Order> ordersLoader;
+    
+    /**
+     * 本地游戏目录快照：games.get(i)为索引中第i个游戏对应的界面对象
+     */
+    private record StoreCatalog(GameSearchIndex index, List<Game> games) {
+    }
     
     /**
      * 游戏数据类
@@ -116,6 +164,14 @@ public class BuyerMainController {
             this.companyName = companyName;
         }
         
+        /**
+         * 由接口返回的游戏条目创建，商店列表暂时统一使用默认图片
+         */
+        public static Game from(GameSummary summary) {
+            return new Game(summary.gameName(), summary.category(), summary.price(), "yuanshen.png",
+                    summary.description(), summary.score(), summary.salesVolume(), summary.companyName());
+        }
+        
         // Getters
         public String getName() { return name; }
         public String getCategory() { return category; }
@@ -145,6 +201,10 @@ public class BuyerMainController {
             this.reviewTime = reviewTime;
         }
         
+        public static LibraryGame from(LibraryEntry entry) {
+            return new LibraryGame(entry.gameName(), entry.licenseNumber(), entry.score(), entry.comment(), entry.reviewTime());
+        }
+        
         // Getters
         public String getGameName() { return gameName; }
         public String getLicenseNumber() { return licenseNumber; }
@@ -178,6 +238,12 @@ public class BuyerMainController {
             this.orderStatus = orderStatus;
         }
         
+        public static Order from(GameOrder order, String defaultBuyerNickname) {
+            String buyerNickname = order.buyerNickname() != null ? order.buyerNickname() : defaultBuyerNickname;
+            return new Order(order.orderId(), buyerNickname, order.gameName(), order.category(),
+                    order.price(), order.orderTime(), order.paymentTime(), order.orderStatus());
+        }
+        
         // Getters
         public String getOrderId() { return orderId; }
         public String getBuyerNickname() { return buyerNickname; }
@@ -191,6 +257,9 @@ public class BuyerMainController {
     
     @FXML
     public void initialize() {
+        // 界面关闭或切换时取消未完成的后台任务
+        taskScope.bindTo(logoutButton);
+        
         // 获取当前用户信息
         currentUser = UserSession.getInstance().getCurrentUser();
         if (currentUser == null) {
@@ -201,6 +270,9 @@ public class BuyerMainController {
         // 创建API客户端实例
         apiClient = new ApiClient();
         
+        // 后端熔断时在顶部显示提示
+        ControllerUtils.bindBackendStatus(backendStatusBanner);
+        
         // 初始化性别选择组
         genderToggleGroup = new ToggleGroup();
         maleRadioButton.setToggleGroup(genderToggleGroup);
@@ -211,6 +283,8 @@ public class BuyerMainController {
         initializeTabs();
         initializeFilters();
         initializeTables();
+        setupGameGrid();
+        setupPagedTables();
         setupEventHandlers();
         
         // 一进入页面就加载个人信息
@@ -350,167 +424,46 @@ public class BuyerMainController {
         
         // 设置偏好筛选器按钮事件处理器
         preferenceFilter.setOnAction(event -> handlePreferenceFilter());
+        
+        // 本地目录加载后输入即在本地搜索；目录尚未加载时停顿输入后再请求服务器
+        searchField.textProperty().addListener((obs, oldText, newText) -> {
+            if (storeCatalog != null) {
+                loadGameStoreData();
+            } else if (newText == null || newText.isBlank()) {
+                storeSearch.cancel();
+                loadGameStoreData();
+            } else {
+                storeSearch.submit(newText.trim());
+            }
+        });
     }
     
     private void handlePopularityFilter() {
-        String selectedPopularity = popularityFilter.getValue();
-        if (selectedPopularity == null || "全部".equals(selectedPopularity)) {
-            // 如果选择全部或未选择，加载所有游戏数据
-            loadGameStoreData();
-            return;
-        }
-        
-        // 根据选项确定minPopularity参数值
-        String minPopularity = switch (selectedPopularity) {
-            case "100以上" -> "100";
-            case "1000以上" -> "1000";
-            case "10000以上" -> "10000";
-            case "100000以上" -> "100000";
-            case "1000000以上" -> "1000000";
-            default -> "0";
-        };
-
-        // 清空现有卡片
-        gameCardsContainer.getChildren().clear();
-        
-        // 显示加载状态
-        Label loadingLabel = new Label("正在按热度搜索游戏...");
-        loadingLabel.getStyleClass().add("loading-label");
-        gameCardsContainer.getChildren().add(loadingLabel);
-        
-        // 异步调用API按热度搜索游戏
-        new Thread(() -> {
-            try {
-                // 调用API按热度搜索游戏，传递minPopularity参数
-                String endpoint = "/buyers/games/search-by-popularity?minPopularity=" + minPopularity;
-                Object response = apiClient.get(endpoint, Object.class);
-                
-                // 在主线程中更新UI
-                Platform.runLater(() -> {
-                    gameCardsContainer.getChildren().clear();
-                    
-                    if (response instanceof List) {
-                        List<Map<String, Object>> gameList = (List<Map<String, Object>>) response;
-                        
-                        if (!gameList.isEmpty()) {
-                            for (Map<String, Object> gameData : gameList) {
-                                // 解析游戏数据
-                                String gameName = gameData.getOrDefault("gameName", "未知游戏").toString();
-                                String category = gameData.getOrDefault("category", "未知类别").toString();
-                                String price = gameData.getOrDefault("price", "免费").toString();
-                                String score = gameData.getOrDefault("score", "0").toString();
-                                String salesVolume = gameData.getOrDefault("salesVolume", "0").toString();
-                                String companyName = gameData.getOrDefault("companyName", "未知厂商").toString();
-                                Object descriptionObj = gameData.get("description");
-                                String description = (descriptionObj != null) ? descriptionObj.toString() : "暂无简介";
-                                
-                                // 使用默认图片
-                                String image = "yuanshen.png";
-                                
-                                // 创建游戏对象（使用现有的Game类，包含description字段）
-                                Game game = new Game(gameName, category, price, image, 
-                                                   description, score, salesVolume, companyName);
-                                
-                                // 创建游戏卡片
-                                StackPane gameCard = createGameCard(game);
-                                gameCardsContainer.getChildren().add(gameCard);
-                            }
-                        } else {
-                            Label noDataLabel = new Label("该热度范围内暂无游戏数据");
-                            noDataLabel.getStyleClass().add("no-data-label");
-                            gameCardsContainer.getChildren().add(noDataLabel);
-                        }
-                    } else {
-                        Label errorLabel = new Label("按热度搜索失败：返回数据格式错误");
-                        errorLabel.getStyleClass().add("error-label");
-                        gameCardsContainer.getChildren().add(errorLabel);
-                    }
-                });
-            } catch (Exception e) {
-                Platform.runLater(() -> {
-                    gameCardsContainer.getChildren().clear();
-                    Label errorLabel = new Label("按热度搜索游戏失败: " + e.getMessage());
-                    errorLabel.getStyleClass().add("error-label");
-                    gameCardsContainer.getChildren().add(errorLabel);
-                });
-            }
-        }).start();
+        // 筛选条件在本地目录上组合计算，不再单独请求服务器
+        loadGameStoreData();
     }
     
     private void handleCategoryFilter() {
-        String selectedCategory = categoryFilter.getValue();
-        if (selectedCategory == null || "全部".equals(selectedCategory)) {
-            // 如果选择全部或未选择，加载所有游戏数据
-            loadGameStoreData();
-            return;
+        // 筛选条件在本地目录上组合计算，不再单独请求服务器
+        loadGameStoreData();
+    }
+    
+    /**
+     * 根据热度筛选选项确定最低热度
+     */
+    private long selectedMinPopularity() {
+        String selectedPopularity = popularityFilter.getValue();
+        if (selectedPopularity == null) {
+            return 0;
         }
-        
-        // 清空现有卡片
-        gameCardsContainer.getChildren().clear();
-        
-        // 显示加载状态
-        Label loadingLabel = new Label("正在按分类搜索游戏...");
-        loadingLabel.getStyleClass().add("loading-label");
-        gameCardsContainer.getChildren().add(loadingLabel);
-        
-        // 异步调用API按分类搜索游戏
-        new Thread(() -> {
-            try {
-                // 调用API按分类搜索游戏，传递category参数（需要URL编码）
-                String encodedCategory = URLEncoder.encode(selectedCategory, StandardCharsets.UTF_8);
-                String endpoint = "/buyers/games/search-by-category?category=" + encodedCategory;
-                Object response = apiClient.get(endpoint, Object.class);
-                
-                // 在主线程中更新UI
-                Platform.runLater(() -> {
-                    gameCardsContainer.getChildren().clear();
-                    
-                    if (response instanceof List) {
-                        List<Map<String, Object>> gameList = (List<Map<String, Object>>) response;
-                        
-                        if (!gameList.isEmpty()) {
-                            for (Map<String, Object> gameData : gameList) {
-                                // 解析游戏数据
-                                String gameName = gameData.getOrDefault("gameName", "未知游戏").toString();
-                                String category = gameData.getOrDefault("category", "未知类别").toString();
-                                String price = gameData.getOrDefault("price", "免费").toString();
-                                String score = gameData.getOrDefault("score", "0").toString();
-                                String salesVolume = gameData.getOrDefault("salesVolume", "0").toString();
-                                String companyName = gameData.getOrDefault("companyName", "未知厂商").toString();
-                                Object descriptionObj = gameData.get("description");
-                                String description = (descriptionObj != null) ? descriptionObj.toString() : "暂无简介";
-                                
-                                // 使用默认图片
-                                String image = "yuanshen.png";
-                                
-                                // 创建游戏对象（使用现有的Game类，包含description字段）
-                                Game game = new Game(gameName, category, price, image, 
-                                                   description, score, salesVolume, companyName);
-                                
-                                // 创建游戏卡片
-                                StackPane gameCard = createGameCard(game);
-                                gameCardsContainer.getChildren().add(gameCard);
-                            }
-                        } else {
-                            Label noDataLabel = new Label("该分类下暂无游戏数据");
-                            noDataLabel.getStyleClass().add("no-data-label");
-                            gameCardsContainer.getChildren().add(noDataLabel);
-                        }
-                    } else {
-                        Label errorLabel = new Label("按分类搜索失败：返回数据格式错误");
-                        errorLabel.getStyleClass().add("error-label");
-                        gameCardsContainer.getChildren().add(errorLabel);
-                    }
-                });
-            } catch (Exception e) {
-                Platform.runLater(() -> {
-                    gameCardsContainer.getChildren().clear();
-                    Label errorLabel = new Label("按分类搜索游戏失败: " + e.getMessage());
-                    errorLabel.getStyleClass().add("error-label");
-                    gameCardsContainer.getChildren().add(errorLabel);
-                });
-            }
-        }).start();
+        return switch (selectedPopularity) {
+            case "100以上" -> 100;
+            case "1000以上" -> 1000;
+            case "10000以上" -> 10000;
+            case "100000以上" -> 100000;
+            case "1000000以上" -> 1000000;
+            default -> 0;
+        };
     }
     
     private void handlePreferenceFilter() {
@@ -524,116 +477,62 @@ public class BuyerMainController {
         } else {
             preferenceFilter.getStyleClass().remove("filter-active");
             preferenceFilter.setText("我的偏好");
-            // 如果取消偏好筛选，加载所有游戏数据
+            // 取消偏好筛选，其余筛选条件仍然生效
             loadGameStoreData();
             return;
         }
         
-        // 清空现有卡片
-        gameCardsContainer.getChildren().clear();
+        // 偏好游戏集合未过期时直接在本地筛选
+        if (preferredGames != null
+                && System.currentTimeMillis() - preferredGamesLoadedAt < AppConfig.getCatalogRefreshMillis()) {
+            loadGameStoreData();
+            return;
+        }
         
         // 显示加载状态
-        Label loadingLabel = new Label("正在按偏好搜索游戏...");
-        loadingLabel.getStyleClass().add("loading-label");
-        gameCardsContainer.getChildren().add(loadingLabel);
+        showStoreStatus("正在按偏好搜索游戏...", "loading-label");
+        
+        if (currentUser.getNickname() == null || currentUser.getNickname().trim().isEmpty()) {
+            showStoreStatus("用户昵称为空，无法进行偏好搜索", "error-label");
+            
+            // 出错时重置按钮状态
+            resetPreferenceFilter();
+            return;
+        }
+        
+        // 调用API获取偏好游戏，传递buyerNickname参数；结果只作为偏好集合，与其他筛选条件组合
+        String endpoint = "/buyers/games/search-by-preference?buyerNickname=" + 
+            URLEncoder.encode(currentUser.getNickname(), StandardCharsets.UTF_8);
         
         // 异步调用API按偏好搜索游戏
-        new Thread(() -> {
-            try {
-                if (currentUser.getNickname() == null || currentUser.getNickname().trim().isEmpty()) {
-                    Platform.runLater(() -> {
-                        gameCardsContainer.getChildren().clear();
-                        Label errorLabel = new Label("用户昵称为空，无法进行偏好搜索");
-                        errorLabel.getStyleClass().add("error-label");
-                        gameCardsContainer.getChildren().add(errorLabel);
+        taskScope.track(ViewModels.mapAsync(apiClient.getAsync(endpoint, GameSummary.LIST_TYPE), GameSummary::gameName))
+                .whenCompleteAsync((gameNames, error) -> {
+                    if (error != null) {
+                        Throwable e = ApiClient.unwrap(error);
+                        showStoreStatus("按偏好搜索游戏失败: " + e.getMessage(), "error-label");
                         
                         // 出错时重置按钮状态
-                        isPreferenceFilterActive = false;
-                        preferenceFilter.getStyleClass().remove("filter-active");
-                        preferenceFilter.setText("我的偏好");
-                    });
-                    return;
-                }
-                
-                // 调用API按偏好搜索游戏，传递buyerNickname参数
-                String endpoint = "/buyers/games/search-by-preference?buyerNickname=" + 
-                    URLEncoder.encode(currentUser.getNickname(), StandardCharsets.UTF_8);
-                
-                // 调试信息：使用util包风格打印请求URL
-                System.err.println("DEBUG: API endpoint: " + endpoint);
-                
-                Object response = apiClient.get(endpoint, Object.class);
-
-                
-                // 在主线程中更新UI
-                Platform.runLater(() -> {
-                    gameCardsContainer.getChildren().clear();
-                    
-                    if (response == null) {
-                        Label errorLabel = new Label("你还未关注任何游戏, 无法进行偏好搜索");
-                        errorLabel.getStyleClass().add("error-label");
-                        gameCardsContainer.getChildren().add(errorLabel);
+                        resetPreferenceFilter();
+                        return;
+                    }
+                    // 在主线程中更新UI
+                    if (gameNames == null) {
+                        showStoreStatus("你还未关注任何游戏, 无法进行偏好搜索", "error-label");
                         
                         // 出错时重置按钮状态
-                        isPreferenceFilterActive = false;
-                        preferenceFilter.getStyleClass().remove("filter-active");
-                        preferenceFilter.setText("我的偏好");
-                    } else if (response instanceof List) {
-                        List<Map<String, Object>> gameList = (List<Map<String, Object>>) response;
-                        
-                        if (!gameList.isEmpty()) {
-                            for (Map<String, Object> gameData : gameList) {
-                                // 解析游戏数据
-                                String gameName = gameData.getOrDefault("gameName", "未知游戏").toString();
-                                String category = gameData.getOrDefault("category", "未知类别").toString();
-                                String price = gameData.getOrDefault("price", "免费").toString();
-                                String score = gameData.getOrDefault("score", "0").toString();
-                                String salesVolume = gameData.getOrDefault("salesVolume", "0").toString();
-                                String companyName = gameData.getOrDefault("companyName", "未知厂商").toString();
-                                Object descriptionObj = gameData.get("description");
-                                String description = (descriptionObj != null) ? descriptionObj.toString() : "暂无简介";
-                                
-                                // 使用默认图片
-                                String image = "yuanshen.png";
-                                
-                                // 创建游戏对象（使用现有的Game类，包含description字段）
-                                Game game = new Game(gameName, category, price, image, 
-                                                   description, score, salesVolume, companyName);
-                                
-                                // 创建游戏卡片
-                                StackPane gameCard = createGameCard(game);
-                                gameCardsContainer.getChildren().add(gameCard);
-                            }
-                        } else {
-                            Label noDataLabel = new Label("暂无偏好推荐游戏");
-                            noDataLabel.getStyleClass().add("no-data-label");
-                            gameCardsContainer.getChildren().add(noDataLabel);
-                        }
+                        resetPreferenceFilter();
                     } else {
-                        Label errorLabel = new Label("按偏好搜索失败：返回数据格式错误");
-                        errorLabel.getStyleClass().add("error-label");
-                        gameCardsContainer.getChildren().add(errorLabel);
-                        
-                        // 出错时重置按钮状态
-                        isPreferenceFilterActive = false;
-                        preferenceFilter.getStyleClass().remove("filter-active");
-                        preferenceFilter.setText("我的偏好");
+                        preferredGames = Set.copyOf(gameNames);
+                        preferredGamesLoadedAt = System.currentTimeMillis();
+                        loadGameStoreData();
                     }
-                });
-            } catch (Exception e) {
-                Platform.runLater(() -> {
-                    gameCardsContainer.getChildren().clear();
-                    Label errorLabel = new Label("按偏好搜索游戏失败: " + e.getMessage());
-                    errorLabel.getStyleClass().add("error-label");
-                    gameCardsContainer.getChildren().add(errorLabel);
-                    
-                    // 出错时重置按钮状态
-                    isPreferenceFilterActive = false;
-                    preferenceFilter.getStyleClass().remove("filter-active");
-                    preferenceFilter.setText("我的偏好");
-                });
-            }
-        }).start();
+                }, taskScope.fxExecutor());
+    }
+    
+    private void resetPreferenceFilter() {
+        isPreferenceFilterActive = false;
+        preferenceFilter.getStyleClass().remove("filter-active");
+        preferenceFilter.setText("我的偏好");
     }
     
     private void resetTabStyles() {
@@ -704,225 +603,296 @@ public class BuyerMainController {
     }
     
     // 游戏商店功能
+    /**
+     * 显示商店游戏：本地目录已加载时立即按搜索框内容在本地搜索显示，
+     * 目录未加载或已过期时在后台拉取，拉取完成后重新显示
+     */
     private void loadGameStoreData() {
-        // 清空现有卡片
-        gameCardsContainer.getChildren().clear();
-        
-        // 显示加载状态
-        Label loadingLabel = new Label("正在加载游戏数据...");
-        loadingLabel.getStyleClass().add("loading-label");
-        gameCardsContainer.getChildren().add(loadingLabel);
-        
-        // 异步从API获取游戏数据（使用搜索API，gameName参数为空）
-        new Thread(() -> {
-            try {
-                // 调用搜索API获取所有游戏数据，gameName参数为空
-                String endpoint = "/buyers/games/search-by-name?gameName=";
-                Object response = apiClient.get(endpoint, Object.class);
-                // 在主线程中更新UI
-                Platform.runLater(() -> {
-                    gameCardsContainer.getChildren().clear();
-                    
-                    if (response instanceof List) {
-                        List<Map<String, Object>> gameList = (List<Map<String, Object>>) response;
-                        
-                        if (!gameList.isEmpty()) {
-                            games.clear();
-                            
-                            for (Map<String, Object> gameData : gameList) {
-                                // 解析游戏数据（使用搜索API返回的字段）
-                                String gameName = Objects.toString(gameData.get("gameName"), "未知游戏");
-                                String category = Objects.toString(gameData.get("category"), "未知类别");
-                                String price = Objects.toString(gameData.get("price"), "免费");
-                                String score = Objects.toString(gameData.get("score"), "0");
-                                String salesVolume = Objects.toString(gameData.get("salesVolume"), "0");
-                                String companyName = Objects.toString(gameData.get("companyName"), "未知厂商");
-                                String description = Objects.toString(gameData.get("description"), "暂无简介");
-                                
-                                // 使用默认图片
-                                String image = "yuanshen.png";
-                                
-                                // 创建游戏对象（使用现有的Game类，包含description字段）
-                                Game game = new Game(gameName, category, price, image, 
-                                                   description, score, salesVolume, companyName);
-                                
-                                // 创建游戏卡片
-                                StackPane gameCard = createGameCard(game);
-                                gameCardsContainer.getChildren().add(gameCard);
+        GameCatalog catalog = GameCatalog.getInstance();
+        if (storeCatalog == null) {
+            // 先从本地快照恢复目录立即显示，没有快照时先请求第一页，之后在后台拉取最新目录
+            taskScope.track(catalog.restore().thenApplyAsync(
+                            index -> index != null ? toStoreCatalog(index, null) : null, BackgroundTasks.EXECUTOR))
+                    .whenCompleteAsync((restored, error) -> {
+                        if (storeCatalog == null) {
+                            if (restored != null) {
+                                storeCatalog = restored;
+                                applyStoreSearch();
+                            } else {
+                                storeSearch.submitNow(searchField.getText().trim());
                             }
-                        } else {
-                            Label noDataLabel = new Label("暂无游戏数据");
-                            noDataLabel.getStyleClass().add("no-data-label");
-                            gameCardsContainer.getChildren().add(noDataLabel);
                         }
-                    } else {
-                        Label errorLabel = new Label("加载游戏数据失败：返回数据格式错误");
-                        errorLabel.getStyleClass().add("error-label");
-                        gameCardsContainer.getChildren().add(errorLabel);
+                        refreshStoreCatalog();
+                    }, taskScope.fxExecutor());
+            return;
+        }
+        
+        applyStoreSearch();
+        if (storeCatalog.index() != catalog.getIndex() || catalog.isStale()) {
+            refreshStoreCatalog();
+        }
+    }
+    
+    /**
+     * 异步获取游戏目录（目录未过期时不发请求），游戏对象在后台线程创建
+     */
+    private void refreshStoreCatalog() {
+        StoreCatalog current = storeCatalog;
+        taskScope.track(GameCatalog.getInstance().load(apiClient)
+                        .thenApplyAsync(index -> toStoreCatalog(index, current), BackgroundTasks.EXECUTOR))
+                .whenCompleteAsync((loaded, error) -> {
+                    if (error != null) {
+                        Throwable e = ApiClient.unwrap(error);
+                        // 已显示第一页或快照时保留，下次进入商店时重新拉取目录
+                        if (storeCatalog == null && storeGames.isEmpty()) {
+                            showStoreStatus("加载游戏数据失败: " + e.getMessage(), "error-label");
+                        }
+                        return;
                     }
-                });
-            } catch (Exception e) {
-                Platform.runLater(() -> {
-                    gameCardsContainer.getChildren().clear();
-                    Label errorLabel = new Label("加载游戏数据失败: " + e.getMessage());
-                    errorLabel.getStyleClass().add("error-label");
-                    gameCardsContainer.getChildren().add(errorLabel);
-                });
-            }
-        }).start();
+                    // 在主线程中更新UI
+                    boolean changed = storeCatalog != loaded;
+                    storeCatalog = loaded;
+                    if (changed) {
+                        applyStoreSearch();
+                    }
+                }, taskScope.fxExecutor());
     }
     
-    private StackPane createGameCard(Game game) {
-        StackPane card = new StackPane();
-        card.getStyleClass().add("game-card");
-        
-        // 创建主内容区域
-        VBox content = new VBox();
-        content.getStyleClass().add("game-card-content");
-        
-        // 游戏图片
-        ImageView imageView = new ImageView();
-        try {
-            Image image = new Image(Objects.requireNonNull(getClass().getResourceAsStream("/icon/" + game.getImage())));
-            imageView.setImage(image);
-        } catch (Exception e) {
-            try {
-                Image defaultImage = new Image(Objects.requireNonNull(getClass().getResourceAsStream("/icon/yuanshen.png")));
-                imageView.setImage(defaultImage);
-            } catch (Exception ex) {
-                imageView.setStyle("-fx-background-color: #667eea; -fx-min-width: 250px; -fx-min-height: 150px;");
+    private static StoreCatalog toStoreCatalog(GameSearchIndex index, StoreCatalog current) {
+        if (current == null) {
+            return new StoreCatalog(index, ViewModels.mapList(index.getGames(), Game::from));
+        }
+        if (current.index() == index) {
+            return current;
+        }
+        // 增量同步后大部分游戏没有变化，沿用原来的游戏对象，网格只替换变化的卡片
+        List<GameSummary> previousSummaries = current.index().getGames();
+        Map<GameSummary, Game> previous = new HashMap<>(previousSummaries.size() * 2);
+        for (int i = 0; i < previousSummaries.size(); i++) {
+            previous.put(previousSummaries.get(i), current.games().get(i));
+        }
+        List<Game> games = new ArrayList<>(index.size());
+        for (GameSummary summary : index.getGames()) {
+            Game game = previous.get(summary);
+            games.add(game != null ? game : Game.from(summary));
+        }
+        return new StoreCatalog(index, List.copyOf(games));
+    }
+    
+    /**
+     * 按搜索框内容和各筛选条件在本地目录中组合筛选并显示结果
+     * 经由storeSearch发出，使尚未返回的服务器搜索结果不会覆盖本地结果
+     */
+    private void applyStoreSearch() {
+        storeSearch.submitNow(searchField.getText());
+    }
+    
+    /**
+     * 执行搜索：本地目录已加载时直接在本地组合筛选，否则按游戏名请求服务器
+     * @return 搜索结果；取消时同时取消请求
+     */
+    private CompletableFuture<List<Game>> searchStore(String text) {
+        if (storeCatalog != null) {
+            String category = categoryFilter.getValue();
+            GameQuery query = new GameQuery(text,
+                    category == null || "全部".equals(category) ? null : category,
+                    selectedMinPopularity(),
+                    isPreferenceFilterActive ? preferredGames : null);
+            int[] matches = storeCatalog.index().search(query);
+            List<Game> result = new ArrayList<>(matches.length);
+            for (int doc : matches) {
+                result.add(storeCatalog.games().get(doc));
             }
+            return CompletableFuture.completedFuture(result);
         }
-        imageView.setFitWidth(200);
-        imageView.setFitHeight(120);
-        imageView.setPreserveRatio(false);
-        imageView.getStyleClass().add("game-card-image");
-        
-        // 游戏信息
-        Label titleLabel = new Label(game.getName());
-        titleLabel.getStyleClass().add("game-card-title");
         
-        Label categoryLabel = new Label("类别: " + game.getCategory());
-        categoryLabel.getStyleClass().add("game-card-category");
-        
-        Label priceLabel = new Label("价格: " + game.getPrice());
-        priceLabel.getStyleClass().add("game-card-price");
-        
-        Label ratingLabel = new Label("评分: " + game.getRating() + "⭐");
-        ratingLabel.getStyleClass().add("game-card-rating");
-        
-        // 添加销量信息（如果popularity字段包含销量数据）
-        Label salesLabel = new Label("销量: " + game.getPopularity());
-        salesLabel.getStyleClass().add("game-card-sales");
-        
-        // 添加厂商名称
-        Label companyLabel = new Label("厂商: " + game.getCompanyName());
-        companyLabel.getStyleClass().add("game-card-company");
+        // 显示加载状态
+        showStoreStatus(text.isBlank() ? "正在加载游戏数据..." : "正在搜索游戏...", "loading-label");
         
-        // 添加游戏描述（最多显示50个字符，多余用...表示）
-        String description = game.getDescription();
-        if (description == null) {
-            description = "暂无简介";
-        } else if (description.length() > 50) {
-            description = description.substring(0, 50) + "...";
+        // 调用API搜索游戏，只取第一页（空名称的第一页与目录拉取的第一页是同一请求，会被合并）
+        String endpoint = GameCatalog.searchEndpoint(text, 0);
+        return taskScope.track(ViewModels.mapAsync(apiClient.getAsync(endpoint, GameSummary.LIST_TYPE), Game::from));
+    }
+    
+    /**
+     * 显示最新一次搜索的结果
+     */
+    private void showSearchResult(List<Game> games, Throwable error) {
+        if (error != null) {
+            Throwable e = ApiClient.unwrap(error);
+            showStoreStatus("搜索游戏失败: " + e.getMessage(), "error-label");
+            return;
         }
-        Label descriptionLabel = new Label(description);
-        descriptionLabel.getStyleClass().add("game-card-description");
-        descriptionLabel.setWrapText(true);
-        descriptionLabel.setMaxWidth(200);
         
-        // 添加到内容区域
-        content.getChildren().addAll(imageView, titleLabel, categoryLabel, priceLabel, ratingLabel, salesLabel, companyLabel, descriptionLabel);
+        String emptyMessage;
+        if (!"全部".equals(Objects.requireNonNullElse(categoryFilter.getValue(), "全部"))
+                || selectedMinPopularity() > 0 || isPreferenceFilterActive) {
+            emptyMessage = "没有符合筛选条件的游戏";
+        } else if (!searchField.getText().isBlank()) {
+            emptyMessage = "未找到相关游戏";
+        } else {
+            emptyMessage = "暂无游戏数据";
+        }
+        showStoreGames(games, emptyMessage);
+    }
+    
+    /**
+     * 初始化商店游戏网格：GridView只为可见区域创建卡片，滚动时复用已有卡片
+     */
+    private void setupGameGrid() {
+        gameGrid.setItems(storeGames);
+        gameGrid.setCellWidth(CARD_WIDTH);
+        gameGrid.setCellHeight(CARD_HEIGHT);
+        gameGrid.setHorizontalCellSpacing(10);
+        gameGrid.setVerticalCellSpacing(10);
+        gameGrid.setCellFactory(grid -> new GameCardCell());
+    }
+    
+    /**
+     * 显示商店游戏列表：为空时显示提示，否则分批追加到网格
+     * @param games 已在后台线程转换好的游戏列表
+     */
+    private void showStoreGames(List<Game> games, String emptyMessage) {
+        if (games == null || games.isEmpty()) {
+            showStoreStatus(emptyMessage, "no-data-label");
+            return;
+        }
         
-        // 悬停覆盖层
-        VBox overlay = new VBox();
-        overlay.getStyleClass().add("game-card-overlay");
-        overlay.setAlignment(javafx.geometry.Pos.CENTER);
+        gameStoreStatusLabel.setVisible(false);
+        // 与当前显示的结果只有少量不同时原地更新，否则分批重新加载
+        storeLoader.update(games);
+    }
+    
+    /**
+     * 清空商店网格并显示状态提示（加载中、出错、无数据）
+     */
+    private void showStoreStatus(String message, String styleClass) {
+        storeLoader.load(List.of());
+        gameStoreStatusLabel.getStyleClass().setAll("label", styleClass);
+        gameStoreStatusLabel.setText(message);
+        gameStoreStatusLabel.setVisible(true);
+    }
+    
+    /**
+     * 游戏卡片单元格 - 卡片节点只在创建单元格时构建一次，之后随滚动更换显示的游戏
+     */
+    private class GameCardCell extends GridCell<Game> {
+        private final StackPane card = new StackPane();
+        private final ImageView imageView = new ImageView();
+        private final Label titleLabel = new Label();
+        private final Label categoryLabel = new Label();
+        private final Label priceLabel = new Label();
+        private final Label ratingLabel = new Label();
+        private final Label salesLabel = new Label();
+        private final Label companyLabel = new Label();
+        private final Label descriptionLabel = new Label();
+        private String currentImage;
         
-        Label overlayText = new Label("点击查看详情");
-        overlayText.getStyleClass().add("overlay-text");
-        overlay.getChildren().add(overlayText);
+        GameCardCell() {
+            card.getStyleClass().add("game-card");
+            
+            // 创建主内容区域
+            VBox content = new VBox();
+            content.getStyleClass().add("game-card-content");
+            
+            // 游戏图片
+            imageView.setFitWidth(200);
+            imageView.setFitHeight(120);
+            imageView.setPreserveRatio(false);
+            imageView.getStyleClass().add("game-card-image");
+            
+            // 游戏信息
+            titleLabel.getStyleClass().add("game-card-title");
+            categoryLabel.getStyleClass().add("game-card-category");
+            priceLabel.getStyleClass().add("game-card-price");
+            ratingLabel.getStyleClass().add("game-card-rating");
+            salesLabel.getStyleClass().add("game-card-sales");
+            companyLabel.getStyleClass().add("game-card-company");
+            descriptionLabel.getStyleClass().add("game-card-description");
+            descriptionLabel.setWrapText(true);
+            descriptionLabel.setMaxWidth(200);
+            
+            // 添加到内容区域
+            content.getChildren().addAll(imageView, titleLabel, categoryLabel, priceLabel, ratingLabel, salesLabel, companyLabel, descriptionLabel);
+            
+            // 悬停覆盖层
+            VBox overlay = new VBox();
+            overlay.getStyleClass().add("game-card-overlay");
+            overlay.setAlignment(javafx.geometry.Pos.CENTER);
+            
+            Label overlayText = new Label("点击查看详情");
+            overlayText.getStyleClass().add("overlay-text");
+            overlay.getChildren().add(overlayText);
+            
+            // 点击事件 - 打开游戏详情页面
+            card.setOnMouseClicked(event -> {
+                if (getItem() != null) {
+                    openGameDetails(getItem());
+                }
+            });
+            
+            card.getChildren().addAll(content, overlay);
+        }
         
-        // 点击事件 - 打开游戏详情页面
-        card.setOnMouseClicked(event -> openGameDetails(game));
+        @Override
+        protected void updateItem(Game game, boolean empty) {
+            super.updateItem(game, empty);
+            if (empty || game == null) {
+                setGraphic(null);
+                return;
+            }
+            
+            if (!Objects.equals(currentImage, game.getImage())) {
+                currentImage = game.getImage();
+                loadCardImage(game.getImage());
+            }
+            titleLabel.setText(game.getName());
+            categoryLabel.setText("类别: " + game.getCategory());
+            priceLabel.setText("价格: " + game.getPrice());
+            ratingLabel.setText("评分: " + game.getRating() + "⭐");
+            // 添加销量信息（如果popularity字段包含销量数据）
+            salesLabel.setText("销量: " + game.getPopularity());
+            // 添加厂商名称
+            companyLabel.setText("厂商: " + game.getCompanyName());
+            
+            // 添加游戏描述（最多显示50个字符，多余用...表示）
+            String description = game.getDescription();
+            if (description == null) {
+                description = "暂无简介";
+            } else if (description.length() > 50) {
+                description = description.substring(0, 50) + "...";
+            }
+            descriptionLabel.setText(description);
+            
+            setGraphic(card);
+        }
         
-        card.getChildren().addAll(content, overlay);
-        return card;
+        private void loadCardImage(String imageName) {
+            // 共享图片缓存：滚动复用单元格时不会重复解码同一张图片
+            Image image = ImageCache.getGameImage(imageName, 200, 120);
+            imageView.setImage(image);
+            imageView.setStyle(image != null ? null : "-fx-background-color: #667eea; -fx-min-width: 250px; -fx-min-height: 150px;");
+        }
     }
     
     @FXML
     private void handleSearch() {
+        if (storeCatalog != null) {
+            // 本地目录已加载，直接在本地搜索
+            loadGameStoreData();
+            return;
+        }
+        
         String searchText = searchField.getText().trim();
         if (searchText.isEmpty()) {
             // 如果搜索框为空，重新加载所有游戏数据
+            storeSearch.cancel();
             loadGameStoreData();
             return;
         }
         
-        // 清空现有卡片
-        gameCardsContainer.getChildren().clear();
-        
-        // 显示加载状态
-        Label loadingLabel = new Label("正在搜索游戏...");
-        loadingLabel.getStyleClass().add("loading-label");
-        gameCardsContainer.getChildren().add(loadingLabel);
-        
-        // 异步调用API搜索游戏
-        new Thread(() -> {
-            try {
-                // 调用API搜索游戏，传递gameName参数
-                String endpoint = "/buyers/games/search-by-name?gameName=" + searchText;
-                Object response = apiClient.get(endpoint, Object.class);
-                
-                // 在主线程中更新UI
-                Platform.runLater(() -> {
-                    gameCardsContainer.getChildren().clear();
-                    
-                    if (response instanceof List) {
-                        List<Map<String, Object>> gameList = (List<Map<String, Object>>) response;
-                        
-                        if (!gameList.isEmpty()) {
-                            for (Map<String, Object> gameData : gameList) {
-                                // 解析游戏数据
-                                String gameName = gameData.getOrDefault("gameName", "未知游戏").toString();
-                                String category = gameData.getOrDefault("category", "未知类别").toString();
-                                String price = gameData.getOrDefault("price", "免费").toString();
-                                String score = gameData.getOrDefault("score", "0").toString();
-                                String salesVolume = gameData.getOrDefault("salesVolume", "0").toString();
-                                String companyName = gameData.getOrDefault("companyName", "未知厂商").toString();
-                                String description = gameData.getOrDefault("description", "暂无简介").toString();
-                                
-                                // 使用默认图片
-                                String image = "yuanshen.png";
-                                
-                                // 创建游戏对象（使用现有的Game类，包含description字段）
-                                Game game = new Game(gameName, category, price, image, 
-                                                   description, score, salesVolume, companyName);
-                                
-                                // 创建游戏卡片
-                                StackPane gameCard = createGameCard(game);
-                                gameCardsContainer.getChildren().add(gameCard);
-                            }
-                        } else {
-                            Label noDataLabel = new Label("未找到相关游戏");
-                            noDataLabel.getStyleClass().add("no-data-label");
-                            gameCardsContainer.getChildren().add(noDataLabel);
-                        }
-                    } else {
-                        Label errorLabel = new Label("搜索失败：返回数据格式错误");
-                        errorLabel.getStyleClass().add("error-label");
-                        gameCardsContainer.getChildren().add(errorLabel);
-                    }
-                });
-            } catch (Exception e) {
-                Platform.runLater(() -> {
-                    gameCardsContainer.getChildren().clear();
-                    Label errorLabel = new Label("搜索游戏失败: " + e.getMessage());
-                    errorLabel.getStyleClass().add("error-label");
-                    gameCardsContainer.getChildren().add(errorLabel);
-                });
-            }
-        }).start();
+        // 点击搜索时不等待防抖，立即搜索（会取消上一次未完成的搜索）
+        storeSearch.submitNow(searchText);
     }
     
     @FXML
@@ -932,24 +902,86 @@ public class BuyerMainController {
         popularityFilter.getSelectionModel().select("全部");
         
         // 重置偏好筛选器按钮状态
-        isPreferenceFilterActive = false;
-        preferenceFilter.getStyleClass().remove("filter-active");
-        preferenceFilter.setText("我的偏好");
+        resetPreferenceFilter();
         
         loadGameStoreData();
     }
     
-    private void filterGames() {
-        // 实现游戏筛选逻辑
-        // 这里可以根据搜索条件和筛选条件过滤游戏列表
+    /**
+     * 初始化游戏库和订单表格的分页加载
+     */
+    private void setupPagedTables() {
+        String nickname = currentUser.getNickname() != null ? currentUser.getNickname() : "";
+        String encodedNickname = URLEncoder.encode(nickname, StandardCharsets.UTF_8);
+        int pageSize = AppConfig.getApiPageSize();
+        
+        libraryTable.setItems(libraryGames);
+        // 游戏库对象在后台线程创建，主线程只追加到表格
+        libraryLoader = new PagedLoader<>(libraryGames, pageSize, page -> {
+            CompletableFuture<List<LibraryEntry>> entries = apiClient.getAsync(
+                    pagedEndpoint("/buyers/game-library?buyerNickname=" + encodedNickname, page, pageSize),
+                    LibraryEntry.LIST_TYPE);
+            if (page == 0) {
+                // 首页保存为本地快照，下次进入时先显示
+                entries.thenAccept(list -> SnapshotStore.save(librarySnapshotKey(), list));
+            }
+            return taskScope.track(ViewModels.mapAsync(entries, LibraryGame::from));
+        }, taskScope.fxExecutor());
+        libraryLoader.setItemKey(LibraryGame::getGameName);
+        libraryLoader.setOnPageLoaded((page, items) -> {
+            if (page == 0 && items.isEmpty()) {
+                ControllerUtils.showInfoAlert("游戏库为空");
+            }
+        });
+        libraryLoader.setOnError(error ->
+                ControllerUtils.showErrorAlert("获取游戏库数据失败: " + ApiClient.unwrap(error).getMessage()));
+        libraryLoader.attachTo(libraryTable);
+        
+        ordersTable.setItems(orders);
+        // 订单对象在后台线程创建（买家昵称缺失时使用当前用户昵称）
+        ordersLoader = new PagedLoader<>(orders, pageSize, page -> {
+            CompletableFuture<List<GameOrder>> orderList = apiClient.getAsync(
+                    pagedEndpoint("/buyers/orders?buyerNickname=" + encodedNickname, page, pageSize),
+                    GameOrder.LIST_TYPE);
+            if (page == 0) {
+                orderList.thenAccept(list -> SnapshotStore.save(ordersSnapshotKey(), list));
+            }
+            return taskScope.track(ViewModels.mapAsync(orderList, orderData -> Order.from(orderData, nickname)));
+        }, taskScope.fxExecutor());
+        ordersLoader.setItemKey(Order::getOrderId);
+        ordersLoader.setOnPageLoaded((page, items) -> {
+            if (page == 0 && items.isEmpty()) {
+                ControllerUtils.showInfoAlert("暂无订单数据");
+            }
+        });
+        ordersLoader.setOnError(error ->
+                ControllerUtils.showErrorAlert("获取订单数据失败: " + ApiClient.unwrap(error).getMessage()));
+        ordersLoader.attachTo(ordersTable);
     }
     
-    // 安全转换为字符串，处理null值
-    private String safeToString(Object value, String defaultValue) {
-        if (value == null) {
-            return defaultValue;
-        }
-        return value.toString();
+    private static String pagedEndpoint(String endpoint, int page, int pageSize) {
+        return endpoint + "&page=" + page + "&size=" + pageSize;
+    }
+    
+    private String librarySnapshotKey() {
+        return "library:" + currentUser.getNickname();
+    }
+    
+    private String ordersSnapshotKey() {
+        return "orders:" + currentUser.getNickname();
+    }
+    
+    /**
+     * 在后台读取本地快照，首页返回前先显示在表格中
+     */
+    private <S, T> void showSnapshot(PagedLoader<T> loader, String key, TypeReference<List<S>> type,
+                                     Function<S, T> mapper) {
+        taskScope.track(ViewModels.mapAsync(SnapshotStore.loadAsync(key, type), mapper))
+                .whenCompleteAsync((items, error) -> {
+                    if (error == null) {
+                        loader.showPlaceholder(items);
+                    }
+                }, taskScope.fxExecutor());
     }
     
     // 游戏库功能
@@ -959,51 +991,15 @@ public class BuyerMainController {
             return;
         }
         
-        // 显示加载状态
-        libraryGames.clear();
-        libraryTable.setItems(libraryGames);
-        
-        // 异步调用API获取游戏库数据
-        new Thread(() -> {
-            try {
-                // 调用API获取游戏库数据，传递buyerNickname参数
-                String endpoint = "/buyers/game-library?buyerNickname=" + 
-                    java.net.URLEncoder.encode(currentUser.getNickname(), StandardCharsets.UTF_8);
-                Object response = apiClient.get(endpoint, Object.class);
-                
-                // 在主线程中更新UI
-                Platform.runLater(() -> {
-                    if (response instanceof List) {
-                        List<Map<String, Object>> libraryList = (List<Map<String, Object>>) response;
-                        
-                        if (!libraryList.isEmpty()) {
-                            for (Map<String, Object> libraryData : libraryList) {
-                                // 解析游戏库数据
-                                String gameName = safeToString(libraryData.get("gameName"), "未知游戏");
-                                String licenseNumber = safeToString(libraryData.get("licenseNumber"), "未知");
-                                String score = safeToString(libraryData.get("score"), "0");
-                                String comment = safeToString(libraryData.get("comment"), "暂无评论");
-                                String reviewTime = safeToString(libraryData.get("reviewTime"), "未知时间");
-                                
-                                // 创建游戏库对象
-                                LibraryGame libraryGame = new LibraryGame(gameName, licenseNumber, score, comment, reviewTime);
-                                libraryGames.add(libraryGame);
-                            }
-                        } else {
-                            ControllerUtils.showInfoAlert("游戏库为空");
-                        }
-                    } else {
-                        ControllerUtils.showErrorAlert("获取游戏库数据失败：返回数据格式错误");
-                    }
-                });
-            } catch (Exception e) {
-                Platform.runLater(() -> ControllerUtils.showErrorAlert("获取游戏库数据失败: " + e.getMessage()));
-            }
-        }).start();
+        // 从第一页重新加载，之后随滚动加载后续页；首页返回前先显示上次的快照
+        libraryLoader.reload();
+        showSnapshot(libraryLoader, librarySnapshotKey(), LibraryEntry.LIST_TYPE, LibraryGame::from);
     }
     
     @FXML
     private void handleRefreshLibrary() {
+        // 手动刷新时跳过缓存，直接从服务器获取
+        ApiClient.invalidateCache("/buyers/game-library");
         loadLibraryData();
         ControllerUtils.showInfoAlert("游戏库已刷新");
     }
@@ -1027,55 +1023,16 @@ public class BuyerMainController {
             return;
         }
         
-        // 显示加载状态
-        orders.clear();
-        ordersTable.setItems(orders);
-        
-        // 异步调用API获取订单数据
-        new Thread(() -> {
-            try {
-                // 调用API获取订单数据，传递buyerNickname参数
-                String endpoint = "/buyers/orders?buyerNickname=" + 
-                    java.net.URLEncoder.encode(currentUser.getNickname(), StandardCharsets.UTF_8);
-                Object response = apiClient.get(endpoint, Object.class);
-                
-                // 在主线程中更新UI
-                Platform.runLater(() -> {
-                    if (response instanceof List) {
-                        List<Map<String, Object>> orderList = (List<Map<String, Object>>) response;
-                        
-                        if (!orderList.isEmpty()) {
-                            for (Map<String, Object> orderData : orderList) {
-                                // 解析订单数据
-                                String orderId = safeToString(orderData.get("orderId"), "未知");
-                                String buyerNickname = safeToString(orderData.get("buyerNickname"), currentUser.getNickname());
-                                String gameName = safeToString(orderData.get("gameName"), "未知游戏");
-                                String category = safeToString(orderData.get("category"), "未知类别");
-                                String price = safeToString(orderData.get("price"), "免费");
-                                String orderTime = safeToString(orderData.get("orderTime"), "未知时间");
-                                String paymentTime = safeToString(orderData.get("paymentTime"), "未支付");
-                                String orderStatus = safeToString(orderData.get("orderStatus"), "未知状态");
-                                
-                                // 创建订单对象
-                                Order order = new Order(orderId, buyerNickname, gameName, category, 
-                                                       price, orderTime, paymentTime, orderStatus);
-                                orders.add(order);
-                            }
-                        } else {
-                            ControllerUtils.showInfoAlert("暂无订单数据");
-                        }
-                    } else {
-                        ControllerUtils.showErrorAlert("获取订单数据失败：返回数据格式错误");
-                    }
-                });
-            } catch (Exception e) {
-                Platform.runLater(() -> ControllerUtils.showErrorAlert("获取订单数据失败: " + e.getMessage()));
-            }
-        }).start();
+        // 从第一页重新加载，之后随滚动加载后续页；首页返回前先显示上次的快照
+        String nickname = currentUser.getNickname();
+        ordersLoader.reload();
+        showSnapshot(ordersLoader, ordersSnapshotKey(), GameOrder.LIST_TYPE, orderData -> Order.from(orderData, nickname));
     }
     
     @FXML
     private void handleRefreshOrders() {
+        // 手动刷新时跳过缓存，直接从服务器获取
+        ApiClient.invalidateCache("/buyers/orders");
         loadOrdersData();
         ControllerUtils.showInfoAlert("订单列表已刷新");
     }
@@ -1090,24 +1047,21 @@ public class BuyerMainController {
         }
         
         // 异步调用API支付订单
-        new Thread(() -> {
-            try {
-                // 调用API支付订单
-                String endpoint = "/buyers/orders/pay?orderId=" + 
-                    java.net.URLEncoder.encode(order.getOrderId(), StandardCharsets.UTF_8);
-                String apiResponse = apiClient.put(endpoint, new HashMap<>(), String.class);
-                
-                // 在主线程中显示返回消息并刷新订单列表
-                Platform.runLater(() -> {
+        // 调用API支付订单
+        String endpoint = "/buyers/orders/pay?orderId=" + 
+            java.net.URLEncoder.encode(order.getOrderId(), StandardCharsets.UTF_8);
+        taskScope.track(apiClient.putAsync(endpoint, new HashMap<>(), String.class))
+                .whenCompleteAsync((apiResponse, error) -> {
+                    if (error != null) {
+                        Throwable e = ApiClient.unwrap(error);
+                        // 在主线程中显示错误信息
+                        ControllerUtils.showErrorAlert("支付订单失败: " + e.getMessage());
+                        return;
+                    }
+                    // 在主线程中显示返回消息并刷新订单列表
                     ControllerUtils.showInfoAlert("支付订单结果: " + apiResponse);
                     loadOrdersData(); // 刷新订单列表
-                });
-                
-            } catch (Exception e) {
-                // 在主线程中显示错误信息
-                Platform.runLater(() -> ControllerUtils.showErrorAlert("支付订单失败: " + e.getMessage()));
-            }
-        }).start();
+                }, taskScope.fxExecutor());
     }
     
     // 取消订单
@@ -1126,24 +1080,21 @@ public class BuyerMainController {
         confirmation.showAndWait().ifPresent(response -> {
             if (response == ButtonType.OK) {
                 // 异步调用API取消订单
-                new Thread(() -> {
-                    try {
-                        // 调用API取消订单
-                        String endpoint = "/buyers/orders/cancel?orderId=" + 
-                            java.net.URLEncoder.encode(order.getOrderId(), StandardCharsets.UTF_8);
-                        String apiResponse = apiClient.put(endpoint, new HashMap<>(), String.class);
-                        
-                        // 在主线程中显示返回消息并刷新订单列表
-                        Platform.runLater(() -> {
+                // 调用API取消订单
+                String endpoint = "/buyers/orders/cancel?orderId=" + 
+                    java.net.URLEncoder.encode(order.getOrderId(), StandardCharsets.UTF_8);
+                taskScope.track(apiClient.putAsync(endpoint, new HashMap<>(), String.class))
+                        .whenCompleteAsync((apiResponse, error) -> {
+                            if (error != null) {
+                                Throwable e = ApiClient.unwrap(error);
+                                // 在主线程中显示错误信息
+                                ControllerUtils.showErrorAlert("取消订单失败: " + e.getMessage());
+                                return;
+                            }
+                            // 在主线程中显示返回消息并刷新订单列表
                             ControllerUtils.showInfoAlert("取消订单结果: " + apiResponse);
                             loadOrdersData(); // 刷新订单列表
-                        });
-                        
-                    } catch (Exception e) {
-                        // 在主线程中显示错误信息
-                        Platform.runLater(() -> ControllerUtils.showErrorAlert("取消订单失败: " + e.getMessage()));
-                    }
-                }).start();
+                        }, taskScope.fxExecutor());
             }
         });
     }
@@ -1151,18 +1102,20 @@ public class BuyerMainController {
     // 个人信息功能
     private void loadPersonalInfo() {
         // 异步从API获取个人信息
-        new Thread(() -> {
-            try {
-                // 调用API获取个人信息，传递account参数
-                String endpoint = "/buyers/personal-info?account=" + currentUser.getAccount();
-                
-                // 调试信息：打印请求URL
-                System.err.println("DEBUG: Personal info API endpoint: " + endpoint);
-                
-                Object response = apiClient.get(endpoint, Object.class);
-                
-                // 在主线程中更新UI
-                Platform.runLater(() -> {
+        // 调用API获取个人信息，传递account参数
+        String endpoint = "/buyers/personal-info?account=" + currentUser.getAccount();
+        
+        // 调试信息：打印请求URL
+        System.err.println("DEBUG: Personal info API endpoint: " + endpoint);
+        
+        taskScope.track(apiClient.getAsync(endpoint, Object.class))
+                .whenCompleteAsync((response, error) -> {
+                    if (error != null) {
+                        Throwable e = ApiClient.unwrap(error);
+                        ControllerUtils.showErrorAlert("获取个人信息失败: " + e.getMessage());
+                        return;
+                    }
+                    // 在主线程中更新UI
                     if (response instanceof Map) {
                         Map<String, Object> personalInfo = (Map<String, Object>) response;
                         
@@ -1198,15 +1151,11 @@ public class BuyerMainController {
                         
                         // 设置联系方式（只读）
                         contactLabel.setText(contact);
-                        
+                    
                     } else {
                         ControllerUtils.showErrorAlert("获取个人信息失败：返回数据格式错误");
                     }
-                });
-            } catch (Exception e) {
-                Platform.runLater(() -> ControllerUtils.showErrorAlert("获取个人信息失败: " + e.getMessage()));
-            }
-        }).start();
+                }, taskScope.fxExecutor());
     }
     
     @FXML
@@ -1216,27 +1165,26 @@ public class BuyerMainController {
         String birthday = birthdayPicker.getValue() != null ? birthdayPicker.getValue().toString() : "";
         
         // 异步保存个人信息到后端
-        new Thread(() -> {
-            try {
-                // 构建请求参数
-                String endpoint = "/buyers/personal-info?account=" + currentUser.getAccount();
-                
-                // 构建请求体（只包含可以修改的字段）
-                Map<String, Object> requestBody = new HashMap<>();
-                requestBody.put("gender", gender);
-                requestBody.put("birthday", birthday);
-                
-                // 调用API保存个人信息
-                String response = apiClient.post(endpoint, requestBody, String.class);
-                
-                // 在主线程中显示结果
-                Platform.runLater(() -> ControllerUtils.showInfoAlert("个人信息保存成功: " + response));
-                
-            } catch (Exception e) {
-                // 在主线程中显示错误信息
-                Platform.runLater(() -> ControllerUtils.showErrorAlert("保存个人信息失败: " + e.getMessage()));
-            }
-        }).start();
+        // 构建请求参数
+        String endpoint = "/buyers/personal-info?account=" + currentUser.getAccount();
+        
+        // 构建请求体（只包含可以修改的字段）
+        Map<String, Object> requestBody = new HashMap<>();
+        requestBody.put("gender", gender);
+        requestBody.put("birthday", birthday);
+        
+        // 调用API保存个人信息
+        taskScope.track(apiClient.postAsync(endpoint, requestBody, String.class))
+                .whenCompleteAsync((response, error) -> {
+                    if (error != null) {
+                        Throwable e = ApiClient.unwrap(error);
+                        // 在主线程中显示错误信息
+                        ControllerUtils.showErrorAlert("保存个人信息失败: " + e.getMessage());
+                        return;
+                    }
+                    // 在主线程中显示结果
+                    ControllerUtils.showInfoAlert("个人信息保存成功: " + response);
+                }, taskScope.fxExecutor());
     }
     
     // 游戏详情页面
@@ -1248,8 +1196,8 @@ public class BuyerMainController {
             gameDetailsStage.setHeight(700);
             
             gameDetailsStage.initModality(Modality.WINDOW_MODAL);
-            gameDetailsStage.initOwner(gameCardsContainer.getScene().getWindow());
-            gameDetailsStage.getIcons().add(new Image(Objects.requireNonNull(getClass().getResourceAsStream("/icon/yuanshen.png"))));
+            gameDetailsStage.initOwner(gameGrid.getScene().getWindow());
+            gameDetailsStage.getIcons().add(ImageCache.getAppIcon());
             
             FXMLLoader loader = new FXMLLoader(getClass().getResource("/com/database/gametradefrontend/view/buyer-game-details.fxml"));
             Parent root = loader.load();
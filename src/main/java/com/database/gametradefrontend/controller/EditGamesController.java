@@ -2,7 +2,12 @@ package com.database.gametradefrontend.controller;
 
 import com.database.gametradefrontend.client.ApiClient;
 import com.database.gametradefrontend.model.User;
+import com.database.gametradefrontend.model.VendorGame;
+import com.database.gametradefrontend.util.BackgroundTasks;
 import com.database.gametradefrontend.util.ControllerUtils;
+import com.database.gametradefrontend.util.ImageCache;
+import com.database.gametradefrontend.util.TaskScope;
+import com.database.gametradefrontend.util.ViewModels;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Parent;
@@ -36,11 +41,17 @@ public class EditGamesController {
     // API客户端
     private ApiClient apiClient;
     
+    // 本界面发起的后台任务，界面关闭或切换时统一取消
+    private final TaskScope taskScope = BackgroundTasks.newScope("编辑游戏");
+    
     // 游戏数据 - 使用VendorMainController.Game类
     private final List<VendorMainController.Game> games = new ArrayList<>();
 
     @FXML
     public void initialize() {
+        // 界面关闭或切换时取消未完成的后台任务
+        taskScope.bindTo(backButton);
+        
         // 获取当前用户信息
         currentUser = UserSession.getInstance().getCurrentUser();
         if (currentUser == null) {
@@ -62,57 +73,42 @@ public class EditGamesController {
         gameCardsContainer.getChildren().clear();
         
         // 异步从API获取游戏数据
-        new Thread(() -> {
-            try {
-                // 调用API获取厂商游戏数据
-                String endpoint = "/vendors/query-vendor-games";
-                // 准备请求数据，包含account参数
-                Map<String, Object> requestData = new HashMap<>();
-                requestData.put("account", currentUser.getAccount());
-                
-                Object response = apiClient.post(endpoint, requestData, Object.class);
-                
-                // 在主线程中更新UI
-                javafx.application.Platform.runLater(() -> {
+        // 调用API获取厂商游戏数据
+        String endpoint = "/vendors/query-vendor-games";
+        // 准备请求数据，包含account参数
+        Map<String, Object> requestData = new HashMap<>();
+        requestData.put("account", currentUser.getAccount());
+        
+        taskScope.track(ViewModels.mapAsync(apiClient.postAsync(endpoint, requestData, VendorGame.LIST_TYPE),
+                        VendorMainController.Game::from))
+                .whenCompleteAsync((gameList, error) -> {
+                    if (error != null) {
+                        Throwable e = ApiClient.unwrap(error);
+                        // 在主线程中显示错误信息
+                        loadingLabel.setVisible(false);
+                        noDataLabel.setVisible(true);
+                        noDataLabel.setText("加载游戏数据失败: " + e.getMessage());
+                        ControllerUtils.showErrorAlert("加载游戏数据失败: " + e.getMessage());
+                        return;
+                    }
+                    // 在主线程中更新UI
                     loadingLabel.setVisible(false);
                     
-                    List<Map<String, Object>> gameList = (List<Map<String, Object>>) response;
-                    
                     if (gameList != null && !gameList.isEmpty()) {
                         games.clear();
+                        games.addAll(gameList);
                         
-                        // 处理API返回的游戏数据
-                        for (Map<String, Object> gameData : gameList) {
-                            String name = gameData.getOrDefault("gameName", gameData.getOrDefault("name", "未知游戏")).toString();
-                            String category = gameData.getOrDefault("category", "未知类别").toString();
-                            String price = gameData.getOrDefault("price", "免费").toString();
-                            String status = gameData.getOrDefault("status", "未知状态").toString();
-                            String description = gameData.getOrDefault("description", "暂无简介").toString();
-                            String image = gameData.getOrDefault("image", "yuanshen.png").toString();
-
-                            // 创建游戏对象
-                            VendorMainController.Game game = new VendorMainController.Game(name, category, price, image, description, status);
-                            games.add(game);
-                            
-                            // 创建游戏卡片
-                            StackPane gameCard = createGameCard(game);
-                            gameCardsContainer.getChildren().add(gameCard);
+                        // 游戏对象已在后台线程创建，这里只创建游戏卡片，一次性加入容器
+                        List<StackPane> gameCards = new ArrayList<>(gameList.size());
+                        for (VendorMainController.Game game : gameList) {
+                            gameCards.add(createGameCard(game));
                         }
+                        gameCardsContainer.getChildren().setAll(gameCards);
                     } else {
                         // 如果没有数据，显示提示信息
                         noDataLabel.setVisible(true);
                     }
-                });
-            } catch (Exception e) {
-                // 在主线程中显示错误信息
-                javafx.application.Platform.runLater(() -> {
-                    loadingLabel.setVisible(false);
-                    noDataLabel.setVisible(true);
-                    noDataLabel.setText("加载游戏数据失败: " + e.getMessage());
-                    ControllerUtils.showErrorAlert("加载游戏数据失败: " + e.getMessage());
-                });
-            }
-        }).start();
+                }, taskScope.fxExecutor());
     }
     
     private StackPane createGameCard(VendorMainController.Game game) {
@@ -127,25 +123,13 @@ public class EditGamesController {
         // 游戏图片
         ImageView imageView = new ImageView();
 
-        // 首先尝试加载用户传入的图片路径
-        try {
-            Image image = new Image(Objects.requireNonNull(getClass().getResourceAsStream(game.getImage())));
+        // 依次尝试图片路径、icon目录下的同名图片和默认图片（共享缓存，同一图片只解码一次）
+        Image image = ImageCache.getGameImage(game.getImage(), 250, 150);
+        if (image != null) {
             imageView.setImage(image);
-        } catch (Exception e) {
-            // 如果直接路径找不到，尝试在icon目录下查找
-            try {
-                Image image = new Image(Objects.requireNonNull(getClass().getResourceAsStream("/icon/" + game.getImage())));
-                imageView.setImage(image);
-            } catch (Exception ex) {
-                // 如果icon目录下也找不到，使用默认图片
-                try {
-                    Image defaultImage = new Image(Objects.requireNonNull(getClass().getResourceAsStream("/icon/yuanshen.png")));
-                    imageView.setImage(defaultImage);
-                } catch (Exception exc) {
-                    // 如果默认图片也不存在，创建一个占位符
-                    imageView.setStyle("-fx-background-color: #667eea; -fx-min-width: 250px; -fx-min-height: 150px;");
-                }
-            }
+        } else {
+            // 如果默认图片也不存在，创建一个占位符
+            imageView.setStyle("-fx-background-color: #667eea; -fx-min-width: 250px; -fx-min-height: 150px;");
         }
         imageView.setFitWidth(250);
         imageView.setFitHeight(150);
@@ -224,7 +208,7 @@ public class EditGamesController {
             // 设置模态，但不阻塞主窗口
             gameDetailsStage.initModality(Modality.WINDOW_MODAL);
             gameDetailsStage.initOwner(gameCardsContainer.getScene().getWindow());
-            gameDetailsStage.getIcons().add(new Image(Objects.requireNonNull(getClass().getResourceAsStream("/icon/yuanshen.png"))));
+            gameDetailsStage.getIcons().add(ImageCache.getAppIcon());
             
             // 加载FXML文件
             FXMLLoader loader = new FXMLLoader(getClass().getResource("/com/database/gametradefrontend/view/game-details.fxml"));
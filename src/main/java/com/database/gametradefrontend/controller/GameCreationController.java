@@ -2,7 +2,10 @@ package com.database.gametradefrontend.controller;
 
 import com.database.gametradefrontend.client.ApiClient;
 import com.database.gametradefrontend.model.User;
+import com.database.gametradefrontend.util.BackgroundTasks;
 import com.database.gametradefrontend.util.ControllerUtils;
+import com.database.gametradefrontend.util.ImageCache;
+import com.database.gametradefrontend.util.TaskScope;
 import javafx.fxml.FXML;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
@@ -21,7 +24,6 @@ import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Objects;
 
 /**
  * 游戏创建页面控制器
@@ -46,6 +48,9 @@ public class GameCreationController {
     // API客户端
     private ApiClient apiClient;
     
+    // 本界面发起的后台任务，界面关闭或切换时统一取消
+    private final TaskScope taskScope = BackgroundTasks.newScope("创建游戏");
+    
     // 当前用户信息
     private User currentUser;
     
@@ -55,6 +60,9 @@ public class GameCreationController {
     
     @FXML
     public void initialize() {
+        // 界面关闭或切换时取消未完成的后台任务
+        taskScope.bindTo(submitGameButton);
+        
         // 获取当前用户信息
         currentUser = UserSession.getInstance().getCurrentUser();
         if (currentUser == null) {
@@ -71,12 +79,12 @@ public class GameCreationController {
     }
     
     private void loadDefaultImage() {
-        try {
-            // 加载默认图片
-            Image defaultImage = new Image(Objects.requireNonNull(getClass().getResourceAsStream("/icon/yuanshen.png")));
+        // 加载默认图片
+        Image defaultImage = ImageCache.getAppIcon();
+        if (defaultImage != null) {
             gameImageView.setImage(defaultImage);
             imageFileNameLabel.setText("默认图片: yuanshen.png");
-        } catch (Exception e) {
+        } else {
             // 如果默认图片加载失败，显示占位符
             gameImageView.setStyle("-fx-background-color: #ccc; -fx-min-width: 80px; -fx-min-height: 60px;");
             imageFileNameLabel.setText("默认图片加载失败");
@@ -94,8 +102,9 @@ public class GameCreationController {
         File selectedFile = fileChooser.showOpenDialog(selectImageButton.getScene().getWindow());
         if (selectedFile != null) {
             try {
-                // 显示选中的图片
-                Image image = new Image(selectedFile.toURI().toString());
+                // 显示选中的图片（按预览框大小在后台解码，不解码完整分辨率）
+                Image image = new Image(selectedFile.toURI().toString(),
+                        gameImageView.getFitWidth(), gameImageView.getFitHeight(), true, true, true);
                 gameImageView.setImage(image);
                 
                 // 生成新的文件名
@@ -167,24 +176,28 @@ public class GameCreationController {
         submitGameButton.setDisable(true);
         submitGameButton.setText("提交中...");
         
-        new Thread(() -> {
-            try {
-                // 准备请求数据
-                Map<String, Object> requestData = new HashMap<>();
-                requestData.put("gameName", gameName);
-                requestData.put("category", gameCategory);
-                requestData.put("price", gamePrice);
-                requestData.put("companyName", companyName);
-                requestData.put("description", gameDescription);
-                requestData.put("downloadLink", downloadLink);
-                requestData.put("licenseNumber", licenseNumber);
-                requestData.put("account", currentUser.getAccount());
-                
-                // 调用API创建游戏
-                String result = apiClient.post("/vendors/create-game", requestData, String.class);
-                
-                // 在主线程中更新UI
-                javafx.application.Platform.runLater(() -> {
+        // 准备请求数据
+        Map<String, Object> requestData = new HashMap<>();
+        requestData.put("gameName", gameName);
+        requestData.put("category", gameCategory);
+        requestData.put("price", gamePrice);
+        requestData.put("companyName", companyName);
+        requestData.put("description", gameDescription);
+        requestData.put("downloadLink", downloadLink);
+        requestData.put("licenseNumber", licenseNumber);
+        requestData.put("account", currentUser.getAccount());
+        
+        // 调用API创建游戏
+        taskScope.track(apiClient.postAsync("/vendors/create-game", requestData, String.class))
+                .whenCompleteAsync((result, error) -> {
+                    if (error != null) {
+                        Throwable e = ApiClient.unwrap(error);
+                        ControllerUtils.showErrorAlert("游戏创建失败: " + e.getMessage());
+                        submitGameButton.setDisable(false);
+                        submitGameButton.setText("提交创建");
+                        return;
+                    }
+                    // 在主线程中更新UI
                     if (result != null && result.contains("成功")) {
                         // 如果用户选择了新图片，复制到icon目录
                         if (selectedImageFile != null) {
@@ -199,15 +212,7 @@ public class GameCreationController {
                     // 恢复按钮状态
                     submitGameButton.setDisable(false);
                     submitGameButton.setText("提交创建");
-                });
-            } catch (Exception e) {
-                javafx.application.Platform.runLater(() -> {
-                    ControllerUtils.showErrorAlert("游戏创建失败: " + e.getMessage());
-                    submitGameButton.setDisable(false);
-                    submitGameButton.setText("提交创建");
-                });
-            }
-        }).start();
+                }, taskScope.fxExecutor());
     }
     
     @FXML
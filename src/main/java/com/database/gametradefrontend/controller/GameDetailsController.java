@@ -1,13 +1,16 @@
 package com.database.gametradefrontend.controller;
 
 import com.database.gametradefrontend.client.ApiClient;
+import com.database.gametradefrontend.model.GameReview;
 import com.database.gametradefrontend.model.User;
+import com.database.gametradefrontend.util.BackgroundTasks;
 import com.database.gametradefrontend.util.ControllerUtils;
+import com.database.gametradefrontend.util.ImageCache;
+import com.database.gametradefrontend.util.TaskScope;
 import javafx.fxml.FXML;
 import javafx.geometry.Pos;
 import javafx.scene.Scene;
 import javafx.scene.control.*;
-import javafx.scene.image.Image;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Priority;
 import javafx.scene.layout.Region;
@@ -18,7 +21,6 @@ import javafx.stage.Stage;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 
 /**
  * 游戏详情页面控制器
@@ -47,12 +49,18 @@ public class GameDetailsController {
 
     // API客户端
     private ApiClient apiClient;
+    
+    // 本界面发起的后台任务，界面关闭或切换时统一取消
+    private final TaskScope taskScope = BackgroundTasks.newScope("游戏详情");
 
     // 当前正在编辑的游戏
     private VendorMainController.Game currentEditingGame;
 
     @FXML
     public void initialize() {
+        // 界面关闭或切换时取消未完成的后台任务
+        taskScope.bindTo(backButton);
+        
         // 初始化代码（如果需要）
     }
 
@@ -75,20 +83,35 @@ public class GameDetailsController {
         pageTitleLabel.setText("加载中...");
         
         // 异步调用API获取游戏详情
-        new Thread(() -> {
-            try {
-                // 调用API查询游戏详情
-                String endpoint = "/vendors/query-game-info";
-                
-                // 准备请求数据
-                Map<String, Object> requestData = new HashMap<>();
-                requestData.put("gameName", game.getName());
-                
-                // 调用API获取游戏详情数据
-                Object response = apiClient.post(endpoint, requestData, Object.class);
-                
-                // 在主线程中更新UI
-                javafx.application.Platform.runLater(() -> {
+        // 调用API查询游戏详情
+        String endpoint = "/vendors/query-game-info";
+        
+        // 准备请求数据
+        Map<String, Object> requestData = new HashMap<>();
+        requestData.put("gameName", game.getName());
+        
+        // 调用API获取游戏详情数据
+        taskScope.track(apiClient.postAsync(endpoint, requestData, Object.class))
+                .whenCompleteAsync((response, error) -> {
+                    if (error != null) {
+                        Throwable e = ApiClient.unwrap(error);
+                        pageTitleLabel.setText("游戏详情");
+                        
+                        // 如果API调用失败，使用传入的游戏对象的基本信息
+                        gameNameLabel.setText(game.getName());
+                        companyNameLabel.setText("未知企业");
+                        releaseTimeLabel.setText("未知时间");
+                        statusLabel.setText(game.getStatus());
+                        categoryField.setText(game.getCategory());
+                        priceField.setText(game.getPrice());
+                        descriptionField.setText(game.getDescription());
+                        downloadLinkField.setText("");
+                        licenseNumberField.setText("");
+                        
+                        ControllerUtils.showErrorAlert("获取游戏详情失败: " + e.getMessage() + "，已显示基本信息");
+                        return;
+                    }
+                    // 在主线程中更新UI
                     pageTitleLabel.setText("游戏详情");
                     System.out.println(response.toString());
                     if (response instanceof List) {
@@ -137,26 +160,7 @@ public class GameDetailsController {
                         
                         ControllerUtils.showErrorAlert("获取游戏详情失败，已显示基本信息");
                     }
-                });
-            } catch (Exception e) {
-                javafx.application.Platform.runLater(() -> {
-                    pageTitleLabel.setText("游戏详情");
-                    
-                    // 如果API调用失败，使用传入的游戏对象的基本信息
-                    gameNameLabel.setText(game.getName());
-                    companyNameLabel.setText("未知企业");
-                    releaseTimeLabel.setText("未知时间");
-                    statusLabel.setText(game.getStatus());
-                    categoryField.setText(game.getCategory());
-                    priceField.setText(game.getPrice());
-                    descriptionField.setText(game.getDescription());
-                    downloadLinkField.setText("");
-                    licenseNumberField.setText("");
-                    
-                    ControllerUtils.showErrorAlert("获取游戏详情失败: " + e.getMessage() + "，已显示基本信息");
-                });
-            }
-        }).start();
+                }, taskScope.fxExecutor());
     }
 
     @FXML
@@ -202,48 +206,44 @@ public class GameDetailsController {
         saveButton.setText("保存中...");
 
         String finalPrice = price;
-        new Thread(() -> {
-            try {
-                // 调用API更新游戏信息
-                String endpoint = "/vendors/update-game";
-
-                // 准备请求数据
-                Map<String, Object> requestData = new HashMap<>();
-                requestData.put("account", currentUser.getAccount());
-                requestData.put("gameName", currentEditingGame.getName());
-                requestData.put("price", finalPrice);
-                requestData.put("description", description);
-                requestData.put("licenseNumber", licenseNumber);
-                requestData.put("downloadLink", downloadLink);
-                requestData.put("category", category);
-
-                // 调用API更新游戏信息
-                String result = apiClient.put(endpoint, requestData, String.class);
-
-                // 在主线程中更新UI
-                javafx.application.Platform.runLater(() -> {
+        // 调用API更新游戏信息
+        String endpoint = "/vendors/update-game";
+        
+        // 准备请求数据
+        Map<String, Object> requestData = new HashMap<>();
+        requestData.put("account", currentUser.getAccount());
+        requestData.put("gameName", currentEditingGame.getName());
+        requestData.put("price", finalPrice);
+        requestData.put("description", description);
+        requestData.put("licenseNumber", licenseNumber);
+        requestData.put("downloadLink", downloadLink);
+        requestData.put("category", category);
+        
+        // 调用API更新游戏信息
+        taskScope.track(apiClient.putAsync(endpoint, requestData, String.class))
+                .whenCompleteAsync((result, error) -> {
+                    if (error != null) {
+                        Throwable e = ApiClient.unwrap(error);
+                        ControllerUtils.showErrorAlert("游戏信息修改失败: " + e.getMessage());
+                        saveButton.setDisable(false);
+                        saveButton.setText("保存修改");
+                        return;
+                    }
+                    // 在主线程中更新UI
                     if (result != null && result.contains("成功")) {
                         ControllerUtils.showInfoAlert("游戏信息修改成功");
-
+                        
                         // 关闭窗口
                         Stage stage = (Stage) saveButton.getScene().getWindow();
                         stage.close();
                     } else {
                         ControllerUtils.showErrorAlert("游戏信息修改失败: " + result);
                     }
-
+                    
                     // 恢复按钮状态
                     saveButton.setDisable(false);
                     saveButton.setText("保存修改");
-                });
-            } catch (Exception e) {
-                javafx.application.Platform.runLater(() -> {
-                    ControllerUtils.showErrorAlert("游戏信息修改失败: " + e.getMessage());
-                    saveButton.setDisable(false);
-                    saveButton.setText("保存修改");
-                });
-            }
-        }).start();
+                }, taskScope.fxExecutor());
     }
 
     // 安全转换为字符串，处理null值
@@ -287,54 +287,39 @@ public class GameDetailsController {
         viewReviewsButton.setDisable(true);
         viewReviewsButton.setText("加载中...");
 
-        new Thread(() -> {
-            try {
-                // 调用API查询游戏评论
-                String endpoint = "/vendors/query-game-reviews";
-
-                // 准备请求数据
-                Map<String, Object> requestData = new HashMap<>();
-                requestData.put("account", currentUser.getAccount());
-                requestData.put("gameName", currentEditingGame.getName());
-
-                // 调用API获取评论数据
-                Object response = apiClient.post(endpoint, requestData, Object.class);
-
-                // 在主线程中更新UI
-                javafx.application.Platform.runLater(() -> {
+        // 调用API查询游戏评论
+        String endpoint = "/vendors/query-game-reviews";
+        
+        // 准备请求数据
+        Map<String, Object> requestData = new HashMap<>();
+        requestData.put("account", currentUser.getAccount());
+        requestData.put("gameName", currentEditingGame.getName());
+        
+        // 调用API获取评论数据
+        taskScope.track(apiClient.postAsync(endpoint, requestData, GameReview.LIST_TYPE))
+                .whenCompleteAsync((reviewsList, error) -> {
+                    if (error != null) {
+                        Throwable e = ApiClient.unwrap(error);
+                        viewReviewsButton.setDisable(false);
+                        viewReviewsButton.setText("买家评论");
+                        ControllerUtils.showErrorAlert("查询评论失败: " + e.getMessage());
+                        return;
+                    }
+                    // 在主线程中更新UI
                     viewReviewsButton.setDisable(false);
                     viewReviewsButton.setText("买家评论");
-
-                    if (response != null) {
-                        // 处理API响应
-                        List<Map<String, Object>> reviewsList = null;
-
-                        if (response instanceof List) {
-                            reviewsList = (List<Map<String, Object>>) response;
-                        }
-
-                        if (reviewsList != null && !reviewsList.isEmpty()) {
-                            // 显示评论窗口
-                            showReviewsWindow(reviewsList);
-                        } else {
-                            ControllerUtils.showInfoAlert("该游戏暂无评论");
-                        }
+                    
+                    if (reviewsList != null && !reviewsList.isEmpty()) {
+                        // 显示评论窗口
+                        showReviewsWindow(reviewsList);
                     } else {
-                        ControllerUtils.showErrorAlert("查询评论失败");
+                        ControllerUtils.showInfoAlert("该游戏暂无评论");
                     }
-                });
-            } catch (Exception e) {
-                javafx.application.Platform.runLater(() -> {
-                    viewReviewsButton.setDisable(false);
-                    viewReviewsButton.setText("买家评论");
-                    ControllerUtils.showErrorAlert("查询评论失败: " + e.getMessage());
-                });
-            }
-        }).start();
+                }, taskScope.fxExecutor());
     }
 
     // 显示评论窗口
-    private void showReviewsWindow(List<Map<String, Object>> reviewsList) {
+    private void showReviewsWindow(List<GameReview> reviewsList) {
         try {
             // 创建新窗口
             Stage reviewsStage = new Stage();
@@ -345,7 +330,7 @@ public class GameDetailsController {
             // 设置模态
             reviewsStage.initModality(Modality.WINDOW_MODAL);
             reviewsStage.initOwner(viewReviewsButton.getScene().getWindow());
-            reviewsStage.getIcons().add(new Image(Objects.requireNonNull(getClass().getResourceAsStream("/icon/yuanshen.png"))));
+            reviewsStage.getIcons().add(ImageCache.getAppIcon());
             // 创建评论列表容器
             VBox reviewsContainer = new VBox(10);
             reviewsContainer.setStyle("-fx-padding: 20; -fx-background-color: white;");
@@ -356,7 +341,7 @@ public class GameDetailsController {
             reviewsContainer.getChildren().add(titleLabel);
 
             // 添加评论项
-            for (Map<String, Object> review : reviewsList) {
+            for (GameReview review : reviewsList) {
                 VBox reviewItem = createReviewItem(review);
                 reviewsContainer.getChildren().add(reviewItem);
             }
@@ -388,7 +373,7 @@ public class GameDetailsController {
     }
 
     // 创建单个评论项
-    private VBox createReviewItem(Map<String, Object> review) {
+    private VBox createReviewItem(GameReview review) {
         VBox reviewItem = new VBox(5);
         reviewItem.setStyle("-fx-padding: 15; -fx-background-color: #f5f5f5; -fx-border-radius: 5; -fx-background-radius: 5;");
 
@@ -397,17 +382,17 @@ public class GameDetailsController {
         topRow.setAlignment(Pos.CENTER_LEFT);
 
         // 昵称
-        String nickname = safeToString(review.get("nickname"), "匿名用户");
+        String nickname = review.nickname();
         Label nicknameLabel = new Label(nickname);
         nicknameLabel.setStyle("-fx-font-weight: bold; -fx-font-size: 14px;");
 
         // 评价时间
-        String reviewTime = safeToString(review.get("reviewTime"), "未知时间");
+        String reviewTime = review.reviewTime();
         Label timeLabel = new Label(reviewTime);
         timeLabel.setStyle("-fx-text-fill: #666; -fx-font-size: 12px; -fx-padding: 0 10 0 10;");
 
         // 评分（星星显示）
-        String scoreStr = safeToString(review.get("score"), "0");
+        String scoreStr = review.score();
         double score = 0;
         try {
             score = Double.parseDouble(scoreStr);
@@ -440,7 +425,7 @@ public class GameDetailsController {
         topRow.getChildren().addAll(nicknameLabel, timeLabel, spacer, starsContainer);
 
         // 评论内容
-        String comment = safeToString(review.get("comment"), "暂无评论");
+        String comment = review.comment();
         Label commentLabel = new Label(comment);
         commentLabel.setWrapText(true);
         commentLabel.setStyle("-fx-font-size: 13px; -fx-padding: 5 0 0 0;");
@@ -1,8 +1,11 @@
 package com.database.gametradefrontend.controller;
 
+import com.database.gametradefrontend.client.ApiClient;
 import com.database.gametradefrontend.model.User;
 import com.database.gametradefrontend.service.UserService;
+import com.database.gametradefrontend.util.BackgroundTasks;
 import com.database.gametradefrontend.util.ControllerUtils;
+import com.database.gametradefrontend.util.TaskScope;
 import javafx.fxml.FXML;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
@@ -31,12 +34,18 @@ public class  LoginController {
     
     private final UserService userService;
     
+    // 本界面发起的后台任务，界面关闭或切换时统一取消
+    private final TaskScope taskScope = BackgroundTasks.newScope("登录");
+    
     public LoginController() {
         this.userService = new UserService();
     }
     
     @FXML
     public void initialize() {
+        // 界面关闭或切换时取消未完成的后台任务
+        taskScope.bindTo(loginButton);
+        
         // 初始化控制器
         setupEventHandlers();
     }
@@ -65,14 +74,15 @@ public class  LoginController {
         loginButton.setDisable(true);
         loginButton.setText("登录中...");
         
-        // 在新线程中执行登录操作
-        new Thread(() -> {
-            try {
-                // 调用用户服务进行登录验证
-                User user = userService.login(account, password);
-                
-                // 在主线程中更新UI
-                javafx.application.Platform.runLater(() -> {
+        // 在后台任务中执行登录操作
+        taskScope.supply(() -> userService.login(account, password))
+                .whenCompleteAsync((user, error) -> {
+                    if (error != null) {
+                        // 网络错误或其他异常
+                        onLoginFailure("登录失败: " + ApiClient.unwrap(error).getMessage());
+                        return;
+                    }
+                    // 在主线程中更新UI
                     if (user != null) {
                         // 登录成功
                         onLoginSuccess(user);
@@ -80,12 +90,7 @@ public class  LoginController {
                         // 登录失败
                         onLoginFailure("账号或密码错误");
                     }
-                });
-            } catch (Exception e) {
-                // 网络错误或其他异常
-                javafx.application.Platform.runLater(() -> onLoginFailure("登录失败: " + e.getMessage()));
-            }
-        }).start();
+                }, taskScope.fxExecutor());
     }
     
     private void onLoginSuccess(User user) {
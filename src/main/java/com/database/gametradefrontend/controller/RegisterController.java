@@ -1,7 +1,10 @@
 package com.database.gametradefrontend.controller;
 
+import com.database.gametradefrontend.client.ApiClient;
 import com.database.gametradefrontend.service.UserService;
+import com.database.gametradefrontend.util.BackgroundTasks;
 import com.database.gametradefrontend.util.ControllerUtils;
+import com.database.gametradefrontend.util.TaskScope;
 import javafx.fxml.FXML;
 import javafx.scene.control.*;
 
@@ -81,12 +84,18 @@ public class RegisterController {
 
     private final UserService userService;
     
+    // 本界面发起的后台任务，界面关闭或切换时统一取消
+    private final TaskScope taskScope = BackgroundTasks.newScope("注册");
+    
     public RegisterController() {
         this.userService = new UserService();
     }
     
     @FXML
     public void initialize() {
+        // 界面关闭或切换时取消未完成的后台任务
+        taskScope.bindTo(registerButton);
+        
         // 创建ToggleGroup并绑定到RadioButton
         roleToggleGroup = new ToggleGroup();
         buyerRadio.setToggleGroup(roleToggleGroup);
@@ -389,14 +398,15 @@ public class RegisterController {
         registerButton.setDisable(true);
         registerButton.setText("注册中...");
         
-        // 在新线程中执行注册操作
-        new Thread(() -> {
-            try {
-                // 调用用户服务进行买家注册
-                boolean success = userService.registerBuyer(account, password, contact, nickname);
-                
-                // 在主线程中更新UI
-                javafx.application.Platform.runLater(() -> {
+        // 在后台任务中执行注册操作
+        taskScope.supply(() -> userService.registerBuyer(account, password, contact, nickname))
+                .whenCompleteAsync((success, error) -> {
+                    if (error != null) {
+                        // 网络错误或其他异常
+                        onRegisterFailure("注册失败: " + ApiClient.unwrap(error).getMessage());
+                        return;
+                    }
+                    // 在主线程中更新UI
                     if (success) {
                         // 注册成功
                         onRegisterSuccess();
@@ -404,12 +414,7 @@ public class RegisterController {
                         // 注册失败
                         onRegisterFailure("账号、联系方式或昵称已存在");
                     }
-                });
-            } catch (Exception e) {
-                // 网络错误或其他异常
-                javafx.application.Platform.runLater(() -> onRegisterFailure("注册失败: " + e.getMessage()));
-            }
-        }).start();
+                }, taskScope.fxExecutor());
     }
     
     private void handleVendorRegistration(String account, String password, String contact) {
@@ -436,15 +441,16 @@ public class RegisterController {
         registerButton.setDisable(true);
         registerButton.setText("注册中...");
         
-        // 在新线程中执行注册操作
-        new Thread(() -> {
-            try {
-                // 调用用户服务进行厂商注册
-                boolean success = userService.registerVendor(account, password, contact, 
-                    companyName, registeredAddress, contactPerson);
-                
-                // 在主线程中更新UI
-                javafx.application.Platform.runLater(() -> {
+        // 在后台任务中执行注册操作
+        taskScope.supply(() -> userService.registerVendor(account, password, contact,
+                        companyName, registeredAddress, contactPerson))
+                .whenCompleteAsync((success, error) -> {
+                    if (error != null) {
+                        // 网络错误或其他异常
+                        onRegisterFailure("注册失败: " + ApiClient.unwrap(error).getMessage());
+                        return;
+                    }
+                    // 在主线程中更新UI
                     if (success) {
                         // 注册成功
                         onRegisterSuccess();
@@ -452,12 +458,7 @@ public class RegisterController {
                         // 注册失败
                         onRegisterFailure("账号、联系方式或企业名已存在");
                     }
-                });
-            } catch (Exception e) {
-                // 网络错误或其他异常
-                javafx.application.Platform.runLater(() -> onRegisterFailure("注册失败: " + e.getMessage()));
-            }
-        }).start();
+                }, taskScope.fxExecutor());
     }
     
     private void showAlert(String message) {
@@ -1,6 +1,9 @@
 package com.database.gametradefrontend.controller;
 
+import com.database.gametradefrontend.client.ApiClient;
 import com.database.gametradefrontend.model.User;
+import com.database.gametradefrontend.service.GameCatalog;
+import com.database.gametradefrontend.service.GameReviewStore;
 
 /**
  * 用户会话管理类（单例模式）
@@ -94,6 +97,10 @@ public class UserSession {
     public void logout() {
         this.currentUser = null;
         this.loginTime = 0;
+        // 缓存的响应属于当前用户，登出后不能再给下一个用户使用
+        ApiClient.clearCache();
+        GameCatalog.getInstance().clear();
+        GameReviewStore.getInstance().clear();
     }
     
     /**
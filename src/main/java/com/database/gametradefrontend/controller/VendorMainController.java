@@ -1,8 +1,18 @@
 package com.database.gametradefrontend.controller;
 
 import com.database.gametradefrontend.client.ApiClient;
+import com.database.gametradefrontend.client.Deadline;
+import com.database.gametradefrontend.client.RequestBatch;
+import com.database.gametradefrontend.model.SalesRecord;
 import com.database.gametradefrontend.model.User;
+import com.database.gametradefrontend.model.VendorGame;
+import com.database.gametradefrontend.service.SnapshotStore;
+import com.database.gametradefrontend.util.BackgroundTasks;
 import com.database.gametradefrontend.util.ControllerUtils;
+import com.database.gametradefrontend.util.ImageCache;
+import com.database.gametradefrontend.util.TaskScope;
+import com.database.gametradefrontend.util.ViewModels;
+import com.fasterxml.jackson.core.type.TypeReference;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
@@ -20,6 +30,7 @@ import javafx.stage.Stage;
 
 import java.math.BigDecimal;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 
 
 /**
@@ -31,6 +42,7 @@ public class VendorMainController {
     public TextField contactPersonField;
     // 顶部导航组件
     @FXML private Label userInfoLabel;
+    @FXML private Label backendStatusBanner;
     @FXML private Button logoutButton;
     
     // 选项卡按钮
@@ -103,15 +115,28 @@ public class VendorMainController {
     // API客户端
     private ApiClient apiClient;
     
+    // 本界面发起的后台任务，界面关闭或切换时统一取消
+    private final TaskScope taskScope = BackgroundTasks.newScope("厂商中心");
+    
     // 模拟数据
     private final List<Game> games = new ArrayList<>();
+    // 游戏卡片当前显示的是本地快照，服务器数据返回后替换
+    private boolean showingGameSnapshot;
     private final ObservableList<SalesData> salesData = FXCollections.observableArrayList();
     
     // 当前正在编辑的游戏
     private Game currentEditingGame;
     
+    private static final TypeReference<Map<String, Object>> PERSONAL_INFO_TYPE = new TypeReference<>() {};
+    
+    // 个人信息是否已加载
+    private boolean personalInfoLoaded;
+    
     @FXML
     public void initialize() {
+        // 界面关闭或切换时取消未完成的后台任务
+        taskScope.bindTo(backButton);
+        
         // 获取当前用户信息
         currentUser = UserSession.getInstance().getCurrentUser();
         if (currentUser == null) {
@@ -122,13 +147,18 @@ public class VendorMainController {
         // 创建API客户端实例
         apiClient = new ApiClient();
         
+        // 后端熔断时在顶部显示提示
+        ControllerUtils.bindBackendStatus(backendStatusBanner);
+        
         // 初始化用户界面
         initializeUserInfo();
         initializeTabs();
-        initializeGameCards();
         initializeTables();
         setupEventHandlers();
         
+        // 游戏、销售数据和个人信息一次性并行加载
+        loadDashboardData();
+        
         // 默认显示游戏概览页面
         showDashboard();
     }
@@ -143,7 +173,77 @@ public class VendorMainController {
         dashboardTab.getStyleClass().add("tab-active");
     }
     
+    /**
+     * 首次进入界面时，把游戏列表、销售数据和个人信息三个请求合并为一批同时发出，
+     * 全部返回后在同一次UI更新中渲染，而不是依次等待三个往返；
+     * 游戏和销售数据在后台线程转换为界面对象，主线程只负责渲染；
+     * 整批请求（含重试）共享同一个截止时间，超时的请求直接失败，不会拖住整个界面
+     */
+    private void loadDashboardData() {
+        showGameCardsLoading();
+        saveProfileButton.setDisable(true);
+        saveProfileButton.setText("加载中...");
+        
+        RequestBatch batch = apiClient.withDeadline(Deadline.forAction()).batch();
+        CompletableFuture<List<VendorGame>> vendorGames =
+                batch.post("/vendors/query-vendor-games", accountRequest(), VendorGame.LIST_TYPE);
+        vendorGames.thenAccept(list -> SnapshotStore.save(gamesSnapshotKey(), list));
+        CompletableFuture<List<Game>> gameList = ViewModels.mapAsync(vendorGames, Game::from);
+        CompletableFuture<List<SalesData>> salesList = ViewModels.mapAsync(
+                batch.post("/vendors/query-game-sales", accountRequest(), SalesRecord.LIST_TYPE), SalesData::from);
+        CompletableFuture<Map<String, Object>> personalInfo =
+                batch.get("/vendors/personal-info?account=" + currentUser.getAccount(), PERSONAL_INFO_TYPE);
+        
+        // 等批内请求和后台转换都结束后再统一渲染
+        CompletableFuture<Void> sent = batch.send();
+        CompletableFuture<Void> ready = sent.thenCompose(ignored -> CompletableFuture.allOf(
+                gameList.handle((value, error) -> null), salesList.handle((value, error) -> null)));
+        ready.whenComplete((value, error) -> {
+            if (ready.isCancelled()) {
+                sent.cancel(true);
+            }
+        });
+        
+        // 服务器数据返回前先显示上次保存的游戏快照
+        taskScope.track(ViewModels.mapAsync(SnapshotStore.loadAsync(gamesSnapshotKey(), VendorGame.LIST_TYPE), Game::from))
+                .whenCompleteAsync((snapshot, error) -> {
+                    if (error == null && snapshot != null && !snapshot.isEmpty() && !ready.isDone()) {
+                        renderGameCards(snapshot, null);
+                        showingGameSnapshot = true;
+                    }
+                }, taskScope.fxExecutor());
+        
+        taskScope.track(ready)
+                .whenCompleteAsync((ignored, error) -> {
+                    // 批内请求均已结束，各自按成功或失败渲染
+                    gameList.whenComplete(this::renderGameCards);
+                    salesList.whenComplete(this::renderSalesData);
+                    personalInfo.whenComplete(this::renderPersonalInfo);
+                }, taskScope.fxExecutor());
+    }
+    
+    private Map<String, Object> accountRequest() {
+        return Map.of("account", currentUser.getAccount());
+    }
+    
+    private String gamesSnapshotKey() {
+        return "vendor-games:" + currentUser.getAccount();
+    }
+    
     private void initializeGameCards() {
+        showGameCardsLoading();
+        
+        // 异步从API获取游戏数据
+        // 调用API获取厂商游戏数据
+        String endpoint = "/vendors/query-vendor-games";
+        
+        CompletableFuture<List<VendorGame>> vendorGames = apiClient.postAsync(endpoint, accountRequest(), VendorGame.LIST_TYPE);
+        vendorGames.thenAccept(list -> SnapshotStore.save(gamesSnapshotKey(), list));
+        taskScope.track(ViewModels.mapAsync(vendorGames, Game::from))
+                .whenCompleteAsync(this::renderGameCards, taskScope.fxExecutor());
+    }
+    
+    private void showGameCardsLoading() {
         // 清空现有卡片
         gameCardsContainer.getChildren().clear();
         
@@ -151,64 +251,46 @@ public class VendorMainController {
         Label loadingLabel = new Label("正在加载游戏数据...");
         loadingLabel.getStyleClass().add("loading-label");
         gameCardsContainer.getChildren().add(loadingLabel);
+    }
+    
+    private void renderGameCards(List<Game> gameList, Throwable error) {
+        boolean snapshotShown = showingGameSnapshot;
+        showingGameSnapshot = false;
+        if (error != null) {
+            Throwable e = ApiClient.unwrap(error);
+            if (snapshotShown) {
+                // 保留已显示的快照，只提示刷新失败
+                ControllerUtils.showErrorAlert("刷新游戏数据失败，当前显示的是上次保存的数据: " + e.getMessage());
+                return;
+            }
+            // 在主线程中显示错误信息
+            gameCardsContainer.getChildren().clear();
+            Label errorLabel = new Label("加载游戏数据失败: " + e.getMessage());
+            errorLabel.getStyleClass().add("error-label");
+            gameCardsContainer.getChildren().add(errorLabel);
+            ControllerUtils.showErrorAlert("加载游戏数据失败: " + e.getMessage());
+            return;
+        }
+        // 在主线程中更新UI
+        // 清空加载状态
+        gameCardsContainer.getChildren().clear();
         
-        // 异步从API获取游戏数据
-        new Thread(() -> {
-            try {
-                // 调用API获取厂商游戏数据
-                String endpoint = "/vendors/query-vendor-games";
-                // 准备请求数据，包含account参数
-                Map<String, Object> requestData = new HashMap<>();
-                requestData.put("account", currentUser.getAccount());
-                
-                Object response = apiClient.post(endpoint, requestData, Object.class);
-                
-                // 在主线程中更新UI
-                javafx.application.Platform.runLater(() -> {
-                    // 清空加载状态
-                    gameCardsContainer.getChildren().clear();
-                    
-                    List<Map<String, Object>> gameList = (List<Map<String, Object>>) response;
-                    
-                    if (gameList != null && !gameList.isEmpty()) {
-                        games.clear();
-                        
-                        // 处理API返回的游戏数据
-                        for (Map<String, Object> gameData : gameList) {
-                            String name = gameData.getOrDefault("gameName", gameData.getOrDefault("name", "未知游戏")).toString();
-                            String category = gameData.getOrDefault("category", "未知类别").toString();
-                            String price = gameData.getOrDefault("price", "免费").toString();
-                            String status = gameData.getOrDefault("status", "未知状态").toString();
-                            String description = gameData.getOrDefault("description", "暂无简介").toString();
-                            String image = gameData.getOrDefault("image", "yuanshen.png").toString();
-
-                            
-                            // 创建游戏对象
-                            Game game = new Game(name, category, price, image, description, status);
-                            games.add(game);
-                            
-                            // 创建游戏卡片
-                            StackPane gameCard = createGameCard(game);
-                            gameCardsContainer.getChildren().add(gameCard);
-                        }
-                    } else {
-                        // 如果没有数据，显示提示信息
-                        Label noDataLabel = new Label("暂无游戏数据");
-                        noDataLabel.getStyleClass().add("no-data-label");
-                        gameCardsContainer.getChildren().add(noDataLabel);
-                    }
-                });
-            } catch (Exception e) {
-                // 在主线程中显示错误信息
-                javafx.application.Platform.runLater(() -> {
-                    gameCardsContainer.getChildren().clear();
-                    Label errorLabel = new Label("加载游戏数据失败: " + e.getMessage());
-                    errorLabel.getStyleClass().add("error-label");
-                    gameCardsContainer.getChildren().add(errorLabel);
-                    ControllerUtils.showErrorAlert("加载游戏数据失败: " + e.getMessage());
-                });
+        if (gameList != null && !gameList.isEmpty()) {
+            games.clear();
+            games.addAll(gameList);
+            
+            // 游戏对象已在后台线程创建，这里只创建游戏卡片，一次性加入容器
+            List<StackPane> gameCards = new ArrayList<>(gameList.size());
+            for (Game game : gameList) {
+                gameCards.add(createGameCard(game));
             }
-        }).start();
+            gameCardsContainer.getChildren().setAll(gameCards);
+        } else {
+            // 如果没有数据，显示提示信息
+            Label noDataLabel = new Label("暂无游戏数据");
+            noDataLabel.getStyleClass().add("no-data-label");
+            gameCardsContainer.getChildren().add(noDataLabel);
+        }
     }
     
     private StackPane createGameCard(Game game) {
@@ -223,25 +305,13 @@ public class VendorMainController {
         // 游戏图片
         ImageView imageView = new ImageView();
 
-        // 首先尝试加载用户传入的图片路径
-        try {
-            Image image = new Image(Objects.requireNonNull(getClass().getResourceAsStream(game.getImage())));
+        // 依次尝试图片路径、icon目录下的同名图片和默认图片（共享缓存，同一图片只解码一次）
+        Image image = ImageCache.getGameImage(game.getImage(), 200, 120);
+        if (image != null) {
             imageView.setImage(image);
-        } catch (Exception e) {
-            // 如果直接路径找不到，尝试在icon目录下查找
-            try {
-                Image image = new Image(Objects.requireNonNull(getClass().getResourceAsStream("/icon/" + game.getImage())));
-                imageView.setImage(image);
-            } catch (Exception ex) {
-                // 如果icon目录下也找不到，使用默认图片
-                try {
-                    Image defaultImage = new Image(Objects.requireNonNull(getClass().getResourceAsStream("/icon/yuanshen.png")));
-                    imageView.setImage(defaultImage);
-                } catch (Exception exc) {
-                    // 如果默认图片也不存在，创建一个占位符
-                    imageView.setStyle("-fx-background-color: #667eea; -fx-min-width: 250px; -fx-min-height: 150px;");
-                }
-            }
+        } else {
+            // 如果默认图片也不存在，创建一个占位符
+            imageView.setStyle("-fx-background-color: #667eea; -fx-min-width: 250px; -fx-min-height: 150px;");
         }
         imageView.setFitWidth(200);
         imageView.setFitHeight(120);
@@ -314,11 +384,8 @@ public class VendorMainController {
     }
     
     private void initializeTables() {
-        // 初始化销售数据表格列
+        // 初始化销售数据表格列（数据随loadDashboardData一起加载）
         initializeSalesTableColumns();
-        
-        // 异步加载销售数据
-        loadSalesData();
     }
     
     private void initializeSalesTableColumns() {
@@ -344,91 +411,46 @@ public class VendorMainController {
     }
     
     private void loadSalesData() {
-        new Thread(() -> {
-            try {
-                // 调用API获取销售数据
-                String endpoint = "/vendors/query-game-sales";
-                Map<String, Object> requestData = Map.of("account", currentUser.getAccount());
-                
-                Object response = apiClient.post(endpoint, requestData, Object.class);
-                // 在主线程中更新UI
-                javafx.application.Platform.runLater(() -> {
-                    // 恢复按钮状态
-                    refreshSalesDataButton.setDisable(false);
-                    refreshSalesDataButton.setText("刷新");
-                    
-                    if (response instanceof List) {
-                        List<Map<String, Object>> salesList = (List<Map<String, Object>>) response;
-                        
-                        salesData.clear();
-                        
-                        if (!salesList.isEmpty()) {
-                            // 处理API返回的销售数据
-                            for (Map<String, Object> saleData : salesList) {
-                                String gameName = getStringValue(saleData, "gameName", "未知游戏");
-                                String category = getStringValue(saleData, "category", "未知类别");
-                                String price = getStringValue(saleData, "price", "免费");
-                                int salesVolume = getIntValue(saleData, "salesVolume", 0);
-                                int visitorCount = getIntValue(saleData, "visitorCount", 0);
-                                BigDecimal salesAmount = getBigDecimalValue(saleData, "salesAmount", BigDecimal.ZERO);
-                                BigDecimal conversionRate = getBigDecimalValue(saleData, "conversionRate", BigDecimal.ZERO);
-                                String status = getStringValue(saleData, "status", "未知状态");
-                                
-                                SalesData salesItem = new SalesData(gameName, category, price, salesVolume, 
-                                                                   visitorCount, salesAmount, conversionRate, status);
-                                salesData.add(salesItem);
-                            }
-                        } else {
-                            // 如果没有数据，添加一条提示信息
-                            SalesData emptyData = new SalesData("暂无数据", "-", "-", 0, 0, 
-                                                              BigDecimal.ZERO, BigDecimal.ZERO, "-");
-                            salesData.add(emptyData);
-                        }
-                        
-                        salesTable.setItems(salesData);
-                    } else {
-                        ControllerUtils.showErrorAlert("销售数据格式错误");
-                    }
-                });
-            } catch (Exception e) {
-                javafx.application.Platform.runLater(() -> {
-                    // 恢复按钮状态
-                    refreshSalesDataButton.setDisable(false);
-                    refreshSalesDataButton.setText("刷新");
-                    
-                    ControllerUtils.showErrorAlert("加载销售数据失败: " + e.getMessage());
-                    // 添加错误提示数据
-                    salesData.clear();
-                    SalesData errorData = new SalesData("加载失败", "-", "-", 0, 0, 
-                                                      BigDecimal.ZERO, BigDecimal.ZERO, "-");
-                    salesData.add(errorData);
-                    salesTable.setItems(salesData);
-                });
-            }
-        }).start();
-    }
-    
-    private String getStringValue(Map<String, Object> data, String key, String defaultValue) {
-        Object value = data.get(key);
-        return value != null ? value.toString() : defaultValue;
+        // 调用API获取销售数据
+        String endpoint = "/vendors/query-game-sales";
+        Map<String, Object> requestData = Map.of("account", currentUser.getAccount());
+        
+        taskScope.track(ViewModels.mapAsync(apiClient.postAsync(endpoint, requestData, SalesRecord.LIST_TYPE), SalesData::from))
+                .whenCompleteAsync(this::renderSalesData, taskScope.fxExecutor());
     }
     
-    private int getIntValue(Map<String, Object> data, String key, int defaultValue) {
-        try {
-            Object value = data.get(key);
-            return value != null ? Integer.parseInt(value.toString()) : defaultValue;
-        } catch (NumberFormatException e) {
-            return defaultValue;
+    private void renderSalesData(List<SalesData> salesList, Throwable error) {
+        if (error != null) {
+            Throwable e = ApiClient.unwrap(error);
+            // 恢复按钮状态
+            refreshSalesDataButton.setDisable(false);
+            refreshSalesDataButton.setText("刷新");
+            
+            ControllerUtils.showErrorAlert("加载销售数据失败: " + e.getMessage());
+            // 添加错误提示数据
+            salesData.clear();
+            SalesData errorData = new SalesData("加载失败", "-", "-", 0, 0, 
+                                              BigDecimal.ZERO, BigDecimal.ZERO, "-");
+            salesData.add(errorData);
+            salesTable.setItems(salesData);
+            return;
         }
-    }
-    
-    private BigDecimal getBigDecimalValue(Map<String, Object> data, String key, BigDecimal defaultValue) {
-        try {
-            Object value = data.get(key);
-            return value != null ? new BigDecimal(value.toString()) : defaultValue;
-        } catch (Exception e) {
-            return defaultValue;
+        // 在主线程中更新UI
+        // 恢复按钮状态
+        refreshSalesDataButton.setDisable(false);
+        refreshSalesDataButton.setText("刷新");
+        
+        if (salesList != null && !salesList.isEmpty()) {
+            // 销售数据已在后台线程转换，一次性替换表格内容
+            salesData.setAll(salesList);
+        } else {
+            // 如果没有数据，添加一条提示信息
+            SalesData emptyData = new SalesData("暂无数据", "-", "-", 0, 0, 
+                                              BigDecimal.ZERO, BigDecimal.ZERO, "-");
+            salesData.setAll(emptyData);
         }
+        
+        salesTable.setItems(salesData);
     }
     
     private void setupEventHandlers() {
@@ -458,7 +480,8 @@ public class VendorMainController {
         refreshSalesDataButton.setDisable(true);
         refreshSalesDataButton.setText("刷新中...");
         
-        // 重新加载销售数据
+        // 重新加载销售数据（跳过缓存）
+        ApiClient.invalidateCache("/vendors/query-game-sales");
         loadSalesData();
         
         // 延迟恢复按钮状态（在loadSalesData的异步回调中处理）
@@ -489,8 +512,10 @@ public class VendorMainController {
         showContent(profileContent);
         setActiveTab(profileTab);
         
-        // 从API获取个人信息
-        loadPersonalInfoFromAPI();
+        // 从API获取个人信息（随界面首次加载已获取过的不再重复请求）
+        if (!personalInfoLoaded) {
+            loadPersonalInfoFromAPI();
+        }
     }
     
     private void loadPersonalInfoFromAPI() {
@@ -498,40 +523,38 @@ public class VendorMainController {
         saveProfileButton.setDisable(true);
         saveProfileButton.setText("加载中...");
         
-        new Thread(() -> {
-            try {
-                // 将account作为查询参数添加到GET请求
-                String endpoint = "/vendors/personal-info?account=" + currentUser.getAccount();
-                
-                // 调用API获取个人信息
-                Map<String, Object> personalInfo = apiClient.get(endpoint, Map.class);
-                
-                // 在主线程中更新UI
-                javafx.application.Platform.runLater(() -> {
-                    if (personalInfo != null) {
-                        // 填充个人信息表单
-                        accountLabel.setText(currentUser.getAccount());
-                        companyLabel.setText(personalInfo.getOrDefault("companyName", "未设置").toString());
-                        addressField.setText(personalInfo.getOrDefault("registeredAddress", "").toString());
-                        contactField.setText(personalInfo.getOrDefault("contact", "").toString());
-                        contactPersonField.setText(personalInfo.getOrDefault("contactPerson", "").toString());
-
-                    } else {
-                        ControllerUtils.showErrorAlert("获取个人信息失败");
-                    }
-                    
-                    // 恢复按钮状态
-                    saveProfileButton.setDisable(false);
-                    saveProfileButton.setText("保存修改");
-                });
-            } catch (Exception e) {
-                javafx.application.Platform.runLater(() -> {
-                    ControllerUtils.showErrorAlert("获取个人信息失败: " + e.getMessage());
-                    saveProfileButton.setDisable(false);
-                    saveProfileButton.setText("保存修改");
-                });
-            }
-        }).start();
+        // 将account作为查询参数添加到GET请求
+        String endpoint = "/vendors/personal-info?account=" + currentUser.getAccount();
+        
+        // 调用API获取个人信息
+        taskScope.track(apiClient.getAsync(endpoint, PERSONAL_INFO_TYPE))
+                .whenCompleteAsync(this::renderPersonalInfo, taskScope.fxExecutor());
+    }
+    
+    private void renderPersonalInfo(Map<String, Object> personalInfo, Throwable error) {
+        if (error != null) {
+            Throwable e = ApiClient.unwrap(error);
+            ControllerUtils.showErrorAlert("获取个人信息失败: " + e.getMessage());
+            saveProfileButton.setDisable(false);
+            saveProfileButton.setText("保存修改");
+            return;
+        }
+        // 在主线程中更新UI
+        if (personalInfo != null) {
+            // 填充个人信息表单
+            accountLabel.setText(currentUser.getAccount());
+            companyLabel.setText(personalInfo.getOrDefault("companyName", "未设置").toString());
+            addressField.setText(personalInfo.getOrDefault("registeredAddress", "").toString());
+            contactField.setText(personalInfo.getOrDefault("contact", "").toString());
+            contactPersonField.setText(personalInfo.getOrDefault("contactPerson", "").toString());
+            personalInfoLoaded = true;
+        } else {
+            ControllerUtils.showErrorAlert("获取个人信息失败");
+        }
+        
+        // 恢复按钮状态
+        saveProfileButton.setDisable(false);
+        saveProfileButton.setText("保存修改");
     }
     
     private void showContent(VBox contentToShow) {
@@ -585,28 +608,32 @@ public class VendorMainController {
         saveProfileButton.setDisable(true);
         saveProfileButton.setText("保存中...");
         
-        new Thread(() -> {
-            try {
-                // 准备请求数据（包含所有必要字段）
-                Map<String, Object> requestData = new HashMap<>();
-                requestData.put("contact", contact); // 对应后端的contact
-                requestData.put("registeredAddress", address); // 对应后端的registeredAddress
-                requestData.put("contactPerson", contactPerson); // 对应后端的contactPerson
-                
-                // 将account作为查询参数添加到URL
-                String endpoint = "/vendors/personal-info?account=" + currentUser.getAccount();
-                
-                // 调用API保存个人信息
-                String result = apiClient.put(endpoint, requestData, String.class);
-                
-                // 在主线程中更新UI
-                javafx.application.Platform.runLater(() -> {
+        // 准备请求数据（包含所有必要字段）
+        Map<String, Object> requestData = new HashMap<>();
+        requestData.put("contact", contact); // 对应后端的contact
+        requestData.put("registeredAddress", address); // 对应后端的registeredAddress
+        requestData.put("contactPerson", contactPerson); // 对应后端的contactPerson
+        
+        // 将account作为查询参数添加到URL
+        String endpoint = "/vendors/personal-info?account=" + currentUser.getAccount();
+        
+        // 调用API保存个人信息
+        taskScope.track(apiClient.putAsync(endpoint, requestData, String.class))
+                .whenCompleteAsync((result, error) -> {
+                    if (error != null) {
+                        Throwable e = ApiClient.unwrap(error);
+                        ControllerUtils.showErrorAlert("保存个人信息失败: " + e.getMessage());
+                        saveProfileButton.setDisable(false);
+                        saveProfileButton.setText("保存修改");
+                        return;
+                    }
+                    // 在主线程中更新UI
                     if (result != null) {
                         // 更新本地用户信息
                         currentUser.setAddress(address);
                         currentUser.setContact(contact);
                         currentUser.setContactPerson(contactPerson);
-
+                    
                     } else {
                         ControllerUtils.showErrorAlert("保存个人信息失败");
                     }
@@ -614,15 +641,7 @@ public class VendorMainController {
                     // 恢复按钮状态
                     saveProfileButton.setDisable(false);
                     saveProfileButton.setText("保存修改");
-                });
-            } catch (Exception e) {
-                javafx.application.Platform.runLater(() -> {
-                    ControllerUtils.showErrorAlert("保存个人信息失败: " + e.getMessage());
-                    saveProfileButton.setDisable(false);
-                    saveProfileButton.setText("保存修改");
-                });
-            }
-        }).start();
+                }, taskScope.fxExecutor());
     }
     
     @FXML
@@ -637,7 +656,7 @@ public class VendorMainController {
             // 设置模态，但不阻塞主窗口
             gameCreationStage.initModality(Modality.WINDOW_MODAL);
             gameCreationStage.initOwner(createGameButton.getScene().getWindow());
-            gameCreationStage.getIcons().add(new Image(Objects.requireNonNull(getClass().getResourceAsStream("/icon/yuanshen.png"))));
+            gameCreationStage.getIcons().add(ImageCache.getAppIcon());
             // 加载FXML文件
             FXMLLoader loader = new FXMLLoader(getClass().getResource("/com/database/gametradefrontend/view/create-game.fxml"));
             Parent root = loader.load();
@@ -666,7 +685,7 @@ public class VendorMainController {
             // 设置模态，但不阻塞主窗口
             editGamesStage.initModality(Modality.WINDOW_MODAL);
             editGamesStage.initOwner(editGameButton.getScene().getWindow());
-            editGamesStage.getIcons().add(new Image(Objects.requireNonNull(getClass().getResourceAsStream("/icon/yuanshen.png"))));
+            editGamesStage.getIcons().add(ImageCache.getAppIcon());
             
             // 加载FXML文件
             FXMLLoader loader = new FXMLLoader(getClass().getResource("/com/database/gametradefrontend/view/edit-games.fxml"));
@@ -696,7 +715,7 @@ public class VendorMainController {
             // 设置模态，但不阻塞主窗口
             publishGameStage.initModality(Modality.WINDOW_MODAL);
             publishGameStage.initOwner(publishGameButton.getScene().getWindow());
-            publishGameStage.getIcons().add(new Image(Objects.requireNonNull(getClass().getResourceAsStream("/icon/yuanshen.png"))));
+            publishGameStage.getIcons().add(ImageCache.getAppIcon());
             
             // 加载FXML文件 - 创建一个新的FXML文件来显示上架申请结果
             FXMLLoader loader = new FXMLLoader(getClass().getResource("/com/database/gametradefrontend/view/publish-games.fxml"));
@@ -733,7 +752,7 @@ public class VendorMainController {
             // 设置模态，但不阻塞主窗口
             unpublishGameStage.initModality(Modality.WINDOW_MODAL);
             unpublishGameStage.initOwner(unpublishGameButton.getScene().getWindow());
-            unpublishGameStage.getIcons().add(new Image(Objects.requireNonNull(getClass().getResourceAsStream("/icon/yuanshen.png"))));
+            unpublishGameStage.getIcons().add(ImageCache.getAppIcon());
             
             // 加载FXML文件 - 创建一个新的FXML文件来显示下架申请结果
             FXMLLoader loader = new FXMLLoader(getClass().getResource("/com/database/gametradefrontend/view/unpublish-games.fxml"));
@@ -789,26 +808,30 @@ public class VendorMainController {
         saveButton.setDisable(true);
         saveButton.setText("保存中...");
         
-        new Thread(() -> {
-            try {
-                // 调用API更新游戏信息
-                String endpoint = "/vendors/update-game";
-                
-                // 准备请求数据
-                Map<String, Object> requestData = new HashMap<>();
-                requestData.put("account", currentUser.getAccount());
-                requestData.put("gameName", currentEditingGame.getName());
-                requestData.put("price", price);
-                requestData.put("description", description);
-                requestData.put("licenseNumber", licenseNumber);
-                requestData.put("downloadLink", downloadLink);
-                requestData.put("category", category);
-                
-                // 调用API更新游戏信息
-                String result = apiClient.put(endpoint, requestData, String.class);
-                
-                // 在主线程中更新UI
-                javafx.application.Platform.runLater(() -> {
+        // 调用API更新游戏信息
+        String endpoint = "/vendors/update-game";
+        
+        // 准备请求数据
+        Map<String, Object> requestData = new HashMap<>();
+        requestData.put("account", currentUser.getAccount());
+        requestData.put("gameName", currentEditingGame.getName());
+        requestData.put("price", price);
+        requestData.put("description", description);
+        requestData.put("licenseNumber", licenseNumber);
+        requestData.put("downloadLink", downloadLink);
+        requestData.put("category", category);
+        
+        // 调用API更新游戏信息
+        taskScope.track(apiClient.putAsync(endpoint, requestData, String.class))
+                .whenCompleteAsync((result, error) -> {
+                    if (error != null) {
+                        Throwable e = ApiClient.unwrap(error);
+                        ControllerUtils.showErrorAlert("游戏信息修改失败: " + e.getMessage());
+                        saveButton.setDisable(false);
+                        saveButton.setText("保存修改");
+                        return;
+                    }
+                    // 在主线程中更新UI
                     if (result != null && result.contains("成功")) {
                         ControllerUtils.showInfoAlert("游戏信息修改成功");
                         
@@ -825,20 +848,13 @@ public class VendorMainController {
                     // 恢复按钮状态
                     saveButton.setDisable(false);
                     saveButton.setText("保存修改");
-                });
-            } catch (Exception e) {
-                javafx.application.Platform.runLater(() -> {
-                    ControllerUtils.showErrorAlert("游戏信息修改失败: " + e.getMessage());
-                    saveButton.setDisable(false);
-                    saveButton.setText("保存修改");
-                });
-            }
-        }).start();
+                }, taskScope.fxExecutor());
     }
     
     @FXML
     private void handleRefresh() {
-        // 重新加载游戏数据
+        // 重新加载游戏数据（跳过缓存）
+        ApiClient.invalidateCache("/vendors/query-vendor-games");
         initializeGameCards();
         ControllerUtils.showInfoAlert("游戏数据已刷新");
     }
@@ -854,7 +870,7 @@ public class VendorMainController {
             // 设置模态，但不阻塞主窗口
             gameDetailsStage.initModality(Modality.WINDOW_MODAL);
             gameDetailsStage.initOwner(gameCardsContainer.getScene().getWindow());
-            gameDetailsStage.getIcons().add(new Image(Objects.requireNonNull(getClass().getResourceAsStream("/icon/yuanshen.png"))));
+            gameDetailsStage.getIcons().add(ImageCache.getAppIcon());
             
             // 加载FXML文件
             FXMLLoader loader = new FXMLLoader(getClass().getResource("/com/database/gametradefrontend/view/game-details.fxml"));
@@ -918,6 +934,10 @@ public class VendorMainController {
             this.releaseTime = releaseTime;
         }
         
+        public static Game from(VendorGame game) {
+            return new Game(game.gameName(), game.category(), game.price(), game.image(), game.description(), game.status());
+        }
+        
         public String getName() { return name; }
         public String getCategory() { return category; }
         public String getPrice() { return price; }
@@ -958,6 +978,11 @@ public class VendorMainController {
             this.status = status;
         }
         
+        public static SalesData from(SalesRecord record) {
+            return new SalesData(record.gameName(), record.category(), record.price(), record.salesVolume(),
+                    record.visitorCount(), record.salesAmount(), record.conversionRate(), record.status());
+        }
+        
         public String getGameName() { return gameName; }
         public String getCategory() { return category; }
         public String getPrice() { return price; }
@@ -1007,7 +1032,7 @@ public class VendorMainController {
             // 设置模态，但不阻塞主窗口
             viewApplicationsStage.initModality(Modality.WINDOW_MODAL);
             viewApplicationsStage.initOwner(viewApplicationsButton.getScene().getWindow());
-            viewApplicationsStage.getIcons().add(new Image(Objects.requireNonNull(getClass().getResourceAsStream("/icon/yuanshen.png"))));
+            viewApplicationsStage.getIcons().add(ImageCache.getAppIcon());
             
             // 加载FXML文件 - 创建一个新的FXML文件来显示上架申请信息
             FXMLLoader loader = new FXMLLoader(getClass().getResource("/com/database/gametradefrontend/view/view-applications.fxml"));
@@ -1,8 +1,13 @@
 package com.database.gametradefrontend.controller;
 
 import com.database.gametradefrontend.client.ApiClient;
+import com.database.gametradefrontend.model.GameApplication;
 import com.database.gametradefrontend.model.User;
+import com.database.gametradefrontend.util.BackgroundTasks;
 import com.database.gametradefrontend.util.ControllerUtils;
+import com.database.gametradefrontend.util.ImageCache;
+import com.database.gametradefrontend.util.TaskScope;
+import com.database.gametradefrontend.util.ViewModels;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
@@ -16,7 +21,6 @@ import javafx.stage.Stage;
 
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
 
 /**
@@ -35,6 +39,9 @@ public class ViewApplicationsController {
     // 业务数据
     private User currentUser;
     private ApiClient apiClient;
+    
+    // 本界面发起的后台任务，界面关闭或切换时统一取消
+    private final TaskScope taskScope = BackgroundTasks.newScope("查看申请");
     private final ObservableList<ApplicationData> applications = FXCollections.observableArrayList();
 
     // 配置方法
@@ -48,6 +55,9 @@ public class ViewApplicationsController {
 
     @FXML
     public void initialize() {
+        // 界面关闭或切换时取消未完成的后台任务
+        taskScope.bindTo(backButton);
+        
         initializeSortComboBox();
         loadApplications();
     }
@@ -64,22 +74,18 @@ public class ViewApplicationsController {
         setLoadingState(true);
         applicationsContainer.getChildren().clear();
 
-        new Thread(() -> {
-            try {
-                Object response = apiClient.post("/vendors/query-applications-by-company", 
-                    Map.of("account", currentUser.getAccount()), Object.class);
-                
-                javafx.application.Platform.runLater(() -> {
+        taskScope.track(ViewModels.mapAsync(apiClient.postAsync("/vendors/query-applications-by-company",
+                        Map.of("account", currentUser.getAccount()), GameApplication.LIST_TYPE), ApplicationData::from))
+                .whenCompleteAsync((response, error) -> {
+                    if (error != null) {
+                        Throwable e = ApiClient.unwrap(error);
+                        setLoadingState(false);
+                        handleError("加载上架申请数据失败: " + e.getMessage());
+                        return;
+                    }
                     setLoadingState(false);
                     handleApiResponse(response);
-                });
-            } catch (Exception e) {
-                javafx.application.Platform.runLater(() -> {
-                    setLoadingState(false);
-                    handleError("加载上架申请数据失败: " + e.getMessage());
-                });
-            }
-        }).start();
+                }, taskScope.fxExecutor());
     }
 
     private void filterApplications() {
@@ -91,23 +97,20 @@ public class ViewApplicationsController {
             setLoadingState(true);
             applicationsContainer.getChildren().clear();
 
-            new Thread(() -> {
-                try {
-                    String statusValue = convertStatusToApiValue(selectedStatus);
-                    Object response = apiClient.post("/vendors/query-game-applications", 
-                        Map.of("account", currentUser.getAccount(), "approvalStatus", statusValue), Object.class);
-                    
-                    javafx.application.Platform.runLater(() -> {
+            String statusValue = convertStatusToApiValue(selectedStatus);
+            taskScope.track(ViewModels.mapAsync(apiClient.postAsync("/vendors/query-game-applications",
+                            Map.of("account", currentUser.getAccount(), "approvalStatus", statusValue), GameApplication.LIST_TYPE),
+                            ApplicationData::from))
+                    .whenCompleteAsync((response, error) -> {
+                        if (error != null) {
+                            Throwable e = ApiClient.unwrap(error);
+                            setLoadingState(false);
+                            handleError("筛选上架申请数据失败: " + e.getMessage());
+                            return;
+                        }
                         setLoadingState(false);
                         handleFilteredApiResponse(response);
-                    });
-                } catch (Exception e) {
-                    javafx.application.Platform.runLater(() -> {
-                        setLoadingState(false);
-                        handleError("筛选上架申请数据失败: " + e.getMessage());
-                    });
-                }
-            }).start();
+                    }, taskScope.fxExecutor());
         }
     }
 
@@ -127,66 +130,24 @@ public class ViewApplicationsController {
         noDataLabel.setVisible(false);
     }
 
-    // API响应处理
-    private void handleApiResponse(Object response) {
-        if (response instanceof List) {
-            List<Map<String, Object>> applicationList = (List<Map<String, Object>>) response;
-            
-            if (!applicationList.isEmpty()) {
-                applications.clear();
-                processApplicationList(applicationList);
-                displayApplications();
-            } else {
-                showNoData("暂无上架申请数据");
-            }
+    // API响应处理（申请数据已在后台线程转换）
+    private void handleApiResponse(List<ApplicationData> applicationList) {
+        if (applicationList != null && !applicationList.isEmpty()) {
+            applications.setAll(applicationList);
+            displayApplications();
         } else {
-            showNoData("数据格式错误");
+            showNoData("暂无上架申请数据");
         }
     }
 
-    private void handleFilteredApiResponse(Object response) {
-        if (response instanceof List) {
-            List<Map<String, Object>> applicationList = (List<Map<String, Object>>) response;
-            
-            if (!applicationList.isEmpty()) {
-                ObservableList<ApplicationData> filteredApplications = FXCollections.observableArrayList();
-                processApplicationList(applicationList, filteredApplications);
-                displayFilteredApplications(filteredApplications);
-            } else {
-                showNoData("没有符合条件的上架申请");
-            }
+    private void handleFilteredApiResponse(List<ApplicationData> applicationList) {
+        if (applicationList != null && !applicationList.isEmpty()) {
+            displayFilteredApplications(FXCollections.observableArrayList(applicationList));
         } else {
-            showNoData("数据格式错误");
-        }
-    }
-
-    private void processApplicationList(List<Map<String, Object>> applicationList) {
-        processApplicationList(applicationList, applications);
-    }
-
-    private void processApplicationList(List<Map<String, Object>> applicationList, ObservableList<ApplicationData> targetList) {
-        for (Map<String, Object> appData : applicationList) {
-            ApplicationData application = createApplicationFromMap(appData);
-            targetList.add(application);
+            showNoData("没有符合条件的上架申请");
         }
     }
 
-    private ApplicationData createApplicationFromMap(Map<String, Object> appData) {
-        String applicationId = getStringValue(appData, "applicationId", "");
-        String gameName = getStringValue(appData, "gameName", "未知游戏");
-        String companyName = getStringValue(appData, "companyName", "未知企业");
-        String approvalStatus = getStringValue(appData, "approvalStatus", "未知状态");
-        String approvalResult = getStringValue(appData, "approvalResult", "暂无结果");
-        String applicationTime = getStringValue(appData, "applicationTime", "未知时间");
-
-        return new ApplicationData(applicationId, gameName, companyName, approvalStatus, approvalResult, applicationTime);
-    }
-
-    private String getStringValue(Map<String, Object> data, String key, String defaultValue) {
-        Object value = data.get(key);
-        return value != null ? value.toString() : defaultValue;
-    }
-
     // 错误处理
     private void handleError(String message) {
         noDataLabel.setVisible(true);
@@ -251,10 +212,10 @@ public class ViewApplicationsController {
 
     private ImageView createCardImage() {
         ImageView imageView = new ImageView();
-        try {
-            Image defaultImage = new Image(Objects.requireNonNull(getClass().getResourceAsStream("/icon/yuanshen.png")));
+        Image defaultImage = ImageCache.get(ImageCache.DEFAULT_IMAGE, 250, 150);
+        if (defaultImage != null) {
             imageView.setImage(defaultImage);
-        } catch (Exception e) {
+        } else {
             imageView.setStyle("-fx-background-color: #667eea; -fx-min-width: 250px; -fx-min-height: 150px;");
         }
         imageView.setFitWidth(250);
@@ -345,25 +306,27 @@ public class ViewApplicationsController {
     }
 
     private void cancelApplication(ApplicationData application) {
-        new Thread(() -> {
-            try {
-                Map<String, Object> requestData = Map.of(
-                    "account", currentUser.getAccount(),
-                    "applicationId", Integer.parseInt(application.getApplicationId())
-                );
-                
-                apiClient.delete("/vendors/cancel-game-application", requestData, Object.class);
-                
-                javafx.application.Platform.runLater(() -> {
+        Map<String, Object> requestData;
+        try {
+            requestData = Map.of(
+                "account", currentUser.getAccount(),
+                "applicationId", Integer.parseInt(application.getApplicationId())
+            );
+        } catch (NumberFormatException e) {
+            ControllerUtils.showErrorAlert("取消上架申请失败: " + e.getMessage());
+            return;
+        }
+        
+        taskScope.track(apiClient.deleteAsync("/vendors/cancel-game-application", requestData, Object.class))
+                .whenCompleteAsync((ignored, error) -> {
+                    if (error != null) {
+                        Throwable e = ApiClient.unwrap(error);
+                        ControllerUtils.showErrorAlert("取消上架申请失败: " + e.getMessage());
+                        return;
+                    }
                     ControllerUtils.showInfoAlert("上架申请取消成功");
                     loadApplications(); // 刷新数据
-                });
-            } catch (Exception e) {
-                javafx.application.Platform.runLater(() -> {
-                    ControllerUtils.showErrorAlert("取消上架申请失败: " + e.getMessage());
-                });
-            }
-        }).start();
+                }, taskScope.fxExecutor());
     }
 
     // FXML事件处理
@@ -398,6 +361,11 @@ public class ViewApplicationsController {
             this.applicationTime = applicationTime;
         }
         
+        public static ApplicationData from(GameApplication application) {
+            return new ApplicationData(application.applicationId(), application.gameName(), application.companyName(),
+                    application.approvalStatus(), application.approvalResult(), application.applicationTime());
+        }
+        
         public String getApplicationId() { return applicationId; }
         public String getGameName() { return gameName; }
         public String getCompanyName() { return companyName; }
@@ -0,0 +1,27 @@
+package com.database.gametradefrontend.model;
+
+import java.util.List;
+
+/**
+ * 游戏目录增量同步接口返回的变更（自since游标之后新增、修改和删除的游戏）
+ * full为true时表示游标已失效或未提供游标，upserts是完整目录
+ * 缺失字段在构造时填充为空列表
+ */
+public record CatalogChanges(
+        String cursor,
+        boolean full,
+        List<GameSummary> upserts,
+        List<String> deletes) {
+
+    public CatalogChanges {
+        upserts = upserts != null ? upserts : List.of();
+        deletes = deletes != null ? deletes : List.of();
+    }
+
+    /**
+     * 是否没有任何变更
+     */
+    public boolean isEmpty() {
+        return !full && upserts.isEmpty() && deletes.isEmpty();
+    }
+}
@@ -0,0 +1,28 @@
+package com.database.gametradefrontend.model;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+
+import java.util.List;
+
+/**
+ * 游戏上架申请记录
+ */
+public record GameApplication(
+        String applicationId,
+        String gameName,
+        String companyName,
+        String approvalStatus,
+        String approvalResult,
+        String applicationTime) {
+
+    public static final TypeReference<List<GameApplication>> LIST_TYPE = new TypeReference<>() {};
+
+    public GameApplication {
+        applicationId = applicationId != null ? applicationId : "";
+        gameName = gameName != null ? gameName : "未知游戏";
+        companyName = companyName != null ? companyName : "未知企业";
+        approvalStatus = approvalStatus != null ? approvalStatus : "未知状态";
+        approvalResult = approvalResult != null ? approvalResult : "暂无结果";
+        applicationTime = applicationTime != null ? applicationTime : "未知时间";
+    }
+}
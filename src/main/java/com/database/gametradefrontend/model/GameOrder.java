@@ -0,0 +1,32 @@
+package com.database.gametradefrontend.model;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+
+import java.util.List;
+
+/**
+ * 买家订单记录
+ * 买家昵称缺失时由调用方使用当前登录用户的昵称
+ */
+public record GameOrder(
+        String orderId,
+        String buyerNickname,
+        String gameName,
+        String category,
+        String price,
+        String orderTime,
+        String paymentTime,
+        String orderStatus) {
+
+    public static final TypeReference<List<GameOrder>> LIST_TYPE = new TypeReference<>() {};
+
+    public GameOrder {
+        orderId = orderId != null ? orderId : "未知";
+        gameName = gameName != null ? gameName : "未知游戏";
+        category = category != null ? category : "未知类别";
+        price = price != null ? price : "免费";
+        orderTime = orderTime != null ? orderTime : "未知时间";
+        paymentTime = paymentTime != null ? paymentTime : "未支付";
+        orderStatus = orderStatus != null ? orderStatus : "未知状态";
+    }
+}
@@ -0,0 +1,24 @@
+package com.database.gametradefrontend.model;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+
+import java.util.List;
+
+/**
+ * 游戏评价记录
+ */
+public record GameReview(
+        String nickname,
+        String score,
+        String comment,
+        String reviewTime) {
+
+    public static final TypeReference<List<GameReview>> LIST_TYPE = new TypeReference<>() {};
+
+    public GameReview {
+        nickname = nickname != null ? nickname : "匿名用户";
+        score = score != null ? score : "0";
+        comment = comment != null ? comment : "暂无评论";
+        reviewTime = reviewTime != null ? reviewTime : "未知时间";
+    }
+}
@@ -0,0 +1,31 @@
+package com.database.gametradefrontend.model;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+
+import java.util.List;
+
+/**
+ * 游戏商店中的游戏条目（买家端游戏列表、筛选、搜索接口返回）
+ * 缺失字段在构造时填充为界面使用的默认值
+ */
+public record GameSummary(
+        String gameName,
+        String category,
+        String price,
+        String score,
+        String salesVolume,
+        String companyName,
+        String description) {
+
+    public static final TypeReference<List<GameSummary>> LIST_TYPE = new TypeReference<>() {};
+
+    public GameSummary {
+        gameName = gameName != null ? gameName : "未知游戏";
+        category = category != null ? category : "未知类别";
+        price = price != null ? price : "免费";
+        score = score != null ? score : "0";
+        salesVolume = salesVolume != null ? salesVolume : "0";
+        companyName = companyName != null ? companyName : "未知厂商";
+        description = description != null ? description : "暂无简介";
+    }
+}
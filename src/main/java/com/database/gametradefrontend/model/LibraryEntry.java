@@ -0,0 +1,26 @@
+package com.database.gametradefrontend.model;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+
+import java.util.List;
+
+/**
+ * 买家游戏库条目（已购买的游戏及其评价）
+ */
+public record LibraryEntry(
+        String gameName,
+        String licenseNumber,
+        String score,
+        String comment,
+        String reviewTime) {
+
+    public static final TypeReference<List<LibraryEntry>> LIST_TYPE = new TypeReference<>() {};
+
+    public LibraryEntry {
+        gameName = gameName != null ? gameName : "未知游戏";
+        licenseNumber = licenseNumber != null ? licenseNumber : "未知";
+        score = score != null ? score : "0";
+        comment = comment != null ? comment : "暂无评论";
+        reviewTime = reviewTime != null ? reviewTime : "未知时间";
+    }
+}
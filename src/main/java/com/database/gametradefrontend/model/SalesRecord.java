@@ -0,0 +1,31 @@
+package com.database.gametradefrontend.model;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 厂商销售数据行
+ */
+public record SalesRecord(
+        String gameName,
+        String category,
+        String price,
+        int salesVolume,
+        int visitorCount,
+        BigDecimal salesAmount,
+        BigDecimal conversionRate,
+        String status) {
+
+    public static final TypeReference<List<SalesRecord>> LIST_TYPE = new TypeReference<>() {};
+
+    public SalesRecord {
+        gameName = gameName != null ? gameName : "未知游戏";
+        category = category != null ? category : "未知类别";
+        price = price != null ? price : "免费";
+        salesAmount = salesAmount != null ? salesAmount : BigDecimal.ZERO;
+        conversionRate = conversionRate != null ? conversionRate : BigDecimal.ZERO;
+        status = status != null ? status : "未知状态";
+    }
+}
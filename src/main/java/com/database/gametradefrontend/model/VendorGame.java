@@ -0,0 +1,29 @@
+package com.database.gametradefrontend.model;
+
+import com.fasterxml.jackson.annotation.JsonAlias;
+import com.fasterxml.jackson.core.type.TypeReference;
+
+import java.util.List;
+
+/**
+ * 厂商游戏条目（厂商游戏管理、发布、下架接口返回）
+ */
+public record VendorGame(
+        @JsonAlias("name") String gameName,
+        String category,
+        String price,
+        String status,
+        String description,
+        String image) {
+
+    public static final TypeReference<List<VendorGame>> LIST_TYPE = new TypeReference<>() {};
+
+    public VendorGame {
+        gameName = gameName != null ? gameName : "未知游戏";
+        category = category != null ? category : "未知类别";
+        price = price != null ? price : "免费";
+        status = status != null ? status : "未知状态";
+        description = description != null ? description : "暂无简介";
+        image = image != null ? image : "yuanshen.png";
+    }
+}
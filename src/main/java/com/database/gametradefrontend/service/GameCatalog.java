@@ -0,0 +1,296 @@
+package com.database.gametradefrontend.service;
+
+import com.database.gametradefrontend.client.ApiClient;
+import com.database.gametradefrontend.client.Deadline;
+import com.database.gametradefrontend.config.AppConfig;
+import com.database.gametradefrontend.model.CatalogChanges;
+import com.database.gametradefrontend.model.GameSummary;
+import com.database.gametradefrontend.util.BackgroundTasks;
+import com.fasterxml.jackson.core.type.TypeReference;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 游戏目录（单例）- 在本地保存买家端游戏商店的完整目录及其搜索索引
+ * 目录从服务器拉取后在后台线程建立索引，之后的搜索都在本地完成；
+ * 超过刷新间隔的目录视为过期，使用时在后台重新拉取，拉取期间仍可使用旧目录。
+ * 目录按页拉取（每个响应大小有上限），服务器不支持分页参数时第一页即为完整目录。
+ * 每次拉取后保存本地快照，启动后可先用快照建立索引（视为已过期），不必等待网络即可显示商店。
+ * 服务器支持增量同步时，刷新只获取上次同步游标之后的新增、修改和删除，在本地目录上合并后重建索引；
+ * 不支持时（接口不存在）本次运行期间改为全量拉取
+ */
+public class GameCatalog {
+    private static final String SEARCH_ENDPOINT = "/buyers/games/search-by-name?gameName=";
+    private static final String CHANGES_PATH = "/buyers/games/changes";
+    private static final int PAGE_SIZE = Math.max(1, AppConfig.getCatalogPageSize());
+    private static final String SNAPSHOT_KEY = "catalog-state";
+    // 每次同步的方式、变更条数和传输字节数只在调试日志级别输出
+    private static final boolean DEBUG = "DEBUG".equalsIgnoreCase(AppConfig.getLogLevel());
+
+    private static volatile GameCatalog instance;
+
+    private final long refreshMillis = AppConfig.getCatalogRefreshMillis();
+
+    private volatile GameSearchIndex index;
+    private volatile long loadedAt;
+    // 增量同步游标，与index对应；为null时下次同步获取完整目录
+    private volatile String cursor;
+    private volatile boolean deltaSupported = AppConfig.isCatalogDeltaEnabled();
+    private CompletableFuture<GameSearchIndex> refreshing;
+    private CompletableFuture<GameSearchIndex> restoring;
+
+    /**
+     * 本地快照内容：目录及其对应的同步游标
+     */
+    private record CatalogState(String cursor, List<GameSummary> games) {
+    }
+
+    /**
+     * 一次同步的结果
+     * @param changed 变更条数描述，用于日志
+     */
+    private record SyncResult(GameSearchIndex index, String cursor, String mode, String changed) {
+    }
+
+    /**
+     * 应用内通过getInstance使用单例；包内可创建独立实例（测试用）
+     */
+    GameCatalog() {
+    }
+
+    /**
+     * 获取GameCatalog单例实例
+     */
+    public static GameCatalog getInstance() {
+        if (instance == null) {
+            synchronized (GameCatalog.class) {
+                if (instance == null) {
+                    instance = new GameCatalog();
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * 获取当前目录的索引
+     * @return 索引；尚未加载时返回null
+     */
+    public GameSearchIndex getIndex() {
+        return index;
+    }
+
+    /**
+     * 目录是否需要重新拉取（未加载或超过刷新间隔）
+     */
+    public boolean isStale() {
+        return index == null || System.currentTimeMillis() - loadedAt >= refreshMillis;
+    }
+
+    /**
+     * 获取目录索引：未过期时直接返回当前索引，否则从服务器重新拉取
+     * @param apiClient API客户端
+     * @return 索引
+     */
+    public CompletableFuture<GameSearchIndex> load(ApiClient apiClient) {
+        GameSearchIndex current = index;
+        if (current != null && !isStale()) {
+            return CompletableFuture.completedFuture(current);
+        }
+        return refresh(apiClient);
+    }
+
+    /**
+     * 从本地快照恢复目录：已有索引时直接返回，否则读取快照并在后台建立索引
+     * 恢复的目录视为已过期，之后调用load会从服务器重新拉取
+     * @return 索引；没有快照时为null（不会以异常结束）
+     */
+    public synchronized CompletableFuture<GameSearchIndex> restore() {
+        if (index != null) {
+            return CompletableFuture.completedFuture(index);
+        }
+        if (restoring == null) {
+            restoring = SnapshotStore.loadAsync(SNAPSHOT_KEY, new TypeReference<CatalogState>() {})
+                    .thenApplyAsync(state -> state != null && state.games() != null
+                                    ? new SyncResult(GameSearchIndex.build(state.games()), state.cursor(), "快照", "")
+                                    : null,
+                            BackgroundTasks.EXECUTOR)
+                    .thenApply(restored -> {
+                        synchronized (this) {
+                            // 快照读取期间已从服务器拉取到目录时使用服务器的目录
+                            if (index == null && restored != null) {
+                                index = restored.index();
+                                cursor = restored.cursor();
+                                loadedAt = 0;
+                            }
+                            return index;
+                        }
+                    })
+                    .exceptionally(error -> {
+                        System.err.println("恢复游戏目录快照失败: " + ApiClient.unwrap(error).getMessage());
+                        return null;
+                    });
+        }
+        return restoring.copy();
+    }
+
+    /**
+     * 从服务器同步目录并建立索引（支持增量同步时只获取变更）
+     * 同时只进行一次同步，并发调用共享同一次结果；调用方取消返回的Future不会中断同步
+     * 没有任何变更时返回原索引对象
+     * @param apiClient API客户端
+     * @return 新的索引
+     */
+    public synchronized CompletableFuture<GameSearchIndex> refresh(ApiClient apiClient) {
+        CompletableFuture<GameSearchIndex> future = refreshing;
+        if (future == null) {
+            GameSearchIndex base = index;
+            String since = base != null ? cursor : null;
+            long bytesBefore = receivedBytes();
+            // 先更新目录状态再完成Future，调用方拿到结果时getIndex()已是新索引
+            // 增量同步、失败后的全量拉取和各页请求共享同一个截止时间
+            future = sync(apiClient.withDeadline(Deadline.forAction()), base, since).thenApply(result -> {
+                synchronized (this) {
+                    boolean changed = result.index() != index || !Objects.equals(result.cursor(), cursor);
+                    index = result.index();
+                    cursor = result.cursor();
+                    loadedAt = System.currentTimeMillis();
+                    if (changed) {
+                        SnapshotStore.save(SNAPSHOT_KEY, new CatalogState(result.cursor(), result.index().getGames()));
+                    }
+                }
+                if (DEBUG) {
+                    System.err.println("游戏目录同步（" + result.mode() + "）: " + result.changed()
+                            + "，传输 " + (receivedBytes() - bytesBefore) + " 字节");
+                }
+                return result.index();
+            });
+            refreshing = future;
+            CompletableFuture<GameSearchIndex> started = future;
+            started.whenComplete((built, error) -> {
+                synchronized (this) {
+                    if (error != null) {
+                        System.err.println("刷新游戏目录失败: " + ApiClient.unwrap(error).getMessage());
+                    }
+                    if (refreshing == started) {
+                        refreshing = null;
+                    }
+                }
+            });
+        }
+        return future.copy();
+    }
+
+    /**
+     * 同步目录：支持增量同步时获取since游标之后的变更，否则全量拉取
+     */
+    private CompletableFuture<SyncResult> sync(ApiClient apiClient, GameSearchIndex base, String since) {
+        if (!deltaSupported) {
+            return fetchAll(apiClient);
+        }
+        String endpoint = CHANGES_PATH + "?since=" + URLEncoder.encode(since != null ? since : "", StandardCharsets.UTF_8);
+        return apiClient.getAsync(endpoint, CatalogChanges.class)
+                .thenApplyAsync(changes -> merge(base, since, changes), BackgroundTasks.EXECUTOR)
+                .exceptionallyCompose(error -> {
+                    if (ApiClient.unwrap(error) instanceof ApiClient.ApiException e
+                            && (e.getStatusCode() == 404 || e.getStatusCode() == 405 || e.getStatusCode() == 501)) {
+                        System.err.println("服务器不支持游戏目录增量同步，改为全量拉取");
+                        deltaSupported = false;
+                        return fetchAll(apiClient);
+                    }
+                    return CompletableFuture.failedFuture(error);
+                });
+    }
+
+    private CompletableFuture<SyncResult> fetchAll(ApiClient apiClient) {
+        return fetchPages(apiClient, 0, new ArrayList<>())
+                .thenApplyAsync(games -> new SyncResult(GameSearchIndex.build(games), null, "全量",
+                        games.size() + " 个游戏"), BackgroundTasks.EXECUTOR);
+    }
+
+    /**
+     * 把变更合并到本地目录：修改的游戏保持原位置，新增的追加到末尾，没有变更时沿用原索引
+     */
+    private static SyncResult merge(GameSearchIndex base, String since, CatalogChanges changes) {
+        if (changes.full() || base == null || since == null) {
+            return new SyncResult(GameSearchIndex.build(changes.upserts()), changes.cursor(), "全量",
+                    changes.upserts().size() + " 个游戏");
+        }
+        String changed = "新增或修改 " + changes.upserts().size() + "，删除 " + changes.deletes().size();
+        if (changes.isEmpty()) {
+            return new SyncResult(base, changes.cursor(), "增量", changed);
+        }
+        Map<String, GameSummary> games = new LinkedHashMap<>();
+        for (GameSummary game : base.getGames()) {
+            games.put(game.gameName(), game);
+        }
+        for (String gameName : changes.deletes()) {
+            games.remove(gameName);
+        }
+        for (GameSummary game : changes.upserts()) {
+            games.put(game.gameName(), game);
+        }
+        return new SyncResult(GameSearchIndex.build(new ArrayList<>(games.values())), changes.cursor(), "增量", changed);
+    }
+
+    private static long receivedBytes() {
+        return ApiClient.getReceivedBytes(CHANGES_PATH) + ApiClient.getReceivedBytes(pathOf(SEARCH_ENDPOINT));
+    }
+
+    private static String pathOf(String endpoint) {
+        return endpoint.substring(0, endpoint.indexOf('?'));
+    }
+
+    /**
+     * 从指定页开始依次拉取，直到某页不足一页（最后一页）或多于一页（服务器忽略了分页参数）
+     */
+    private static CompletableFuture<List<GameSummary>> fetchPages(ApiClient apiClient, int page,
+                                                                   List<GameSummary> collected) {
+        return apiClient.getAsync(searchEndpoint("", page), GameSummary.LIST_TYPE)
+                .thenCompose(games -> {
+                    // 服务器忽略分页参数时，后续页与第一页内容相同
+                    if (games == null || (page > 0 && !games.isEmpty() && games.get(0).equals(collected.get(0)))) {
+                        return CompletableFuture.completedFuture(collected);
+                    }
+                    collected.addAll(games);
+                    if (games.size() != PAGE_SIZE) {
+                        return CompletableFuture.completedFuture(collected);
+                    }
+                    return fetchPages(apiClient, page + 1, collected);
+                });
+    }
+
+    /**
+     * 获取按游戏名搜索的分页接口地址（与目录拉取使用相同的页大小，首页请求可与目录拉取合并）
+     * @param gameName 游戏名，空字符串表示全部游戏
+     * @param page 页号，从0开始
+     */
+    public static String searchEndpoint(String gameName, int page) {
+        return SEARCH_ENDPOINT + URLEncoder.encode(gameName, StandardCharsets.UTF_8)
+                + "&page=" + page + "&size=" + PAGE_SIZE;
+    }
+
+    /**
+     * 标记目录过期，下次使用时重新拉取（当前索引仍可继续使用）
+     */
+    public void invalidate() {
+        loadedAt = 0;
+    }
+
+    /**
+     * 清空目录（退出登录时调用）
+     */
+    public synchronized void clear() {
+        index = null;
+        cursor = null;
+        loadedAt = 0;
+        restoring = null;
+    }
+}
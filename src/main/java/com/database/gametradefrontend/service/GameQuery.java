@@ -0,0 +1,33 @@
+package com.database.gametradefrontend.service;
+
+import java.util.Set;
+
+/**
+ * 游戏商店的组合筛选条件，各条件同时生效
+ * @param text 搜索文本，为空表示不按文本筛选
+ * @param category 游戏类别，为null表示全部类别
+ * @param minPopularity 最低热度（销量），0表示不限
+ * @param preferredGames 偏好游戏名集合，为null表示不按偏好筛选
+ */
+public record GameQuery(String text, String category, long minPopularity, Set<String> preferredGames) {
+
+    public static final GameQuery ALL = new GameQuery(null, null, 0, null);
+
+    public GameQuery {
+        preferredGames = preferredGames != null ? Set.copyOf(preferredGames) : null;
+    }
+
+    /**
+     * 只按文本搜索
+     */
+    public static GameQuery text(String text) {
+        return new GameQuery(text, null, 0, null);
+    }
+
+    /**
+     * 是否设置了文本以外的筛选条件
+     */
+    public boolean hasFilters() {
+        return category != null || minPopularity > 0 || preferredGames != null;
+    }
+}
@@ -0,0 +1,162 @@
+package com.database.gametradefrontend.service;
+
+import com.database.gametradefrontend.client.ApiClient;
+import com.database.gametradefrontend.config.AppConfig;
+import com.database.gametradefrontend.model.GameReview;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 游戏评价分页缓存（单例）- 获取游戏评价并在本地分页，已获取的评价按游戏缓存
+ * 后端只有一次返回全部评价的查询接口（/vendors/query-game-reviews），每个游戏只请求一次，
+ * 之后翻页都从缓存的完整列表中切分，界面每次只创建当前页的评价节点；
+ * 同一游戏同时只请求一次，并发调用共享同一次结果
+ */
+public class GameReviewStore {
+    private static final String REVIEWS_PATH = "/vendors/query-game-reviews";
+
+    private static volatile GameReviewStore instance;
+
+    private final int pageSize = Math.max(1, AppConfig.getReviewPageSize());
+    private final int maxGames = Math.max(1, AppConfig.getReviewCacheMaxGames());
+
+    // 按最近访问排序，超出上限时丢弃最久未查看的游戏
+    private final Map<String, GameReviews> games = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, GameReviews> eldest) {
+            return size() > maxGames;
+        }
+    };
+
+    /**
+     * 单个游戏的评价
+     */
+    private static final class GameReviews {
+        // 全部评价，尚未获取时为null
+        private List<GameReview> reviews;
+        private CompletableFuture<List<GameReview>> loading;
+    }
+
+    private GameReviewStore() {
+    }
+
+    /**
+     * 获取GameReviewStore单例实例
+     */
+    public static GameReviewStore getInstance() {
+        if (instance == null) {
+            synchronized (GameReviewStore.class) {
+                if (instance == null) {
+                    instance = new GameReviewStore();
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * 获取每页评价条数
+     */
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    /**
+     * 获取已缓存的评价页
+     * @param gameName 游戏名
+     * @param page 页号，从0开始
+     * @return 该页评价；尚未获取时返回null，超出最后一页时返回空列表
+     */
+    public synchronized List<GameReview> getCachedPage(String gameName, int page) {
+        GameReviews game = games.get(gameName);
+        if (game == null || game.reviews == null) {
+            return null;
+        }
+        return slice(game.reviews, page);
+    }
+
+    /**
+     * 获取游戏评价的总页数
+     * @return 总页数；尚未获取评价时返回-1
+     */
+    public synchronized int getPageCount(String gameName) {
+        GameReviews game = games.get(gameName);
+        if (game == null || game.reviews == null) {
+            return -1;
+        }
+        return (game.reviews.size() + pageSize - 1) / pageSize;
+    }
+
+    /**
+     * 获取一页评价：已缓存时直接返回，否则从服务器获取该游戏的全部评价后切分
+     * 调用方取消返回的Future不会中断请求，返回后的数据仍会缓存
+     * @param apiClient API客户端
+     * @param account 当前用户账号（查询接口要求）
+     * @param gameName 游戏名
+     * @param page 页号，从0开始
+     * @return 该页评价，超出最后一页时为空列表
+     */
+    public synchronized CompletableFuture<List<GameReview>> getPage(ApiClient apiClient, String account,
+                                                                     String gameName, int page) {
+        List<GameReview> cached = getCachedPage(gameName, page);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+        GameReviews game = games.computeIfAbsent(gameName, name -> new GameReviews());
+        if (game.loading == null) {
+            Map<String, Object> requestData = new HashMap<>();
+            requestData.put("account", account != null ? account : "");
+            requestData.put("gameName", gameName);
+            CompletableFuture<List<GameReview>> started = apiClient.postAsync(REVIEWS_PATH, requestData,
+                    GameReview.LIST_TYPE).thenApply(reviews -> store(gameName, reviews));
+            game.loading = started;
+            started.whenComplete((reviews, error) -> {
+                synchronized (this) {
+                    if (game.loading == started) {
+                        game.loading = null;
+                    }
+                }
+            });
+        }
+        return game.loading.thenApply(reviews -> slice(reviews, page));
+    }
+
+    /**
+     * 保存服务器返回的全部评价
+     */
+    synchronized List<GameReview> store(String gameName, List<GameReview> reviews) {
+        GameReviews game = games.computeIfAbsent(gameName, name -> new GameReviews());
+        game.reviews = reviews != null ? List.copyOf(reviews) : List.of();
+        return game.reviews;
+    }
+
+    /**
+     * 从完整评价列表中切出一页
+     */
+    private List<GameReview> slice(List<GameReview> all, int page) {
+        int from = page * pageSize;
+        if (from >= all.size()) {
+            return List.of();
+        }
+        return all.subList(from, Math.min(from + pageSize, all.size()));
+    }
+
+    /**
+     * 丢弃游戏已缓存的评价（提交新评价后调用），下次查看时重新获取
+     */
+    public synchronized void invalidate(String gameName) {
+        games.remove(gameName);
+        ApiClient.invalidateCache(REVIEWS_PATH);
+    }
+
+    /**
+     * 清空所有缓存的评价（退出登录时调用）
+     */
+    public synchronized void clear() {
+        games.clear();
+    }
+}
@@ -0,0 +1,168 @@
+package com.database.gametradefrontend.service;
+
+import com.database.gametradefrontend.client.WireCodecs;
+import com.database.gametradefrontend.config.AppConfig;
+import com.database.gametradefrontend.util.BackgroundTasks;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * 本地数据快照 - 在磁盘上保存最近一次从服务器获取的列表数据（游戏目录、游戏库、订单、厂商游戏）
+ * 启动或登录后界面先显示快照，同时在后台向服务器获取最新数据并替换，不必等待网络才显示内容。
+ * 文件格式：固定文件头（标识、版本、保存时间、快照键）+ 压缩的JSON数据；
+ * 先写临时文件再改名，读取时文件头不符（格式升级、文件损坏）的快照视为不存在
+ */
+public final class SnapshotStore {
+    private static final int MAGIC = 0x47545350; // "GTSP"
+    private static final short VERSION = 1;
+
+    private static final boolean ENABLED = AppConfig.isSnapshotEnabled();
+    private static final Path DIR = Path.of(AppConfig.getSnapshotDir());
+
+    // 复制共享的JSON映射器，沿用已注册的模块，不再重新扫描
+    private static final ObjectMapper MAPPER = WireCodecs.JSON.mapper().copy();
+
+    private static final AtomicLong reads = new AtomicLong();
+    private static final AtomicLong writes = new AtomicLong();
+
+    static {
+        // 快照与接口返回的数据结构相同，模型字段减少后仍能读取旧快照
+        MAPPER.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        // 压缩流要在文件关闭前finish，写完JSON后不能由Jackson关闭
+        MAPPER.configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+    }
+
+    private SnapshotStore() {
+    }
+
+    /**
+     * 读取快照（在调用线程上读盘，不要在JavaFX线程上调用）
+     * @param key 快照键，如"catalog"、"orders:昵称"
+     * @param type 数据类型
+     * @return 快照数据；未启用、不存在或无法读取时返回null
+     */
+    public static <T> T load(String key, TypeReference<T> type) {
+        if (!ENABLED) {
+            return null;
+        }
+        Path file = fileFor(key);
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readShort() != VERSION) {
+                return null;
+            }
+            in.readLong(); // 保存时间
+            if (!key.equals(in.readUTF())) {
+                return null;
+            }
+            try (InputStream data = new InflaterInputStream(in)) {
+                T value = MAPPER.readValue(data, type);
+                reads.incrementAndGet();
+                return value;
+            }
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            System.err.println("读取快照失败: " + file + " - " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 在后台读取快照
+     * @return 快照数据，不存在时为null（不会以异常结束）
+     */
+    public static <T> CompletableFuture<T> loadAsync(String key, TypeReference<T> type) {
+        if (!ENABLED) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return BackgroundTasks.supply(() -> load(key, type));
+    }
+
+    /**
+     * 在后台保存快照，覆盖同一键的旧快照
+     * @param key 快照键
+     * @param value 数据（保存期间不能再修改）
+     * @return 保存结束时完成的Future（保存失败只输出日志，不会以异常结束）
+     */
+    public static CompletableFuture<Void> save(String key, Object value) {
+        if (!ENABLED || value == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        Path file = fileFor(key);
+        return BackgroundTasks.run(() -> {
+            Path temp = null;
+            try {
+                Files.createDirectories(DIR);
+                // 先写临时文件再改名，启动时不会读到写了一半的快照
+                temp = Files.createTempFile(DIR, "snapshot", ".tmp");
+                Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+                try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                    out.writeInt(MAGIC);
+                    out.writeShort(VERSION);
+                    out.writeLong(System.currentTimeMillis());
+                    out.writeUTF(key);
+                    DeflaterOutputStream data = new DeflaterOutputStream(out, deflater);
+                    MAPPER.writeValue(data, value);
+                    data.finish();
+                } finally {
+                    deflater.end();
+                }
+                try {
+                    Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+                }
+                temp = null;
+                writes.incrementAndGet();
+            } catch (IOException e) {
+                System.err.println("保存快照失败: " + file + " - " + e.getMessage());
+            } finally {
+                if (temp != null) {
+                    try {
+                        Files.deleteIfExists(temp);
+                    } catch (IOException ignored) {
+                        // 临时文件删除失败不影响使用
+                    }
+                }
+            }
+        });
+    }
+
+    private static Path fileFor(String key) {
+        String name = key.replaceAll("[^A-Za-z0-9._-]", "_");
+        return DIR.resolve(name + "_" + Integer.toHexString(key.hashCode()) + ".snap");
+    }
+
+    /**
+     * 获取读取成功的快照数
+     */
+    public static long getReadCount() {
+        return reads.get();
+    }
+
+    /**
+     * 获取保存的快照数
+     */
+    public static long getWriteCount() {
+        return writes.get();
+    }
+}
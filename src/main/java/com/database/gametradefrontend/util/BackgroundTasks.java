@@ -0,0 +1,173 @@
+package com.database.gametradefrontend.util;
+
+import com.database.gametradefrontend.config.AppConfig;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 后台任务调度器 - 所有控制器共用的后台执行入口
+ * 每个任务运行在独立的虚拟线程上，并通过信号量限制同时运行的任务数量，
+ * 超出上限的任务排队等待，不会再无限制地创建平台线程
+ */
+public final class BackgroundTasks {
+    private static final int MAX_CONCURRENT = Math.max(1, AppConfig.getTaskMaxConcurrent());
+
+    private static final ExecutorService VIRTUAL_THREADS =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("bg-task-", 0).factory());
+    private static final Semaphore PERMITS = new Semaphore(MAX_CONCURRENT, true);
+
+    // 队列与执行统计
+    private static final AtomicInteger queued = new AtomicInteger();
+    private static final AtomicInteger running = new AtomicInteger();
+    private static final AtomicInteger peakQueued = new AtomicInteger();
+    private static final AtomicLong completed = new AtomicLong();
+    private static final AtomicLong failed = new AtomicLong();
+
+    /**
+     * 受并发上限约束的执行器，可直接传给CompletableFuture的*Async方法
+     */
+    public static final Executor EXECUTOR = BackgroundTasks::execute;
+
+    private BackgroundTasks() {
+    }
+
+    /**
+     * 提交后台任务，超过并发上限时排队
+     * @param task 任务
+     */
+    public static void execute(Runnable task) {
+        int depth = queued.incrementAndGet();
+        peakQueued.accumulateAndGet(depth, Math::max);
+        VIRTUAL_THREADS.execute(() -> {
+            try {
+                PERMITS.acquire();
+            } catch (InterruptedException e) {
+                queued.decrementAndGet();
+                Thread.currentThread().interrupt();
+                return;
+            }
+            queued.decrementAndGet();
+            running.incrementAndGet();
+            try {
+                task.run();
+            } catch (RuntimeException | Error e) {
+                failed.incrementAndGet();
+                System.err.println("后台任务执行失败: " + e.getMessage());
+            } finally {
+                completed.incrementAndGet();
+                running.decrementAndGet();
+                PERMITS.release();
+            }
+        });
+    }
+
+    /**
+     * 在后台执行有返回值的任务
+     * 返回的Future被取消时会中断正在执行的工作线程
+     * @param task 任务
+     * @return 任务结果
+     */
+    public static <T> CompletableFuture<T> supply(Callable<T> task) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        execute(() -> {
+            if (future.isDone()) {
+                return;
+            }
+            Thread worker = Thread.currentThread();
+            future.whenComplete((result, error) -> {
+                if (future.isCancelled()) {
+                    worker.interrupt();
+                }
+            });
+            try {
+                future.complete(task.call());
+            } catch (Exception e) {
+                if (!future.isCancelled()) {
+                    failed.incrementAndGet();
+                }
+                future.completeExceptionally(e instanceof CompletionException ? e : new CompletionException(e));
+            }
+        });
+        return future;
+    }
+
+    /**
+     * 在后台执行无返回值的任务
+     * @param task 任务
+     * @return 任务完成的Future
+     */
+    public static CompletableFuture<Void> run(Runnable task) {
+        return supply(() -> {
+            task.run();
+            return null;
+        });
+    }
+
+    /**
+     * 创建新的任务作用域（一般每个界面一个）
+     * @param name 作用域名称，用于日志
+     * @return 任务作用域
+     */
+    public static TaskScope newScope(String name) {
+        return new TaskScope(name);
+    }
+
+    /**
+     * 获取排队等待执行的任务数
+     */
+    public static int getQueueDepth() {
+        return queued.get();
+    }
+
+    /**
+     * 获取历史最大排队任务数
+     */
+    public static int getPeakQueueDepth() {
+        return peakQueued.get();
+    }
+
+    /**
+     * 获取正在执行的任务数
+     */
+    public static int getRunningCount() {
+        return running.get();
+    }
+
+    /**
+     * 获取已执行结束的任务数（含失败）
+     */
+    public static long getCompletedCount() {
+        return completed.get();
+    }
+
+    /**
+     * 获取执行失败的任务数
+     */
+    public static long getFailedCount() {
+        return failed.get();
+    }
+
+    /**
+     * 获取并发上限
+     */
+    public static int getMaxConcurrent() {
+        return MAX_CONCURRENT;
+    }
+
+    /**
+     * 获取调度器状态描述，用于日志输出
+     */
+    public static String describe() {
+        return String.format("后台任务: 运行中=%d/%d, 排队=%d (峰值%d), 已完成=%d, 失败=%d",
+                getRunningCount(), MAX_CONCURRENT, getQueueDepth(), getPeakQueueDepth(),
+                getCompletedCount(), getFailedCount());
+    }
+}
@@ -1,7 +1,12 @@
 package com.database.gametradefrontend.util;
 
+import com.database.gametradefrontend.client.ApiClient;
+import com.database.gametradefrontend.client.CircuitBreaker;
 import javafx.animation.FadeTransition;
+import javafx.animation.PauseTransition;
 import javafx.application.Platform;
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.WeakChangeListener;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Node;
 import javafx.scene.Parent;
@@ -15,6 +20,8 @@ import javafx.util.Duration;
  * 控制器工具类，用于提取重复的控制器代码
  */
 public class ControllerUtils {
+    private static final String AUTO_HIDE_KEY = "ControllerUtils.autoHide";
+    private static final String BACKEND_STATUS_KEY = "ControllerUtils.backendStatus";
     
     /**
      * 切换界面 - 使用指定窗口大小，保持窗口位置，带平滑过渡动画
@@ -187,14 +194,14 @@ public class ControllerUtils {
                 "-fx-text-fill: #ff4444; -fx-background-color: rgba(255, 68, 68, 0.1);");
         messageLabel.setVisible(true);
         
-        new Thread(() -> {
-            try {
-                Thread.sleep(3000);
-                Platform.runLater(() -> messageLabel.setVisible(false));
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-            }
-        }).start();
+        // 使用FX时间线计时，连续显示消息时重新计时而不是叠加多个计时器
+        PauseTransition hideDelay = (PauseTransition) messageLabel.getProperties().get(AUTO_HIDE_KEY);
+        if (hideDelay == null) {
+            hideDelay = new PauseTransition(Duration.seconds(3));
+            hideDelay.setOnFinished(e -> messageLabel.setVisible(false));
+            messageLabel.getProperties().put(AUTO_HIDE_KEY, hideDelay);
+        }
+        hideDelay.playFromStart();
     }
     
     /**
@@ -210,6 +217,29 @@ public class ControllerUtils {
         }
     }
     
+    /**
+     * 把后端熔断状态绑定到界面提示条：熔断或恢复探测期间显示提示，恢复正常后隐藏
+     * 监听器由提示条持有，界面关闭后随提示条一起回收，不会让全局状态一直引用旧界面
+     * @param banner 提示条
+     */
+    public static void bindBackendStatus(Label banner) {
+        ChangeListener<CircuitBreaker.State> listener = (obs, oldState, newState) -> showBackendStatus(banner, newState);
+        banner.getProperties().put(BACKEND_STATUS_KEY, listener);
+        ApiClient.backendStateProperty().addListener(new WeakChangeListener<>(listener));
+        showBackendStatus(banner, ApiClient.backendStateProperty().get());
+    }
+    
+    private static void showBackendStatus(Label banner, CircuitBreaker.State state) {
+        String message = switch (state) {
+            case OPEN -> "⚠️ 后端服务暂时不可用（" + state.getDisplayName() + "），相关操作会直接失败，请稍后重试";
+            case HALF_OPEN -> "⏳ 正在检测后端服务是否恢复（" + state.getDisplayName() + "）";
+            case CLOSED -> null;
+        };
+        banner.setText(message != null ? message : "");
+        banner.setVisible(message != null);
+        banner.setManaged(message != null);
+    }
+    
     /**
      * 显示错误警告对话框
      * @param message 错误消息
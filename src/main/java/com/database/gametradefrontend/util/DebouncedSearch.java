@@ -0,0 +1,174 @@
+package com.database.gametradefrontend.util;
+
+import javafx.animation.PauseTransition;
+import javafx.util.Duration;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * 防抖搜索 - 连续输入时只在停顿后发出一次搜索，并保证只显示最新一次搜索的结果
+ * 每次发出搜索都分配递增的序号，新的搜索发出时取消上一次仍在进行的请求；
+ * 结果返回时序号已不是最新的（请求取消前已经返回，或取消未能及时生效）直接丢弃，旧结果不会覆盖新结果。
+ * 同时统计感知延迟：从一轮输入的第一次按键到结果显示完毕的时间
+ * 必须在JavaFX线程上使用
+ * @param <T> 搜索结果类型
+ */
+public class DebouncedSearch<T> {
+    // 感知延迟超过此值时输出日志
+    private static final long SLOW_SEARCH_MILLIS = 300;
+
+    private final String name;
+    private final Function<String, CompletableFuture<T>> search;
+    private final BiConsumer<T, Throwable> resultHandler;
+    private final Executor fxExecutor;
+    private final PauseTransition pause;
+
+    private String pendingQuery;
+    private long sequence;
+    private CompletableFuture<T> inFlight;
+    // 本轮输入第一次按键的时间，0表示当前没有等待显示的搜索
+    private long burstStartNanos;
+
+    private long completedCount;
+    private long supersededCount;
+    private long staleCount;
+    private long lastLatencyMillis;
+    private long maxLatencyMillis;
+    private long totalLatencyMillis;
+
+    /**
+     * @param name 搜索名称，用于日志
+     * @param debounceMillis 输入停顿多久后发出搜索（毫秒）
+     * @param fxExecutor 回调使用的JavaFX线程执行器（一般为TaskScope.fxExecutor()）
+     * @param search 搜索函数，返回的Future被取消时应取消对应的请求
+     * @param resultHandler 最新一次搜索的结果处理（在JavaFX线程上调用，失败时结果为null）
+     */
+    public DebouncedSearch(String name, long debounceMillis, Executor fxExecutor,
+                           Function<String, CompletableFuture<T>> search, BiConsumer<T, Throwable> resultHandler) {
+        this.name = name;
+        this.fxExecutor = fxExecutor;
+        this.search = search;
+        this.resultHandler = resultHandler;
+        this.pause = new PauseTransition(Duration.millis(Math.max(0, debounceMillis)));
+        this.pause.setOnFinished(event -> fire(pendingQuery));
+    }
+
+    /**
+     * 输入变化：重新开始计时，停顿后再发出搜索；进行中的旧搜索已不再需要，立即取消
+     */
+    public void submit(String query) {
+        sequence++;
+        cancelInFlight();
+        markBurstStart();
+        pendingQuery = query;
+        pause.playFromStart();
+    }
+
+    /**
+     * 立即发出搜索（如点击搜索按钮），同时取消等待中的防抖搜索
+     */
+    public void submitNow(String query) {
+        pause.stop();
+        markBurstStart();
+        fire(query);
+    }
+
+    /**
+     * 取消等待中和进行中的搜索，之后返回的结果都会被丢弃
+     */
+    public void cancel() {
+        pause.stop();
+        sequence++;
+        cancelInFlight();
+        burstStartNanos = 0;
+    }
+
+    private void markBurstStart() {
+        if (burstStartNanos == 0) {
+            burstStartNanos = System.nanoTime();
+        }
+    }
+
+    private void fire(String query) {
+        long token = ++sequence;
+        cancelInFlight();
+
+        CompletableFuture<T> started;
+        try {
+            started = search.apply(query);
+        } catch (RuntimeException e) {
+            started = CompletableFuture.failedFuture(e);
+        }
+        CompletableFuture<T> future = started;
+        inFlight = future;
+        future.whenCompleteAsync((result, error) -> {
+            if (token != sequence) {
+                // 已有更新的搜索，丢弃旧结果
+                if (!future.isCancelled()) {
+                    staleCount++;
+                }
+                return;
+            }
+            inFlight = null;
+            resultHandler.accept(error == null ? result : null, error);
+            recordLatency(query);
+        }, fxExecutor);
+    }
+
+    private void cancelInFlight() {
+        if (inFlight != null && !inFlight.isDone()) {
+            inFlight.cancel(true);
+            supersededCount++;
+        }
+        inFlight = null;
+    }
+
+    private void recordLatency(String query) {
+        if (burstStartNanos == 0) {
+            return;
+        }
+        long latency = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - burstStartNanos);
+        burstStartNanos = 0;
+        completedCount++;
+        lastLatencyMillis = latency;
+        maxLatencyMillis = Math.max(maxLatencyMillis, latency);
+        totalLatencyMillis += latency;
+        if (latency > SLOW_SEARCH_MILLIS) {
+            System.err.println(name + "较慢: \"" + query + "\" 从输入到显示用时 " + latency + "ms");
+        }
+    }
+
+    /**
+     * 获取最近一次搜索的感知延迟（毫秒）
+     */
+    public long getLastLatencyMillis() {
+        return lastLatencyMillis;
+    }
+
+    /**
+     * 获取被新搜索取消的请求数
+     */
+    public long getSupersededCount() {
+        return supersededCount;
+    }
+
+    /**
+     * 获取因已过时而丢弃的结果数
+     */
+    public long getStaleCount() {
+        return staleCount;
+    }
+
+    /**
+     * 获取搜索状态描述，用于日志输出
+     */
+    public String describe() {
+        long average = completedCount == 0 ? 0 : totalLatencyMillis / completedCount;
+        return String.format("%s: 完成=%d, 感知延迟 最近=%dms 平均=%dms 最长=%dms, 取消=%d, 丢弃过时结果=%d",
+                name, completedCount, lastLatencyMillis, average, maxLatencyMillis, supersededCount, staleCount);
+    }
+}
@@ -0,0 +1,148 @@
+package com.database.gametradefrontend.util;
+
+import com.database.gametradefrontend.config.AppConfig;
+import javafx.application.Platform;
+import javafx.collections.ListChangeListener;
+import javafx.scene.Scene;
+import javafx.stage.Stage;
+import javafx.stage.Window;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * JavaFX线程卡顿监测 - 输出超过阈值（默认16ms，即一帧）的界面线程占用
+ * 两种方式同时监测：
+ * 1. 每个窗口场景的脉冲中，从布局前到布局后（CSS和布局计算）的耗时；
+ * 2. 后台线程定期向界面线程投递探测任务，探测任务等待执行的时间即界面线程被事件处理、回调等占用的时间
+ */
+public final class FxStallMonitor {
+    private static final boolean ENABLED = AppConfig.isFxStallMonitorEnabled();
+    private static final long THRESHOLD_NANOS = TimeUnit.MILLISECONDS.toNanos(AppConfig.getFxStallThresholdMillis());
+    private static final long PROBE_INTERVAL_MILLIS = 100;
+
+    private static final AtomicBoolean started = new AtomicBoolean();
+    // 上一个探测任务尚未执行时不再投递新的，避免卡顿期间探测任务堆积
+    private static final AtomicBoolean probePending = new AtomicBoolean();
+    // 已监测的场景（弱引用，场景关闭后自动移除）
+    private static final Map<Scene, Boolean> WATCHED_SCENES = new WeakHashMap<>();
+
+    private static final AtomicLong pulseStalls = new AtomicLong();
+    private static final AtomicLong threadStalls = new AtomicLong();
+    private static final AtomicLong maxStallNanos = new AtomicLong();
+
+    private FxStallMonitor() {
+    }
+
+    /**
+     * 启动监测（必须在JavaFX线程上调用，重复调用无效果）
+     */
+    public static void start() {
+        if (!ENABLED || !started.compareAndSet(false, true)) {
+            return;
+        }
+        for (Window window : Window.getWindows()) {
+            watchWindow(window);
+        }
+        Window.getWindows().addListener((ListChangeListener<Window>) change -> {
+            while (change.next()) {
+                for (Window window : change.getAddedSubList()) {
+                    watchWindow(window);
+                }
+            }
+        });
+
+        ScheduledExecutorService prober = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "fx-stall-monitor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        prober.scheduleWithFixedDelay(FxStallMonitor::probe, PROBE_INTERVAL_MILLIS, PROBE_INTERVAL_MILLIS,
+                TimeUnit.MILLISECONDS);
+    }
+
+    private static void watchWindow(Window window) {
+        watchScene(window.getScene());
+        // 界面切换时窗口会更换场景
+        window.sceneProperty().addListener((obs, oldScene, newScene) -> watchScene(newScene));
+    }
+
+    private static void watchScene(Scene scene) {
+        if (scene == null || WATCHED_SCENES.put(scene, Boolean.TRUE) != null) {
+            return;
+        }
+        long[] layoutStart = new long[1];
+        scene.addPreLayoutPulseListener(() -> layoutStart[0] = System.nanoTime());
+        scene.addPostLayoutPulseListener(() -> {
+            long elapsed = System.nanoTime() - layoutStart[0];
+            if (layoutStart[0] != 0 && elapsed > THRESHOLD_NANOS) {
+                pulseStalls.incrementAndGet();
+                record(elapsed, "脉冲布局", describeScene(scene));
+            }
+        });
+    }
+
+    private static void probe() {
+        if (!probePending.compareAndSet(false, true)) {
+            return;
+        }
+        long postedAt = System.nanoTime();
+        Platform.runLater(() -> {
+            long elapsed = System.nanoTime() - postedAt;
+            probePending.set(false);
+            if (elapsed > THRESHOLD_NANOS) {
+                threadStalls.incrementAndGet();
+                record(elapsed, "线程占用", null);
+            }
+        });
+    }
+
+    private static void record(long elapsedNanos, String kind, String detail) {
+        maxStallNanos.accumulateAndGet(elapsedNanos, Math::max);
+        System.err.println(String.format("FX线程卡顿(%s) %.1f ms%s", kind, elapsedNanos / 1_000_000.0,
+                detail != null ? " - " + detail : ""));
+    }
+
+    private static String describeScene(Scene scene) {
+        Window window = scene.getWindow();
+        if (window instanceof Stage stage && stage.getTitle() != null) {
+            return stage.getTitle();
+        }
+        return scene.getRoot() != null ? scene.getRoot().getClass().getSimpleName() : null;
+    }
+
+    /**
+     * 获取布局耗时超过阈值的脉冲数
+     */
+    public static long getPulseStallCount() {
+        return pulseStalls.get();
+    }
+
+    /**
+     * 获取界面线程被占用超过阈值的次数
+     */
+    public static long getThreadStallCount() {
+        return threadStalls.get();
+    }
+
+    /**
+     * 获取监测到的最长卡顿时间（毫秒）
+     */
+    public static double getMaxStallMillis() {
+        return maxStallNanos.get() / 1_000_000.0;
+    }
+
+    /**
+     * 获取监测状态描述，用于日志输出
+     */
+    public static String describe() {
+        return String.format("FX线程卡顿: 脉冲布局=%d, 线程占用=%d, 最长=%.1f ms (阈值%d ms)",
+                getPulseStallCount(), getThreadStallCount(), getMaxStallMillis(),
+                TimeUnit.NANOSECONDS.toMillis(THRESHOLD_NANOS));
+    }
+}
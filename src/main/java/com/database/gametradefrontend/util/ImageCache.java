@@ -0,0 +1,252 @@
+package com.database.gametradefrontend.util;
+
+import com.database.gametradefrontend.config.AppConfig;
+import javafx.scene.image.Image;
+
+import java.lang.ref.SoftReference;
+import java.net.URL;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 图片缓存 - 所有界面共享的已解码图片
+ * 按"资源路径 + 请求尺寸"缓存，同一张图片在同一尺寸下只解码一次；图片按显示尺寸在后台线程解码（Image的backgroundLoading），
+ * 不阻塞JavaFX线程，指定尺寸的图片还会保存为磁盘缩略图（见ThumbnailStore），之后直接读取缩略图而不再解码原图。
+ * 缓存按估算的解码后字节数限制大小，超出时按LRU淘汰到软引用区，内存充足时软引用区的图片仍可直接复用，内存紧张时由GC回收
+ */
+public final class ImageCache {
+    /**
+     * 找不到游戏图片时使用的默认图片
+     */
+    public static final String DEFAULT_IMAGE = "/icon/yuanshen.png";
+
+    private static final String ICON_DIR = "/icon/";
+    // 尚未解码完成、尺寸未知的图片按此大小估算
+    private static final long UNKNOWN_IMAGE_BYTES = 256 * 256 * 4;
+
+    private static final long MAX_BYTES = AppConfig.getImageCacheMaxBytes();
+
+    // accessOrder=true 使迭代顺序为最近访问顺序，便于LRU淘汰
+    private static final LinkedHashMap<String, Image> STRONG = new LinkedHashMap<>(64, 0.75f, true);
+    private static final Map<String, Long> SIZES = new HashMap<>();
+    private static final Map<String, SoftReference<Image>> SOFT = new HashMap<>();
+    private static long totalBytes;
+
+    // 资源路径 -> URL，避免每次都到类路径中查找
+    private static final Map<String, Optional<URL>> RESOURCES = new ConcurrentHashMap<>();
+
+    private static final AtomicLong hits = new AtomicLong();
+    private static final AtomicLong softHits = new AtomicLong();
+    private static final AtomicLong misses = new AtomicLong();
+    private static final AtomicLong evictions = new AtomicLong();
+
+    private ImageCache() {
+    }
+
+    /**
+     * 获取游戏图片：依次尝试图片名本身（以/开头的资源路径）、icon目录下的同名图片，最后使用默认图片
+     * @param imageName 图片名或资源路径
+     * @param width 显示宽度（按此尺寸解码，0表示原始尺寸）
+     * @param height 显示高度（按此尺寸解码，0表示原始尺寸）
+     * @return 图片（可能仍在后台解码中）；连默认图片都不存在时返回null
+     */
+    public static Image getGameImage(String imageName, double width, double height) {
+        return getGameImage(imageName, width, height, false);
+    }
+    
+    /**
+     * 获取游戏图片
+     * @param preserveRatio 是否保持原图比例（在width×height范围内缩放）
+     */
+    public static Image getGameImage(String imageName, double width, double height, boolean preserveRatio) {
+        if (imageName != null && !imageName.isBlank()) {
+            if (imageName.startsWith("/")) {
+                Image image = get(imageName, width, height, preserveRatio);
+                if (image != null) {
+                    return image;
+                }
+            }
+            Image image = get(ICON_DIR + imageName, width, height, preserveRatio);
+            if (image != null) {
+                return image;
+            }
+        }
+        return get(DEFAULT_IMAGE, width, height, preserveRatio);
+    }
+
+    /**
+     * 获取窗口图标
+     */
+    public static Image getAppIcon() {
+        return get(DEFAULT_IMAGE, 0, 0);
+    }
+
+    /**
+     * 获取类路径中的图片资源
+     * @param resourcePath 资源路径，如/icon/yuanshen.png
+     * @param width 解码宽度，0表示原始尺寸
+     * @param height 解码高度，0表示原始尺寸
+     * @return 图片；资源不存在时返回null
+     */
+    public static Image get(String resourcePath, double width, double height) {
+        return get(resourcePath, width, height, false);
+    }
+    
+    /**
+     * 获取类路径中的图片资源
+     * @param preserveRatio 是否保持原图比例（在width×height范围内缩放）
+     */
+    public static Image get(String resourcePath, double width, double height, boolean preserveRatio) {
+        Optional<URL> url = RESOURCES.computeIfAbsent(resourcePath,
+                path -> Optional.ofNullable(ImageCache.class.getResource(path)));
+        if (url.isEmpty()) {
+            return null;
+        }
+
+        String key = resourcePath + "@" + (int) width + "x" + (int) height + (preserveRatio ? "r" : "");
+        boolean sized = width > 0 && height > 0;
+        boolean fromOriginal = false;
+        boolean fromThumbnail = false;
+        Image image;
+        synchronized (ImageCache.class) {
+            image = STRONG.get(key);
+            if (image != null) {
+                hits.incrementAndGet();
+                return image;
+            }
+            SoftReference<Image> softReference = SOFT.remove(key);
+            image = softReference != null ? softReference.get() : null;
+            if (image != null) {
+                // 软引用区中的图片尚未被回收，直接放回LRU
+                softHits.incrementAndGet();
+                store(key, image);
+                return image;
+            }
+            misses.incrementAndGet();
+            // 指定尺寸时优先读取磁盘上的缩略图，没有时才按显示尺寸解码原图
+            String thumbnail = sized ? ThumbnailStore.find(url.get(), key) : null;
+            if (thumbnail != null) {
+                image = new Image(thumbnail, true);
+                fromThumbnail = true;
+            } else {
+                image = new Image(url.get().toExternalForm(), width, height, preserveRatio, true, true);
+                fromOriginal = sized;
+            }
+            store(key, image);
+        }
+
+        Image loading = image;
+        boolean saveThumbnail = fromOriginal;
+        boolean discardThumbnail = fromThumbnail;
+        if (loading.getProgress() < 1) {
+            // 解码完成后按实际尺寸重新计算占用，由原图解码的还要保存缩略图
+            loading.progressProperty().addListener((obs, oldValue, newValue) -> {
+                if (newValue.doubleValue() >= 1 && !loading.isError()) {
+                    resize(key, loading);
+                    if (saveThumbnail) {
+                        ThumbnailStore.save(url.get(), key, loading);
+                    }
+                }
+            });
+        }
+        loading.errorProperty().addListener((obs, oldValue, error) -> {
+            if (error) {
+                System.err.println("图片解码失败: " + resourcePath);
+                remove(key, loading);
+                if (discardThumbnail) {
+                    // 缩略图文件损坏，删除后下次从原图重新生成
+                    ThumbnailStore.discard(url.get(), key);
+                }
+            }
+        });
+        return image;
+    }
+
+    private static void store(String key, Image image) {
+        long bytes = estimateBytes(image);
+        STRONG.put(key, image);
+        Long previous = SIZES.put(key, bytes);
+        totalBytes += bytes - (previous != null ? previous : 0);
+        evictIfNeeded(key);
+    }
+
+    private static synchronized void resize(String key, Image image) {
+        if (STRONG.get(key) != image) {
+            return;
+        }
+        store(key, image);
+    }
+
+    private static synchronized void remove(String key, Image image) {
+        if (STRONG.get(key) == image) {
+            STRONG.remove(key);
+            Long bytes = SIZES.remove(key);
+            totalBytes -= bytes != null ? bytes : 0;
+        }
+        SOFT.remove(key);
+    }
+
+    /**
+     * 超出大小上限时，把最久未使用的图片移到软引用区
+     */
+    private static void evictIfNeeded(String keep) {
+        Iterator<Map.Entry<String, Image>> iterator = STRONG.entrySet().iterator();
+        while (totalBytes > MAX_BYTES && iterator.hasNext()) {
+            Map.Entry<String, Image> eldest = iterator.next();
+            if (eldest.getKey().equals(keep)) {
+                continue;
+            }
+            iterator.remove();
+            Long bytes = SIZES.remove(eldest.getKey());
+            totalBytes -= bytes != null ? bytes : 0;
+            SOFT.put(eldest.getKey(), new SoftReference<>(eldest.getValue()));
+            evictions.incrementAndGet();
+        }
+        // 清理已被GC回收的软引用
+        SOFT.values().removeIf(reference -> reference.get() == null);
+    }
+
+    /**
+     * 估算解码后占用的字节数（每像素4字节）
+     */
+    private static long estimateBytes(Image image) {
+        double width = image.getWidth() > 0 ? image.getWidth() : image.getRequestedWidth();
+        double height = image.getHeight() > 0 ? image.getHeight() : image.getRequestedHeight();
+        if (width <= 0 || height <= 0) {
+            return UNKNOWN_IMAGE_BYTES;
+        }
+        return (long) Math.ceil(width) * (long) Math.ceil(height) * 4;
+    }
+
+    public static long getHitCount() {
+        return hits.get();
+    }
+
+    public static long getSoftHitCount() {
+        return softHits.get();
+    }
+
+    public static long getMissCount() {
+        return misses.get();
+    }
+
+    public static long getEvictionCount() {
+        return evictions.get();
+    }
+
+    /**
+     * 获取缓存状态描述，用于日志输出
+     */
+    public static synchronized String describe() {
+        long total = hits.get() + softHits.get() + misses.get();
+        double hitRate = total == 0 ? 0 : (hits.get() + softHits.get()) * 100.0 / total;
+        return String.format("图片缓存: 条目=%d (软引用%d), 大小=%d/%d字节, 命中=%d, 软引用命中=%d, 解码=%d (命中率%.1f%%), 淘汰=%d, 缩略图读取=%d, 缩略图生成=%d",
+                STRONG.size(), SOFT.size(), totalBytes, MAX_BYTES, hits.get(), softHits.get(), misses.get(),
+                hitRate, evictions.get(), ThumbnailStore.getReadCount(), ThumbnailStore.getWriteCount());
+    }
+}
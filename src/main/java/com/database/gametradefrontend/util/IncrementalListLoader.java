@@ -0,0 +1,114 @@
+package com.database.gametradefrontend.util;
+
+import javafx.animation.AnimationTimer;
+import javafx.collections.ObservableList;
+
+import java.util.List;
+
+/**
+ * 分批加载列表数据 - 大量数据不一次性加入界面列表，而是每帧追加一批
+ * 配合虚拟化控件（如GridView、TableView）使用，首批数据立即显示，其余数据在后续帧陆续追加，
+ * 单帧的工作量有上限，界面不会因为一次加入上万条数据而卡顿。
+ * 新旧数据只有少量不同（如目录增量同步后）时可以只替换变化的部分，未变化的单元格不重建
+ * 必须在JavaFX线程上使用
+ * @param <T> 元素类型
+ */
+public class IncrementalListLoader<T> {
+    private final ObservableList<T> target;
+    private final int chunkSize;
+
+    private List<? extends T> pending = List.of();
+    private int nextIndex;
+
+    private final AnimationTimer timer = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            appendChunk();
+        }
+    };
+
+    /**
+     * @param target 目标列表（通常是控件的items）
+     * @param chunkSize 每帧追加的元素数
+     */
+    public IncrementalListLoader(ObservableList<T> target, int chunkSize) {
+        this.target = target;
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+
+    /**
+     * 替换列表内容：取消尚未追加完的上一批数据，清空列表后开始分批追加新数据
+     * @param items 新数据
+     */
+    public void load(List<? extends T> items) {
+        cancel();
+        target.clear();
+        pending = items;
+        nextIndex = 0;
+        appendChunk();
+        if (nextIndex < pending.size()) {
+            timer.start();
+        }
+    }
+
+    /**
+     * 更新列表内容：与当前内容相比只有一小段不同（元素按引用比较）时原地替换这一段，否则同load
+     * @param items 新数据
+     */
+    public void update(List<? extends T> items) {
+        if (isLoading()) {
+            load(items);
+            return;
+        }
+        int oldSize = target.size();
+        int newSize = items.size();
+        int prefix = 0;
+        int limit = Math.min(oldSize, newSize);
+        while (prefix < limit && target.get(prefix) == items.get(prefix)) {
+            prefix++;
+        }
+        int suffix = 0;
+        while (suffix < limit - prefix && target.get(oldSize - 1 - suffix) == items.get(newSize - 1 - suffix)) {
+            suffix++;
+        }
+        int removed = oldSize - prefix - suffix;
+        int added = newSize - prefix - suffix;
+        if (Math.max(removed, added) > chunkSize) {
+            load(items);
+            return;
+        }
+        if (removed > 0) {
+            target.remove(prefix, prefix + removed);
+        }
+        if (added > 0) {
+            target.addAll(prefix, items.subList(prefix, prefix + added));
+        }
+    }
+
+    /**
+     * 停止追加剩余数据（已追加的数据保留）
+     */
+    public void cancel() {
+        timer.stop();
+        pending = List.of();
+        nextIndex = 0;
+    }
+
+    /**
+     * 是否还有数据等待追加
+     */
+    public boolean isLoading() {
+        return nextIndex < pending.size();
+    }
+
+    private void appendChunk() {
+        int end = Math.min(nextIndex + chunkSize, pending.size());
+        if (nextIndex < end) {
+            target.addAll(pending.subList(nextIndex, end));
+            nextIndex = end;
+        }
+        if (nextIndex >= pending.size()) {
+            timer.stop();
+        }
+    }
+}
@@ -0,0 +1,260 @@
+package com.database.gametradefrontend.util;
+
+import javafx.application.Platform;
+import javafx.collections.ObservableList;
+import javafx.geometry.Orientation;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+import javafx.scene.control.Control;
+import javafx.scene.control.ScrollBar;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+/**
+ * 分页加载 - 按页从服务器获取列表数据，滚动接近底部时预取下一页
+ * 首页返回后立即显示，之后只在用户滚动到列表后部（或内容不足一屏）时才请求下一页，
+ * 内存和首屏时间不随数据总量增长。返回的数据少于一页时视为最后一页；
+ * 服务器不支持分页参数、一次返回了全部数据（多于一页）时同样视为最后一页；
+ * 恰好返回一页时，下一页的首条与上一页相同，此时丢弃这一页并停止加载。
+ * 首页返回前可先显示占位数据（如本地快照），首页返回后整体替换
+ * 必须在JavaFX线程上使用
+ * @param <T> 元素类型
+ */
+public class PagedLoader<T> {
+    // 滚动到此比例以后开始预取下一页
+    private static final double PREFETCH_THRESHOLD = 0.8;
+
+    private final ObservableList<T> target;
+    private final int pageSize;
+    private final IntFunction<CompletableFuture<List<T>>> pageFetcher;
+    private final Executor fxExecutor;
+
+    private BiConsumer<Integer, List<T>> onPageLoaded;
+    private Consumer<Throwable> onError;
+    private Function<? super T, ?> itemKey = Function.identity();
+    private Control control;
+    private ScrollBar scrollBar;
+
+    private int nextPage;
+    private boolean hasMore;
+    // 上一页首条的键，用于识别忽略分页参数、每页都返回相同数据的服务器
+    private Object previousFirstKey;
+    private CompletableFuture<List<T>> loading;
+    // 每次reload递增，丢弃上一轮加载中返回的页
+    private long generation;
+    // 列表中当前是占位数据，首页返回后替换
+    private boolean placeholder;
+
+    /**
+     * @param target 目标列表（通常是控件的items）
+     * @param pageSize 每页条数
+     * @param pageFetcher 按页号（从0开始）获取一页数据，返回的Future被取消时应取消请求
+     * @param fxExecutor 回调使用的JavaFX线程执行器（一般为TaskScope.fxExecutor()）
+     */
+    public PagedLoader(ObservableList<T> target, int pageSize, IntFunction<CompletableFuture<List<T>>> pageFetcher,
+                       Executor fxExecutor) {
+        this.target = target;
+        this.pageSize = Math.max(1, pageSize);
+        this.pageFetcher = pageFetcher;
+        this.fxExecutor = fxExecutor;
+    }
+
+    /**
+     * 设置每页加载完成后的回调（参数为页号和该页数据），可用于首页为空时的提示
+     */
+    public void setOnPageLoaded(BiConsumer<Integer, List<T>> onPageLoaded) {
+        this.onPageLoaded = onPageLoaded;
+    }
+
+    /**
+     * 设置加载失败的回调
+     */
+    public void setOnError(Consumer<Throwable> onError) {
+        this.onError = onError;
+    }
+
+    /**
+     * 设置识别同一条数据的键（如订单号），默认使用元素本身的equals
+     * 视图模型没有实现equals时需要设置，否则无法识别重复返回的页
+     */
+    public void setItemKey(Function<? super T, ?> itemKey) {
+        this.itemKey = itemKey;
+    }
+
+    /**
+     * 绑定列表控件（TableView、ListView、GridView等）：垂直滚动条接近底部时自动加载下一页
+     * 控件的皮肤创建后才有滚动条，可在initialize中调用
+     */
+    public void attachTo(Control control) {
+        this.control = control;
+        if (control.getSkin() != null) {
+            Platform.runLater(() -> findScrollBar(control));
+        }
+        control.skinProperty().addListener((obs, oldSkin, newSkin) -> {
+            if (newSkin != null) {
+                // 皮肤设置后滚动条要到下一次布局才创建
+                Platform.runLater(() -> findScrollBar(control));
+            }
+        });
+    }
+
+    private void findScrollBar(Control control) {
+        for (Node node : control.lookupAll(".scroll-bar")) {
+            if (node instanceof ScrollBar bar && bar.getOrientation() == Orientation.VERTICAL) {
+                scrollBar = bar;
+                bar.valueProperty().addListener((obs, oldValue, newValue) -> prefetchIfNeeded());
+                prefetchIfNeeded();
+                return;
+            }
+        }
+    }
+
+    /**
+     * 清空列表并从第一页重新加载
+     */
+    public void reload() {
+        generation++;
+        if (loading != null) {
+            loading.cancel(true);
+            loading = null;
+        }
+        target.clear();
+        placeholder = false;
+        nextPage = 0;
+        hasMore = true;
+        previousFirstKey = null;
+        loadNext();
+    }
+
+    /**
+     * 首页返回前先显示占位数据（如上次保存的本地快照），首页返回后整体替换；
+     * 首页已返回或加载失败后调用时不做任何事
+     */
+    public void showPlaceholder(List<T> items) {
+        if (items == null || items.isEmpty() || nextPage != 0 || loading == null || !target.isEmpty()) {
+            return;
+        }
+        target.setAll(items);
+        placeholder = true;
+    }
+
+    /**
+     * 加载下一页（正在加载或已无更多数据时不做任何事）
+     */
+    public void loadNext() {
+        if (loading != null || !hasMore) {
+            return;
+        }
+        int page = nextPage;
+        long currentGeneration = generation;
+        CompletableFuture<List<T>> future;
+        try {
+            future = pageFetcher.apply(page);
+        } catch (RuntimeException e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+        loading = future;
+        future.whenCompleteAsync((items, error) -> {
+            if (currentGeneration != generation) {
+                return;
+            }
+            loading = null;
+            if (error != null) {
+                // 失败后不再自动加载，下次reload时重试；已显示的占位数据保留
+                hasMore = false;
+                placeholder = false;
+                if (onError != null) {
+                    onError.accept(error);
+                }
+                return;
+            }
+            List<T> pageItems = items != null ? items : List.of();
+            if (page > 0 && !pageItems.isEmpty() && Objects.equals(itemKey.apply(pageItems.get(0)), previousFirstKey)) {
+                // 服务器忽略了分页参数，这一页与上一页相同，丢弃后不再加载
+                pageItems = List.of();
+            }
+            previousFirstKey = pageItems.isEmpty() ? null : itemKey.apply(pageItems.get(0));
+            if (placeholder) {
+                target.setAll(pageItems);
+                placeholder = false;
+            } else {
+                target.addAll(pageItems);
+            }
+            nextPage = page + 1;
+            // 不足一页是最后一页；多于一页说明服务器忽略了分页参数，已返回全部数据
+            hasMore = pageItems.size() == pageSize;
+            if (onPageLoaded != null) {
+                onPageLoaded.accept(page, pageItems);
+            }
+            checkAfterLayout();
+        }, fxExecutor);
+    }
+
+    /**
+     * 新数据加入后，滚动条要到下一次布局才更新，布局完成后再判断是否需要继续加载
+     */
+    private void checkAfterLayout() {
+        Scene scene = control != null ? control.getScene() : null;
+        if (scene == null) {
+            return;
+        }
+        Runnable[] check = new Runnable[1];
+        check[0] = () -> {
+            // 脉冲监听器遍历期间不能直接移除自身，放到之后移除
+            Platform.runLater(() -> scene.removePostLayoutPulseListener(check[0]));
+            prefetchIfNeeded();
+        };
+        scene.addPostLayoutPulseListener(check[0]);
+        Platform.requestNextPulse();
+    }
+
+    /**
+     * 滚动接近底部或内容不足一屏（没有滚动条）时加载下一页；控件不可见时不加载
+     */
+    private void prefetchIfNeeded() {
+        if (loading != null || !hasMore || scrollBar == null || !isShowing(control)) {
+            return;
+        }
+        double max = scrollBar.getMax();
+        if (!scrollBar.isVisible() || max <= 0 || scrollBar.getValue() >= max * PREFETCH_THRESHOLD) {
+            loadNext();
+        }
+    }
+
+    private static boolean isShowing(Node node) {
+        if (node.getScene() == null) {
+            return false;
+        }
+        for (Node current = node; current != null; current = current.getParent()) {
+            if (!current.isVisible()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 是否还有未加载的页
+     */
+    public boolean hasMore() {
+        return hasMore;
+    }
+
+    public boolean isLoading() {
+        return loading != null;
+    }
+
+    /**
+     * 获取已加载的页数
+     */
+    public int getLoadedPages() {
+        return nextPage;
+    }
+}
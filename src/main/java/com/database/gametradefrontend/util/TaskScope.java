@@ -0,0 +1,159 @@
+package com.database.gametradefrontend.util;
+
+import javafx.application.Platform;
+import javafx.beans.value.ChangeListener;
+import javafx.event.EventHandler;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+import javafx.stage.Window;
+import javafx.stage.WindowEvent;
+
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+/**
+ * 任务作用域 - 跟踪某个界面发起的所有后台任务
+ * 界面关闭或被切换时统一取消未完成的任务，并丢弃已经排队等待更新UI的回调，
+ * 避免已关闭的界面继续弹窗或刷新控件
+ */
+public class TaskScope {
+    private final String name;
+    private final Set<CompletableFuture<?>> tasks = ConcurrentHashMap.newKeySet();
+    private volatile boolean closed;
+
+    /**
+     * 仅在作用域未关闭时执行的JavaFX线程执行器
+     */
+    private final Executor fxExecutor = command -> {
+        if (closed) {
+            return;
+        }
+        if (Platform.isFxApplicationThread()) {
+            command.run();
+        } else {
+            Platform.runLater(() -> {
+                if (!closed) {
+                    command.run();
+                }
+            });
+        }
+    };
+
+    TaskScope(String name) {
+        this.name = name;
+    }
+
+    /**
+     * 在后台执行任务并纳入本作用域管理
+     * @param task 任务
+     * @return 任务结果
+     */
+    public <T> CompletableFuture<T> supply(Callable<T> task) {
+        return track(BackgroundTasks.supply(task));
+    }
+
+    /**
+     * 在后台执行无返回值的任务并纳入本作用域管理
+     * @param task 任务
+     * @return 任务完成的Future
+     */
+    public CompletableFuture<Void> run(Runnable task) {
+        return track(BackgroundTasks.run(task));
+    }
+
+    /**
+     * 将已有的异步任务（如ApiClient的异步请求）纳入本作用域管理
+     * @param future 异步任务
+     * @return 原任务，便于链式调用
+     */
+    public <T> CompletableFuture<T> track(CompletableFuture<T> future) {
+        if (closed) {
+            future.cancel(true);
+            return future;
+        }
+        tasks.add(future);
+        future.whenComplete((result, error) -> tasks.remove(future));
+        return future;
+    }
+
+    /**
+     * 获取本作用域的JavaFX线程执行器，作用域关闭后提交的回调会被直接丢弃
+     */
+    public Executor fxExecutor() {
+        return fxExecutor;
+    }
+
+    /**
+     * 取消本作用域内所有未完成的任务
+     */
+    public void cancelAll() {
+        for (CompletableFuture<?> task : tasks) {
+            task.cancel(true);
+        }
+        tasks.clear();
+    }
+
+    /**
+     * 关闭作用域：取消所有任务，之后提交的任务会被立即取消
+     */
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        int pending = tasks.size();
+        cancelAll();
+        if (pending > 0) {
+            System.err.println("界面[" + name + "]已关闭，取消 " + pending + " 个未完成的后台任务");
+        }
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * 获取未完成的任务数
+     */
+    public int getPendingCount() {
+        return tasks.size();
+    }
+
+    /**
+     * 将作用域与界面节点绑定：节点所在窗口关闭，或场景被替换离开窗口时自动关闭作用域
+     * 可在initialize中调用，此时节点尚未加入场景也没有关系
+     * @param node 界面中的任意节点
+     */
+    public void bindTo(Node node) {
+        EventHandler<WindowEvent> hiddenHandler = event -> close();
+        ChangeListener<Window> windowListener = (obs, oldWindow, newWindow) -> {
+            if (oldWindow != null) {
+                // 同一个Stage会被后续界面复用，离开时移除监听避免泄漏
+                oldWindow.removeEventHandler(WindowEvent.WINDOW_HIDDEN, hiddenHandler);
+            }
+            if (newWindow == null && oldWindow != null) {
+                close();
+            } else if (newWindow != null) {
+                newWindow.addEventHandler(WindowEvent.WINDOW_HIDDEN, hiddenHandler);
+            }
+        };
+        ChangeListener<Scene> sceneListener = (obs, oldScene, newScene) -> {
+            if (oldScene != null) {
+                oldScene.windowProperty().removeListener(windowListener);
+            }
+            if (newScene != null) {
+                newScene.windowProperty().addListener(windowListener);
+                if (newScene.getWindow() != null) {
+                    windowListener.changed(newScene.windowProperty(), null, newScene.getWindow());
+                }
+            }
+        };
+        node.sceneProperty().addListener(sceneListener);
+        if (node.getScene() != null) {
+            sceneListener.changed(node.sceneProperty(), null, node.getScene());
+        }
+    }
+}
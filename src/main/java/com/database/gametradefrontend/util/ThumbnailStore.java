@@ -0,0 +1,145 @@
+package com.database.gametradefrontend.util;
+
+import com.database.gametradefrontend.config.AppConfig;
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelFormat;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 磁盘缩略图缓存 - 保存按显示尺寸解码后的游戏图片
+ * 原图第一次按某个尺寸解码完成后，在后台把结果写成PNG缩略图；之后（包括下次启动）直接读取缩略图，
+ * 不必再解码高分辨率的原图。缩略图文件名包含原图的修改时间，原图更新后自动重新生成
+ */
+final class ThumbnailStore {
+    private static final boolean ENABLED = AppConfig.isImageThumbnailEnabled();
+    private static final Path DIR = Path.of(AppConfig.getImageThumbnailDir());
+
+    // 原图URL -> 修改时间
+    private static final Map<String, Long> SOURCE_STAMPS = new ConcurrentHashMap<>();
+
+    private static final AtomicLong reads = new AtomicLong();
+    private static final AtomicLong writes = new AtomicLong();
+
+    private ThumbnailStore() {
+    }
+
+    /**
+     * 查找已生成的缩略图
+     * @param source 原图地址
+     * @param key 缓存键（资源路径 + 尺寸）
+     * @return 缩略图地址；未启用或尚未生成时返回null
+     */
+    static String find(URL source, String key) {
+        if (!ENABLED) {
+            return null;
+        }
+        Path file = fileFor(source, key);
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        reads.incrementAndGet();
+        return file.toUri().toString();
+    }
+
+    /**
+     * 保存按显示尺寸解码完成的图片
+     * 像素在调用线程上读取（图片已解码，开销很小），PNG编码和写盘在后台任务中进行
+     * @param source 原图地址
+     * @param key 缓存键（资源路径 + 尺寸）
+     * @param image 已解码完成的图片
+     */
+    static void save(URL source, String key, Image image) {
+        if (!ENABLED || image.isError() || image.getPixelReader() == null) {
+            return;
+        }
+        int width = (int) image.getWidth();
+        int height = (int) image.getHeight();
+        if (width <= 0 || height <= 0) {
+            return;
+        }
+        int[] argb = new int[width * height];
+        image.getPixelReader().getPixels(0, 0, width, height, PixelFormat.getIntArgbInstance(), argb, 0, width);
+
+        Path file = fileFor(source, key);
+        BackgroundTasks.run(() -> {
+            Path temp = null;
+            try {
+                BufferedImage buffered = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+                buffered.setRGB(0, 0, width, height, argb, 0, width);
+                Files.createDirectories(DIR);
+                // 先写临时文件再改名，避免其他界面读到写了一半的缩略图
+                temp = Files.createTempFile(DIR, "thumb", ".tmp");
+                ImageIO.write(buffered, "png", temp.toFile());
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+                temp = null;
+                writes.incrementAndGet();
+            } catch (IOException e) {
+                System.err.println("保存缩略图失败: " + file + " - " + e.getMessage());
+            } finally {
+                if (temp != null) {
+                    try {
+                        Files.deleteIfExists(temp);
+                    } catch (IOException ignored) {
+                        // 临时文件删除失败不影响使用
+                    }
+                }
+            }
+        });
+    }
+
+    /**
+     * 删除无法解码的缩略图
+     */
+    static void discard(URL source, String key) {
+        Path file = fileFor(source, key);
+        BackgroundTasks.run(() -> {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                System.err.println("删除缩略图失败: " + file + " - " + e.getMessage());
+            }
+        });
+    }
+
+    private static Path fileFor(URL source, String key) {
+        String name = key.replaceAll("[^A-Za-z0-9._-]", "_");
+        return DIR.resolve(name + "_" + Long.toHexString(sourceStamp(source)) + ".png");
+    }
+
+    private static long sourceStamp(URL source) {
+        return SOURCE_STAMPS.computeIfAbsent(source.toExternalForm(), url -> {
+            try {
+                URLConnection connection = source.openConnection();
+                connection.setUseCaches(false);
+                return connection.getLastModified();
+            } catch (IOException e) {
+                return 0L;
+            }
+        });
+    }
+
+    /**
+     * 获取从磁盘读取的缩略图数
+     */
+    static long getReadCount() {
+        return reads.get();
+    }
+
+    /**
+     * 获取生成的缩略图数
+     */
+    static long getWriteCount() {
+        return writes.get();
+    }
+}
@@ -0,0 +1,77 @@
+package com.database.gametradefrontend.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * 视图模型转换 - 把接口返回的数据列表转换为界面使用的对象列表
+ * 转换和排序在后台线程上完成，JavaFX线程只拿到转换好的不可变列表，直接setAll或交给IncrementalListLoader，
+ * 不再在界面线程上逐条遍历、构造对象
+ */
+public final class ViewModels {
+
+    private ViewModels() {
+    }
+
+    /**
+     * 在后台线程上把请求结果转换为视图模型列表
+     * 返回的Future被取消时同时取消源请求（TaskScope只会取消它跟踪的Future本身）
+     * @param source 请求结果
+     * @param mapper 单条数据的转换函数
+     * @return 转换后的不可变列表；请求结果为null时为null（部分接口用null表示"无法查询"，与空列表含义不同）
+     */
+    public static <S, T> CompletableFuture<List<T>> mapAsync(CompletableFuture<? extends List<S>> source,
+                                                             Function<? super S, ? extends T> mapper) {
+        return mapAsync(source, mapper, null);
+    }
+
+    /**
+     * 在后台线程上把请求结果转换为视图模型列表并排序
+     * @param comparator 排序规则，为null时保持原顺序
+     */
+    public static <S, T> CompletableFuture<List<T>> mapAsync(CompletableFuture<? extends List<S>> source,
+                                                             Function<? super S, ? extends T> mapper,
+                                                             Comparator<? super T> comparator) {
+        CompletableFuture<List<T>> mapped = source.thenApplyAsync(list -> mapList(list, mapper, comparator),
+                BackgroundTasks.EXECUTOR);
+        mapped.whenComplete((result, error) -> {
+            if (mapped.isCancelled()) {
+                source.cancel(true);
+            }
+        });
+        return mapped;
+    }
+
+    /**
+     * 转换列表（在调用线程上执行），列表中的null和转换结果为null的条目都会跳过
+     * @return 转换后的不可变列表；list为null时返回null
+     */
+    public static <S, T> List<T> mapList(List<S> list, Function<? super S, ? extends T> mapper) {
+        return mapList(list, mapper, null);
+    }
+
+    /**
+     * 转换列表并排序（在调用线程上执行）
+     * @param comparator 排序规则，为null时保持原顺序
+     */
+    public static <S, T> List<T> mapList(List<S> list, Function<? super S, ? extends T> mapper,
+                                         Comparator<? super T> comparator) {
+        if (list == null) {
+            return null;
+        }
+        List<T> result = new ArrayList<>(list.size());
+        for (S item : list) {
+            T mappedItem = item != null ? mapper.apply(item) : null;
+            if (mappedItem != null) {
+                result.add(mappedItem);
+            }
+        }
+        if (comparator != null) {
+            result.sort(comparator);
+        }
+        return List.copyOf(result);
+    }
+}
@@ -11,6 +11,8 @@ module com.database.gametradefrontend {
     requires com.fasterxml.jackson.annotation;
     requires com.fasterxml.jackson.databind;
     requires java.logging;
+    requires java.management;
+    requires java.desktop;
 
     opens com.database.gametradefrontend to javafx.fxml;
     exports com.database.gametradefrontend;
@@ -20,4 +22,5 @@ module com.database.gametradefrontend {
     exports com.database.gametradefrontend.client;
     opens com.database.gametradefrontend.controller to javafx.fxml;
     opens com.database.gametradefrontend.service to com.fasterxml.jackson.databind;
+    opens com.database.gametradefrontend.model to com.fasterxml.jackson.databind;
 }
\ No newline at end of file
@@ -0,0 +1,50 @@
+package com.database.gametradefrontend;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * 基准测试用的分配统计 - 通过HotSpot的线程分配计数得到一段代码在当前线程上分配的堆字节数
+ */
+public final class Allocations {
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    /**
+     * 可抛出异常的待测操作
+     */
+    @FunctionalInterface
+    public interface Operation {
+        void run() throws Exception;
+    }
+
+    /**
+     * 单次操作的平均分配字节数和耗时
+     */
+    public record Result(long bytesPerOp, double millisPerOp) {
+        @Override
+        public String toString() {
+            return String.format("%,d 字节/次, %.3fms/次", bytesPerOp, millisPerOp);
+        }
+    }
+
+    private Allocations() {
+    }
+
+    /**
+     * 先预热，再在当前线程上执行指定次数并统计
+     */
+    public static Result measure(int warmup, int iterations, Operation operation) throws Exception {
+        for (int i = 0; i < warmup; i++) {
+            operation.run();
+        }
+        long thread = Thread.currentThread().threadId();
+        long startBytes = THREADS.getThreadAllocatedBytes(thread);
+        long startNanos = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            operation.run();
+        }
+        long nanos = System.nanoTime() - startNanos;
+        long bytes = THREADS.getThreadAllocatedBytes(thread) - startBytes;
+        return new Result(bytes / iterations, nanos / 1_000_000.0 / iterations);
+    }
+}
@@ -0,0 +1,208 @@
+package com.database.gametradefrontend;
+
+import com.database.gametradefrontend.config.AppConfig;
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+
+/**
+ * 测试用的后端桩服务 - 在测试配置api.base.url的端口上启动JDK自带的HttpServer
+ * 按接口路径（不含/api前缀）注册处理器，未注册的路径返回404；收到的请求都会记录下来供测试检查
+ * 整个测试进程共享一个实例，每个测试开始前调用reset清空处理器和请求记录
+ * 基准测试可以用link模拟较慢的网络链路（往返延迟、新连接的握手和下行带宽）
+ */
+public final class StubBackend {
+    private static volatile StubBackend instance;
+
+    private final HttpServer server;
+    private final String basePath;
+    private final Map<String, Handler> handlers = new ConcurrentHashMap<>();
+    private final List<Request> requests = new CopyOnWriteArrayList<>();
+    private final Set<InetSocketAddress> connections = ConcurrentHashMap.newKeySet();
+    private volatile long roundTripMillis;
+    private volatile long bytesPerSecond;
+
+    /**
+     * 收到的请求
+     * @param path 接口路径（不含/api前缀和查询参数）
+     * @param query 解码后的查询参数，没有时为空字符串
+     * @param remoteAddress 客户端地址，端口可用于区分连接
+     */
+    public record Request(String method, String path, String query, Headers headers, byte[] body,
+                          InetSocketAddress remoteAddress) {
+
+        public String bodyText() {
+            return new String(body, StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * 接口处理器，请求体已读出并放在request中
+     */
+    @FunctionalInterface
+    public interface Handler {
+        void handle(HttpExchange exchange, Request request) throws IOException;
+    }
+
+    private StubBackend() throws IOException {
+        // 与常见的后端服务器一样关闭Nagle算法，否则keep-alive连接上的小响应会被延迟确认拖慢约40ms
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+        URI base = URI.create(AppConfig.getApiBaseUrl());
+        basePath = base.getPath();
+        server = HttpServer.create(new InetSocketAddress(base.getHost(), base.getPort()), 0);
+        server.setExecutor(Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "stub-backend");
+            thread.setDaemon(true);
+            return thread;
+        }));
+        server.createContext("/", this::dispatch);
+        server.start();
+    }
+
+    /**
+     * 获取（首次调用时启动）桩服务，并清空处理器和请求记录
+     */
+    public static synchronized StubBackend start() throws IOException {
+        if (instance == null) {
+            instance = new StubBackend();
+        }
+        instance.reset();
+        return instance;
+    }
+
+    /**
+     * 清空处理器和请求记录
+     */
+    public void reset() {
+        handlers.clear();
+        requests.clear();
+        connections.clear();
+        roundTripMillis = 0;
+        bytesPerSecond = 0;
+    }
+
+    /**
+     * 模拟网络链路：每个请求多等待一个往返时间，新连接再多等待一个往返（TCP握手），
+     * 响应体按带宽限速写出；参数为0表示不限制
+     * @param roundTripMillis 往返延迟（毫秒）
+     * @param bytesPerSecond 下行带宽（字节/秒）
+     */
+    public void link(long roundTripMillis, long bytesPerSecond) {
+        this.roundTripMillis = roundTripMillis;
+        this.bytesPerSecond = bytesPerSecond;
+    }
+
+    /**
+     * 注册接口处理器，覆盖同一路径的旧处理器
+     * @param path 接口路径，如"/buyers/games/changes"
+     */
+    public void handle(String path, Handler handler) {
+        handlers.put(path, handler);
+    }
+
+    /**
+     * 获取指定路径收到的请求（按到达顺序）
+     */
+    public List<Request> requests(String path) {
+        return requests.stream().filter(request -> request.path().equals(path)).toList();
+    }
+
+    private void dispatch(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            byte[] body;
+            try (InputStream in = exchange.getRequestBody()) {
+                body = in.readAllBytes();
+            }
+            String path = exchange.getRequestURI().getPath();
+            if (path.startsWith(basePath)) {
+                path = path.substring(basePath.length());
+            }
+            String query = exchange.getRequestURI().getQuery();
+            Request request = new Request(exchange.getRequestMethod(), path, query != null ? query : "",
+                    exchange.getRequestHeaders(), body, exchange.getRemoteAddress());
+            requests.add(request);
+            delay(exchange.getRemoteAddress());
+
+            Handler handler = handlers.get(path);
+            if (handler == null) {
+                respond(exchange, 404, "{\"message\":\"接口不存在\"}");
+                return;
+            }
+            handler.handle(exchange, request);
+        }
+    }
+
+    private void delay(InetSocketAddress remoteAddress) throws IOException {
+        long rtt = roundTripMillis;
+        if (rtt <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(connections.add(remoteAddress) ? 2 * rtt : rtt);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("模拟链路延迟被中断", e);
+        }
+    }
+
+    /**
+     * 以JSON返回响应
+     */
+    public static void respond(HttpExchange exchange, int status, String json) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        respond(exchange, status, json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 返回原样的响应体（响应头由调用方事先设置），body为空数组时不带响应体
+     */
+    public static void respond(HttpExchange exchange, int status, byte[] body) throws IOException {
+        exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+        if (body.length > 0) {
+            try (OutputStream out = exchange.getResponseBody()) {
+                long rate = instance != null ? instance.bytesPerSecond : 0;
+                if (rate <= 0) {
+                    out.write(body);
+                } else {
+                    writeThrottled(out, body, rate);
+                }
+            }
+        }
+    }
+
+    /**
+     * 按带宽分块写出响应体，每块写出后等待到该块按带宽应当传完的时间
+     */
+    private static void writeThrottled(OutputStream out, byte[] body, long bytesPerSecond) throws IOException {
+        int chunk = (int) Math.max(1024, bytesPerSecond / 100);
+        long start = System.nanoTime();
+        for (int offset = 0; offset < body.length; offset += chunk) {
+            int length = Math.min(chunk, body.length - offset);
+            out.write(body, offset, length);
+            out.flush();
+            long due = start + (offset + length) * 1_000_000_000L / bytesPerSecond;
+            long wait = due - System.nanoTime();
+            if (wait > 0) {
+                try {
+                    Thread.sleep(wait / 1_000_000, (int) (wait % 1_000_000));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException("模拟链路限速被中断", e);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.database.gametradefrontend.client;
+
+import com.database.gametradefrontend.StubBackend;
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.ConnectException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 请求统计测试：通过桩服务发出请求，检查按接口模板汇总的请求数、错误分类、字节数和延迟分位数
+ */
+class ApiMetricsTest {
+    private static final TypeReference<List<String>> STRINGS = new TypeReference<>() {};
+
+    private StubBackend backend;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        backend = StubBackend.start();
+    }
+
+    @Test
+    void idSegmentsShareOneEndpoint() throws Exception {
+        backend.handle("/test/metrics/items/123", (exchange, request) -> StubBackend.respond(exchange, 200, "[\"a\"]"));
+        backend.handle("/test/metrics/items/456", (exchange, request) -> StubBackend.respond(exchange, 200, "[\"b\"]"));
+        ApiClient apiClient = new ApiClient();
+
+        apiClient.getAsync("/test/metrics/items/123", STRINGS).get(10, TimeUnit.SECONDS);
+        apiClient.getAsync("/test/metrics/items/456", STRINGS).get(10, TimeUnit.SECONDS);
+
+        EndpointMetrics metrics = ApiMetrics.forRequest("GET", "/test/metrics/items/{id}");
+        assertSame(metrics, ApiMetrics.forRequest("GET", "/test/metrics/items/789"));
+        assertEquals(2, metrics.getRequestCount());
+        assertEquals(0, metrics.getErrorCount());
+        assertEquals(10, metrics.getBytesIn());
+    }
+
+    @Test
+    void errorsAndRetriesAreCounted() {
+        backend.handle("/test/metrics/broken", (exchange, request) -> StubBackend.respond(exchange, 503, "{}"));
+
+        assertThrows(ExecutionException.class, () -> new ApiClient()
+                .getAsync("/test/metrics/broken", STRINGS).get(10, TimeUnit.SECONDS));
+
+        EndpointMetrics metrics = ApiMetrics.forRequest("GET", "/test/metrics/broken");
+        assertEquals(3, metrics.getRequestCount());
+        assertEquals(2, metrics.getRetryCount());
+        assertEquals(Map.of("HTTP 5xx", 3L), metrics.getErrorClasses());
+    }
+
+    @Test
+    void postBodyBytesAreCounted() throws Exception {
+        backend.handle("/test/metrics/submit", (exchange, request) -> StubBackend.respond(exchange, 200, "[]"));
+
+        new ApiClient().postAsync("/test/metrics/submit", Map.of("id", 1), STRINGS).get(10, TimeUnit.SECONDS);
+
+        assertEquals(8, ApiMetrics.forRequest("POST", "/test/metrics/submit").getBytesOut());
+    }
+
+    @Test
+    void latencyPercentilesReflectServerDelay() throws Exception {
+        backend.handle("/test/metrics/slow", (exchange, request) -> {
+            try {
+                Thread.sleep(30);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            StubBackend.respond(exchange, 200, "[]");
+        });
+        ApiClient apiClient = new ApiClient();
+
+        // 并发发出一批请求（查询参数不同，不会被合并）
+        List<CompletableFuture<List<String>>> requests = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            requests.add(apiClient.getAsync("/test/metrics/slow?n=" + i, STRINGS));
+        }
+        CompletableFuture.allOf(requests.toArray(new CompletableFuture<?>[0])).get(30, TimeUnit.SECONDS);
+
+        EndpointMetrics metrics = ApiMetrics.forRequest("GET", "/test/metrics/slow");
+        assertEquals(40, metrics.getRequestCount());
+        assertTrue(metrics.getLatencyP50Millis() >= 30, "p50=" + metrics.getLatencyP50Millis());
+        assertTrue(metrics.getLatencyP99Millis() >= metrics.getLatencyP50Millis());
+        assertTrue(metrics.getLatencyMaxMillis() >= metrics.getLatencyP99Millis());
+    }
+
+    @Test
+    void errorsAreClassifiedByCause() {
+        assertEquals("HTTP 4xx", EndpointMetrics.classify(new ApiClient.ApiException("HTTP 404", 404)));
+        assertEquals("熔断", EndpointMetrics.classify(new CircuitBreaker.CircuitOpenException("localhost:8080", 1000)));
+        assertEquals("超时", EndpointMetrics.classify(new Deadline.DeadlineExceededException("查询", 5000)));
+        assertEquals("连接失败", EndpointMetrics.classify(new ConnectException()));
+        assertEquals("取消", EndpointMetrics.classify(new CancellationException()));
+        assertEquals("IllegalStateException", EndpointMetrics.classify(new IllegalStateException()));
+    }
+}
@@ -0,0 +1,106 @@
+package com.database.gametradefrontend.client;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 熔断器状态转换测试：CLOSED -> OPEN -> HALF_OPEN -> CLOSED/OPEN
+ */
+class CircuitBreakerTest {
+    private static final long OPEN_MILLIS = 50;
+
+    private final CircuitBreaker breaker = new CircuitBreaker("localhost:8080", 2, OPEN_MILLIS);
+    private final List<CircuitBreaker.State> transitions = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void listen() {
+        breaker.addListener(transitions::add);
+    }
+
+    @Test
+    void opensAfterConsecutiveFailures() {
+        breaker.onFailure();
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertTrue(breaker.tryAcquire());
+
+        breaker.onFailure();
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquire());
+        assertTrue(breaker.getRemainingOpenMillis() > 0);
+        assertEquals(List.of(CircuitBreaker.State.OPEN), transitions);
+    }
+
+    @Test
+    void successResetsFailureCount() {
+        breaker.onFailure();
+        breaker.onSuccess();
+        breaker.onFailure();
+
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertEquals(0, breaker.getRemainingOpenMillis());
+        assertTrue(transitions.isEmpty());
+    }
+
+    @Test
+    void halfOpenAllowsSingleTrialThatClosesOnSuccess() throws Exception {
+        open();
+        Thread.sleep(OPEN_MILLIS + 20);
+
+        assertTrue(breaker.tryAcquire());
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquire());
+
+        breaker.onSuccess();
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertTrue(breaker.tryAcquire());
+        assertTrue(breaker.tryAcquire());
+        assertEquals(List.of(CircuitBreaker.State.OPEN, CircuitBreaker.State.HALF_OPEN, CircuitBreaker.State.CLOSED),
+                transitions);
+    }
+
+    @Test
+    void failedTrialReopensImmediately() throws Exception {
+        open();
+        Thread.sleep(OPEN_MILLIS + 20);
+        assertTrue(breaker.tryAcquire());
+
+        breaker.onFailure();
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquire());
+        assertEquals(List.of(CircuitBreaker.State.OPEN, CircuitBreaker.State.HALF_OPEN, CircuitBreaker.State.OPEN),
+                transitions);
+    }
+
+    @Test
+    void abandonedTrialReleasesSlot() throws Exception {
+        open();
+        Thread.sleep(OPEN_MILLIS + 20);
+        assertTrue(breaker.tryAcquire());
+
+        breaker.onAbandoned();
+
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        assertTrue(breaker.tryAcquire());
+    }
+
+    @Test
+    void openExceptionReportsRemainingSeconds() {
+        CircuitBreaker.CircuitOpenException error = new CircuitBreaker.CircuitOpenException("localhost:8080", 1500);
+        assertEquals(ApiClient.ApiException.NO_STATUS, error.getStatusCode());
+        assertTrue(error.getMessage().contains("2秒"), error.getMessage());
+    }
+
+    private void open() {
+        breaker.onFailure();
+        breaker.onFailure();
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+    }
+}
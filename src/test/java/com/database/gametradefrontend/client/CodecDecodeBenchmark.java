@@ -0,0 +1,104 @@
+package com.database.gametradefrontend.client;
+
+import com.database.gametradefrontend.Allocations;
+import com.database.gametradefrontend.model.GameSummary;
+import com.database.gametradefrontend.model.SalesRecord;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 编解码器解码基准：商店目录和销售数据两种响应，比较
+ * 原来每个ApiClient新建ObjectMapper（findAndRegisterModules）后解码、共享ObjectMapper直接解码、
+ * 共享JSON编解码器按类型缓存的ObjectReader解码三种方式的耗时和堆分配
+ * 构建中没有Smile/CBOR数据格式模块，只比较JSON
+ * 不在常规测试中运行，执行：mvn test -Dtest=CodecDecodeBenchmark
+ */
+class CodecDecodeBenchmark {
+    private static final int CATALOG_SIZE = 2000;
+    private static final int SALES_SIZE = 500;
+
+    @Test
+    void catalogDecode() throws Exception {
+        compare("商店目录（" + CATALOG_SIZE + " 个游戏）", catalog(), GameSummary.LIST_TYPE);
+    }
+
+    @Test
+    void salesDecode() throws Exception {
+        compare("销售数据（" + SALES_SIZE + " 行）", sales(), SalesRecord.LIST_TYPE);
+    }
+
+    private static <T> void compare(String name, List<Map<String, Object>> rows, TypeReference<T> type)
+            throws Exception {
+        ObjectMapper shared = newMapper();
+        byte[] payload = shared.writeValueAsBytes(rows);
+        JavaType javaType = WireCodecs.JSON.mapper().getTypeFactory().constructType(type);
+        T expected = shared.readValue(payload, type);
+        assertEquals(expected, WireCodecs.JSON.decode(new ByteArrayInputStream(payload), javaType));
+
+        Allocations.Result perClient = Allocations.measure(20, 200,
+                () -> newMapper().readValue(new ByteArrayInputStream(payload), type));
+        Allocations.Result sharedMapper = Allocations.measure(20, 200,
+                () -> shared.readValue(new ByteArrayInputStream(payload), type));
+        Allocations.Result codec = Allocations.measure(20, 200,
+                () -> WireCodecs.JSON.decode(new ByteArrayInputStream(payload), javaType));
+
+        System.out.println(name + "，" + payload.length + " 字节JSON");
+        System.out.println("  每次新建ObjectMapper: " + perClient);
+        System.out.println("  共享ObjectMapper: " + sharedMapper);
+        System.out.println("  共享编解码器（缓存ObjectReader）: " + codec);
+    }
+
+    /**
+     * 原来每个ApiClient构造时的做法
+     */
+    private static ObjectMapper newMapper() {
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.findAndRegisterModules();
+        mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        return mapper;
+    }
+
+    private static List<Map<String, Object>> catalog() {
+        List<Map<String, Object>> games = new ArrayList<>();
+        for (int i = 0; i < CATALOG_SIZE; i++) {
+            Map<String, Object> game = new LinkedHashMap<>();
+            game.put("gameName", "游戏" + i);
+            game.put("category", i % 2 == 0 ? "动作" : "角色扮演");
+            game.put("price", 30 + i % 70);
+            game.put("score", 8.0 + i % 10 / 10.0);
+            game.put("salesVolume", i * 13);
+            game.put("companyName", "厂商" + i % 20);
+            game.put("description", "这是一款关于冒险与探索的游戏，编号" + i);
+            games.add(game);
+        }
+        return games;
+    }
+
+    private static List<Map<String, Object>> sales() {
+        List<Map<String, Object>> records = new ArrayList<>();
+        for (int i = 0; i < SALES_SIZE; i++) {
+            Map<String, Object> record = new LinkedHashMap<>();
+            record.put("gameName", "游戏" + i);
+            record.put("category", i % 2 == 0 ? "动作" : "角色扮演");
+            record.put("price", String.valueOf(30 + i % 70));
+            record.put("salesVolume", i * 7);
+            record.put("visitorCount", i * 40);
+            record.put("salesAmount", "" + (i * 7 * (30 + i % 70)) + ".00");
+            record.put("conversionRate", "0." + (10 + i % 80));
+            record.put("status", "已上架");
+            records.add(record);
+        }
+        return records;
+    }
+}
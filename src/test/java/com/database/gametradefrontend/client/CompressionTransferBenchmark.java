@@ -0,0 +1,116 @@
+package com.database.gametradefrontend.client;
+
+import com.database.gametradefrontend.StubBackend;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 响应压缩的传输时间基准：桩服务模拟限速链路，同一份商店目录分别按gzip和不压缩返回，
+ * 比较ApiClient从发出请求到解码完成的耗时和链路上传输的字节数
+ * gzip在每次请求时由桩服务现场压缩，压缩耗时计入结果
+ * 不在常规测试中运行，执行：mvn test -Dtest=CompressionTransferBenchmark
+ */
+class CompressionTransferBenchmark {
+    private static final String GZIP_PATH = "/test/compression/gzip";
+    private static final String IDENTITY_PATH = "/test/compression/identity";
+    private static final TypeReference<List<Map<String, Object>>> GAMES = new TypeReference<>() {};
+    private static final long ROUND_TRIP_MILLIS = 20;
+    // 约8Mbit/s的下行带宽
+    private static final long BYTES_PER_SECOND = 1_000_000;
+    private static final int CATALOG_SIZE = 2000;
+    private static final int WARMUP = 3;
+    private static final int REQUESTS = 20;
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @Test
+    void gzipVersusIdentityOnThrottledLink() throws Exception {
+        StubBackend backend = StubBackend.start();
+        byte[] json = mapper.writeValueAsBytes(games());
+        backend.handle(GZIP_PATH, (exchange, request) -> {
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.getResponseHeaders().set("Content-Encoding", "gzip");
+            StubBackend.respond(exchange, 200, gzip(json));
+        });
+        backend.handle(IDENTITY_PATH, (exchange, request) -> {
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            StubBackend.respond(exchange, 200, json);
+        });
+        backend.link(ROUND_TRIP_MILLIS, BYTES_PER_SECOND);
+        ApiClient apiClient = new ApiClient();
+
+        for (int i = 0; i < WARMUP; i++) {
+            apiClient.get(GZIP_PATH, GAMES);
+            apiClient.get(IDENTITY_PATH, GAMES);
+        }
+        long gzipBytesBefore = ApiClient.getReceivedBytes(GZIP_PATH);
+        long identityBytesBefore = ApiClient.getReceivedBytes(IDENTITY_PATH);
+        long[] gzip = new long[REQUESTS];
+        long[] identity = new long[REQUESTS];
+        for (int i = 0; i < REQUESTS; i++) {
+            long start = System.nanoTime();
+            List<Map<String, Object>> compressed = apiClient.get(GZIP_PATH, GAMES);
+            gzip[i] = System.nanoTime() - start;
+            start = System.nanoTime();
+            List<Map<String, Object>> plain = apiClient.get(IDENTITY_PATH, GAMES);
+            identity[i] = System.nanoTime() - start;
+            assertEquals(CATALOG_SIZE, compressed.size());
+            assertEquals(plain, compressed);
+        }
+        long gzipBytes = (ApiClient.getReceivedBytes(GZIP_PATH) - gzipBytesBefore) / REQUESTS;
+        long identityBytes = (ApiClient.getReceivedBytes(IDENTITY_PATH) - identityBytesBefore) / REQUESTS;
+        assertEquals(json.length, identityBytes);
+
+        System.out.println("商店目录（" + CATALOG_SIZE + " 个游戏, " + json.length + " 字节, 往返延迟 " + ROUND_TRIP_MILLIS
+                + "ms, 带宽 " + BYTES_PER_SECOND / 1000 + "KB/s, " + REQUESTS + " 次请求）");
+        System.out.println("  不压缩: " + percentiles(identity) + ", 每次传输 " + identityBytes + " 字节");
+        System.out.println("  gzip: " + percentiles(gzip) + ", 每次传输 " + gzipBytes + " 字节");
+    }
+
+    private static byte[] gzip(byte[] data) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(data);
+        }
+        return out.toByteArray();
+    }
+
+    private static String percentiles(long[] nanos) {
+        long[] sorted = nanos.clone();
+        Arrays.sort(sorted);
+        return String.format("p50 %.1fms, p99 %.1fms", percentile(sorted, 0.50), percentile(sorted, 0.99));
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1_000_000.0;
+    }
+
+    private static List<Map<String, Object>> games() {
+        List<Map<String, Object>> games = new ArrayList<>();
+        for (int i = 0; i < CATALOG_SIZE; i++) {
+            Map<String, Object> game = new LinkedHashMap<>();
+            game.put("gameName", "游戏" + i);
+            game.put("category", i % 2 == 0 ? "动作" : "角色扮演");
+            game.put("price", String.valueOf(30 + i % 70));
+            game.put("rating", "8." + i % 10);
+            game.put("popularity", String.valueOf(i * 13));
+            game.put("companyName", "厂商" + i % 20);
+            game.put("description", "这是一款关于冒险与探索的游戏，编号" + i);
+            games.add(game);
+        }
+        return games;
+    }
+}
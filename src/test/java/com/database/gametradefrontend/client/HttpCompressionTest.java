@@ -0,0 +1,148 @@
+package com.database.gametradefrontend.client;
+
+import com.database.gametradefrontend.StubBackend;
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * HTTP压缩测试：各种Content-Encoding的解码、请求体gzip压缩，
+ * 以及通过桩服务比较同一列表按gzip和不压缩返回时的传输字节数
+ */
+class HttpCompressionTest {
+    private static final TypeReference<List<String>> STRINGS = new TypeReference<>() {};
+    private static final byte[] DATA = "[\"星露谷物语\",\"Hades\",\"Hollow Knight\"]".repeat(50).getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    void identityIsPassedThrough() throws IOException {
+        InputStream body = new ByteArrayInputStream(DATA);
+        assertSame(body, HttpCompression.decode(body, null));
+        assertSame(body, HttpCompression.decode(body, "identity"));
+        assertSame(body, HttpCompression.decode(body, " "));
+    }
+
+    @Test
+    void gzipIsDecoded() throws IOException {
+        assertArrayEquals(DATA, decode(gzip(DATA), "gzip"));
+        assertArrayEquals(DATA, decode(gzip(DATA), "X-GZIP"));
+    }
+
+    @Test
+    void zlibAndRawDeflateAreDecoded() throws IOException {
+        assertArrayEquals(DATA, decode(deflate(DATA, false), "deflate"));
+        // 部分服务器发送不带zlib头的原始deflate数据
+        assertArrayEquals(DATA, decode(deflate(DATA, true), "deflate"));
+    }
+
+    @Test
+    void emptyCompressedBodyIsEmpty() throws IOException {
+        assertEquals(0, decode(new byte[0], "gzip").length);
+    }
+
+    @Test
+    void unknownEncodingFails() {
+        assertThrows(IOException.class, () -> HttpCompression.decode(new ByteArrayInputStream(DATA), "br"));
+    }
+
+    @Test
+    void decodedResponsesCountSavedBytes() throws IOException {
+        long before = HttpCompression.getResponseBytesSaved();
+        byte[] compressed = gzip(DATA);
+        decode(compressed, "gzip");
+        assertEquals(DATA.length - compressed.length, HttpCompression.getResponseBytesSaved() - before);
+    }
+
+    @Test
+    void requestBodyGzipRoundTrips() throws IOException {
+        List<String> value = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            value.add("游戏" + i);
+        }
+        PooledBody body = PooledBody.encode(WireCodecs.JSON.mapper(), value);
+        PooledBody compressed = HttpCompression.gzip(body);
+
+        assertTrue(compressed.length() < body.length());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        compressed.writeTo(out);
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            assertEquals(body.asString(), new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+        body.release(true);
+        compressed.release(true);
+    }
+
+    @Test
+    void gzipResponseTransfersFewerBytesThanIdentity() throws Exception {
+        StubBackend backend = StubBackend.start();
+        List<String> games = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            games.add("{\"gameName\":\"游戏" + i + "\",\"category\":\"动作\",\"price\":\"68\",\"companyName\":\"厂商\"}");
+        }
+        byte[] json = WireCodecs.JSON.mapper().writeValueAsBytes(games);
+        backend.handle("/test/compression/gzip", (exchange, request) -> {
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.getResponseHeaders().set("Content-Encoding", "gzip");
+            StubBackend.respond(exchange, 200, gzip(json));
+        });
+        backend.handle("/test/compression/identity", (exchange, request) -> {
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            StubBackend.respond(exchange, 200, json);
+        });
+        ApiClient apiClient = new ApiClient();
+
+        List<String> compressed = apiClient.getAsync("/test/compression/gzip", STRINGS).get(10, TimeUnit.SECONDS);
+        List<String> identity = apiClient.getAsync("/test/compression/identity", STRINGS).get(10, TimeUnit.SECONDS);
+
+        assertEquals(games, compressed);
+        assertEquals(games, identity);
+        assertEquals(HttpCompression.ACCEPT_ENCODING,
+                backend.requests("/test/compression/gzip").get(0).headers().getFirst("Accept-Encoding"));
+        long gzipBytes = ApiClient.getReceivedBytes("/test/compression/gzip");
+        long identityBytes = ApiClient.getReceivedBytes("/test/compression/identity");
+        assertEquals(json.length, identityBytes);
+        assertTrue(gzipBytes * 5 < identityBytes, "gzip=" + gzipBytes + " identity=" + identityBytes);
+    }
+
+    private static byte[] decode(byte[] data, String encoding) throws IOException {
+        try (InputStream in = HttpCompression.decode(new ByteArrayInputStream(data), encoding)) {
+            return in.readAllBytes();
+        }
+    }
+
+    private static byte[] gzip(byte[] data) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(data);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] deflate(byte[] data, boolean raw) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, raw);
+        try (DeflaterOutputStream deflate = new DeflaterOutputStream(out, deflater)) {
+            deflate.write(data);
+        } finally {
+            deflater.end();
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,217 @@
+package com.database.gametradefrontend.client;
+
+import com.database.gametradefrontend.StubBackend;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.http.HttpRequest;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 池化请求体和缓冲池测试：序列化、固定长度发布（含重新订阅）、引用计数和字节块归还，
+ * 以及通过桩服务检查请求收到响应后才归还请求体
+ * 测试配置中每块1024字节，池中最多保留8块
+ */
+class PooledBodyTest {
+    private static final ObjectMapper MAPPER = WireCodecs.JSON.mapper();
+
+    private final Map<String, Object> value = Map.of("gameName", "星露谷物语", "description", "种田".repeat(600));
+
+    @BeforeEach
+    void drainPool() {
+        while (BufferPool.getPooledCount() > 0) {
+            BufferPool.take();
+        }
+    }
+
+    @Test
+    void encodesAcrossChunks() throws IOException {
+        byte[] expected = MAPPER.writeValueAsBytes(value);
+        PooledBody body = PooledBody.encode(MAPPER, value);
+
+        assertTrue(expected.length > 2 * BufferPool.BUFFER_SIZE);
+        assertEquals(expected.length, body.length());
+        assertEquals(new String(expected, StandardCharsets.UTF_8), body.asString());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        body.writeTo(out);
+        assertArrayEquals(expected, out.toByteArray());
+    }
+
+    @Test
+    void publisherSendsFixedLengthAndCanBeResubscribed() throws IOException {
+        byte[] expected = MAPPER.writeValueAsBytes(value);
+        HttpRequest.BodyPublisher publisher = PooledBody.encode(MAPPER, value).publisher();
+
+        assertEquals(expected.length, publisher.contentLength());
+        // 重试时重新订阅，从头发送同样的字节
+        assertArrayEquals(expected, Collector.collect(publisher, 1).bytes());
+        assertArrayEquals(expected, Collector.collect(publisher, Long.MAX_VALUE).bytes());
+    }
+
+    @Test
+    void nonPositiveRequestFailsSubscriber() throws IOException {
+        Collector collector = new Collector(0);
+        PooledBody.encode(MAPPER, value).publisher().subscribe(collector);
+
+        assertInstanceOf(IllegalArgumentException.class, collector.error);
+        assertEquals(0, collector.buffers.size());
+    }
+
+    @Test
+    void releaseRecyclesChunksOnlyAfterLastReference() throws IOException {
+        PooledBody body = PooledBody.encode(MAPPER, value).retain();
+
+        body.release(true);
+        assertEquals(0, BufferPool.getPooledCount());
+        body.release(true);
+        assertEquals(chunksOf(body), BufferPool.getPooledCount());
+    }
+
+    @Test
+    void bodyStillReadByConnectionIsNotRecycled() throws IOException {
+        PooledBody body = PooledBody.encode(MAPPER, value).retain();
+
+        // 一个使用者取消或超时：连接可能仍在读取这些字节
+        body.release(false);
+        body.release(true);
+        assertEquals(0, BufferPool.getPooledCount());
+    }
+
+    @Test
+    void answeredRequestRecyclesBody() throws Exception {
+        StubBackend backend = StubBackend.start();
+        backend.handle("/test/query", (exchange, request) -> StubBackend.respond(exchange, 200, "[]"));
+        long expectedChunks = chunksOf(PooledBody.encode(MAPPER, value));
+        drainPool();
+
+        new ApiClient().postAsync("/test/query", value, Object.class).get(10, TimeUnit.SECONDS);
+
+        awaitPooledCount(expectedChunks);
+    }
+
+    @Test
+    void bodyOfUnansweredAttemptIsNotRecycled() throws Exception {
+        StubBackend backend = StubBackend.start();
+        // 不发送响应就关闭连接，客户端收不到响应（安全的POST会重试到次数用完）
+        backend.handle("/test/query", (exchange, request) -> exchange.close());
+
+        assertThrows(ExecutionException.class, () -> new ApiClient()
+                .postAsync("/test/query", value, Object.class).get(10, TimeUnit.SECONDS));
+
+        assertEquals(3, backend.requests("/test/query").size());
+        Thread.sleep(100);
+        assertEquals(0, BufferPool.getPooledCount());
+    }
+
+    @Test
+    void poolReusesRecycledBuffers() {
+        byte[] buffer = BufferPool.take();
+        assertEquals(BufferPool.BUFFER_SIZE, buffer.length);
+
+        BufferPool.recycle(buffer);
+        assertSame(buffer, BufferPool.take());
+    }
+
+    @Test
+    void poolIgnoresForeignAndExcessBuffers() {
+        BufferPool.recycle(new byte[10]);
+        assertEquals(0, BufferPool.getPooledCount());
+
+        List<byte[]> buffers = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            buffers.add(BufferPool.take());
+        }
+        buffers.forEach(BufferPool::recycle);
+        assertEquals(8, BufferPool.getPooledCount());
+        assertNotSame(buffers.get(9), BufferPool.take());
+    }
+
+    private static long chunksOf(PooledBody body) {
+        return (body.length() + BufferPool.BUFFER_SIZE - 1) / BufferPool.BUFFER_SIZE;
+    }
+
+    /**
+     * 请求完成后请求体在回调中归还，稍等片刻
+     */
+    private static void awaitPooledCount(long expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (BufferPool.getPooledCount() < expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(expected, BufferPool.getPooledCount());
+    }
+
+    /**
+     * 收集发布器输出的订阅者，每次onNext后再请求下一批
+     */
+    private static final class Collector implements Flow.Subscriber<ByteBuffer> {
+        private final long batch;
+        private final List<ByteBuffer> buffers = new ArrayList<>();
+        private Flow.Subscription subscription;
+        private Throwable error;
+        private boolean complete;
+
+        Collector(long batch) {
+            this.batch = batch;
+        }
+
+        static Collector collect(HttpRequest.BodyPublisher publisher, long batch) {
+            Collector collector = new Collector(batch);
+            publisher.subscribe(collector);
+            assertTrue(collector.complete);
+            return collector;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(batch);
+        }
+
+        @Override
+        public void onNext(ByteBuffer item) {
+            buffers.add(item);
+            if (batch != Long.MAX_VALUE) {
+                subscription.request(batch);
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            complete = true;
+        }
+
+        byte[] bytes() {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            for (ByteBuffer buffer : buffers) {
+                byte[] chunk = new byte[buffer.remaining()];
+                buffer.duplicate().get(chunk);
+                out.write(chunk, 0, chunk.length);
+            }
+            return out.toByteArray();
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.database.gametradefrontend.client;
+
+import com.database.gametradefrontend.Allocations;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.net.http.HttpRequest;
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Flow;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 请求体分配基准：带长简介的/vendors/update-game请求体，
+ * 原来writeValueAsString后由BodyPublishers.ofString转成byte[]，与序列化到池化字节块比较每次请求的堆分配
+ * 两种方式都把发布器的内容完整读出一遍，相当于连接写出请求体
+ * 测试配置中每块1024字节、池中最多8块，池化请求体超过8KB的部分不会回池
+ * 不在常规测试中运行，执行：mvn test -Dtest=RequestBodyAllocationBenchmark
+ */
+class RequestBodyAllocationBenchmark {
+    private static final ObjectMapper MAPPER = WireCodecs.JSON.mapper();
+
+    @Test
+    void updateGameBody() throws Exception {
+        compare("简介约2KB", updateGame(700));
+        compare("简介约7KB", updateGame(2300));
+    }
+
+    private static void compare(String name, Map<String, Object> requestData) throws Exception {
+        long length = MAPPER.writeValueAsBytes(requestData).length;
+        assertEquals(length, drain(HttpRequest.BodyPublishers.ofString(MAPPER.writeValueAsString(requestData))));
+        assertEquals(length, pooled(requestData));
+
+        Allocations.Result before = Allocations.measure(2000, 20000,
+                () -> drain(HttpRequest.BodyPublishers.ofString(MAPPER.writeValueAsString(requestData))));
+        Allocations.Result after = Allocations.measure(2000, 20000, () -> pooled(requestData));
+
+        System.out.println("/vendors/update-game请求体（" + name + ", " + length + " 字节）");
+        System.out.println("  writeValueAsString + ofString: " + before);
+        System.out.println("  池化字节块: " + after);
+    }
+
+    /**
+     * 现在的做法：序列化到池化字节块，发送完成后归还缓冲池
+     */
+    private static long pooled(Map<String, Object> requestData) throws Exception {
+        PooledBody body = PooledBody.encode(MAPPER, requestData);
+        try {
+            return drain(body.publisher());
+        } finally {
+            body.release(true);
+        }
+    }
+
+    /**
+     * 读出发布器的全部内容，返回字节数
+     */
+    private static long drain(HttpRequest.BodyPublisher publisher) {
+        long[] total = new long[1];
+        publisher.subscribe(new Flow.Subscriber<>() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(ByteBuffer item) {
+                total[0] += item.remaining();
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                throw new IllegalStateException(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        });
+        return total[0];
+    }
+
+    private static Map<String, Object> updateGame(int descriptionChars) {
+        Map<String, Object> requestData = new HashMap<>();
+        requestData.put("account", "vendor001");
+        requestData.put("gameName", "星露谷物语");
+        requestData.put("price", "48");
+        requestData.put("description", "在祖父留下的农场开始新生活，种植作物、饲养动物、结交朋友。".repeat(descriptionChars / 28));
+        requestData.put("licenseNumber", "ISBN 978-7-89988-123-4");
+        requestData.put("downloadLink", "https://example.com/download/stardew-valley");
+        requestData.put("category", "模拟经营");
+        return requestData;
+    }
+}
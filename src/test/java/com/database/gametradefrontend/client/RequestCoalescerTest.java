@@ -0,0 +1,107 @@
+package com.database.gametradefrontend.client;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 请求合并测试：相同的在途请求只发送一次，单个调用方取消不影响其他调用方
+ */
+class RequestCoalescerTest {
+    private final RequestCoalescer coalescer = new RequestCoalescer();
+    private final AtomicInteger sent = new AtomicInteger();
+
+    @Test
+    void identicalInFlightRequestsShareOneCall() throws Exception {
+        CompletableFuture<String> source = new CompletableFuture<>();
+        CompletableFuture<String> first = coalescer.execute("GET /a", () -> send(source));
+        CompletableFuture<String> second = coalescer.execute("GET /a", () -> send(new CompletableFuture<>()));
+
+        source.complete("结果");
+
+        assertEquals("结果", first.get());
+        assertEquals("结果", second.get());
+        assertNotSame(first, second);
+        assertEquals(1, sent.get());
+        assertEquals(1, coalescer.getStartedCount());
+        assertEquals(1, coalescer.getCoalescedCount());
+    }
+
+    @Test
+    void differentKeysAreSentSeparately() {
+        coalescer.execute("GET /a", () -> send(new CompletableFuture<>()));
+        coalescer.execute("GET /b", () -> send(new CompletableFuture<>()));
+        assertEquals(2, sent.get());
+    }
+
+    @Test
+    void completedRequestIsNotReused() throws Exception {
+        assertEquals("1", coalescer.execute("GET /a", () -> send(CompletableFuture.completedFuture("1"))).get());
+        assertEquals("2", coalescer.execute("GET /a", () -> send(CompletableFuture.completedFuture("2"))).get());
+        assertEquals(2, sent.get());
+    }
+
+    @Test
+    void failureReachesEveryCaller() {
+        CompletableFuture<String> source = new CompletableFuture<>();
+        CompletableFuture<String> first = coalescer.execute("GET /a", () -> send(source));
+        CompletableFuture<String> second = coalescer.execute("GET /a", () -> send(source));
+        IllegalStateException failure = new IllegalStateException("失败");
+
+        source.completeExceptionally(failure);
+
+        assertSame(failure, assertThrows(ExecutionException.class, first::get).getCause());
+        assertSame(failure, assertThrows(ExecutionException.class, second::get).getCause());
+    }
+
+    @Test
+    void throwingRequestFailsCaller() {
+        CompletableFuture<String> caller = coalescer.execute("GET /a", () -> {
+            throw new IllegalArgumentException("无效请求");
+        });
+        assertTrue(caller.isCompletedExceptionally());
+        assertFalse(caller.isCancelled());
+    }
+
+    @Test
+    void cancellingOneCallerKeepsRequestForOthers() throws Exception {
+        CompletableFuture<String> source = new CompletableFuture<>();
+        CompletableFuture<String> first = coalescer.execute("GET /a", () -> send(source));
+        CompletableFuture<String> second = coalescer.execute("GET /a", () -> send(source));
+
+        first.cancel(true);
+        assertFalse(source.isCancelled());
+
+        source.complete("结果");
+        assertEquals("结果", second.get());
+    }
+
+    @Test
+    void cancellingAllCallersCancelsRequest() throws Exception {
+        CompletableFuture<String> source = new CompletableFuture<>();
+        CompletableFuture<String> first = coalescer.execute("GET /a", () -> send(source));
+        CompletableFuture<String> second = coalescer.execute("GET /a", () -> send(source));
+
+        first.cancel(true);
+        second.cancel(true);
+        assertTrue(source.isCancelled());
+
+        // 取消后的相同请求重新发送
+        assertEquals("新结果", coalescer.execute("GET /a", () -> send(CompletableFuture.completedFuture("新结果"))).get());
+        assertEquals(2, sent.get());
+    }
+
+    private <T> CompletableFuture<T> send(CompletableFuture<T> response) {
+        sent.incrementAndGet();
+        return response;
+    }
+}
@@ -0,0 +1,145 @@
+package com.database.gametradefrontend.client;
+
+import com.database.gametradefrontend.StubBackend;
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 响应缓存测试：TTL规则、LRU淘汰、失效，以及通过桩服务验证ETag条件请求
+ * 测试配置：缓存上限65536字节，GET /test/cached 缓存300ms，/test/mutate 成功后失效 /test/cached
+ */
+class ResponseCacheTest {
+    private static final String CACHED = "/test/cached";
+    private static final TypeReference<List<String>> STRINGS = new TypeReference<>() {};
+
+    private final ResponseCache cache = new ResponseCache();
+
+    @Test
+    void ttlOnlyForConfiguredEndpoints() {
+        assertEquals(300, cache.ttlFor("GET", CACHED));
+        assertEquals(0, cache.ttlFor("POST", CACHED));
+        assertEquals(0, cache.ttlFor("PUT", CACHED));
+        assertEquals(0, cache.ttlFor("GET", "/test/other"));
+    }
+
+    @Test
+    void entryExpiresAfterTtlAndRevalidationExtendsIt() throws Exception {
+        cache.put("k", CACHED, new byte[10], null, "\"v1\"", null, 50, cache.generation());
+        ResponseCache.Entry entry = cache.get("k");
+        assertTrue(entry.isFresh());
+        assertTrue(entry.isRevalidatable());
+
+        Thread.sleep(80);
+        assertFalse(entry.isFresh());
+
+        assertEquals(entry, cache.revalidated("k"));
+        assertTrue(entry.isFresh());
+        assertEquals(1, cache.getRevalidationCount());
+        assertNull(cache.revalidated("missing"));
+    }
+
+    @Test
+    void entryWithoutValidatorsIsNotRevalidatable() {
+        cache.put("k", CACHED, new byte[10], null, null, null, 1000, cache.generation());
+        assertFalse(cache.get("k").isRevalidatable());
+    }
+
+    @Test
+    void leastRecentlyUsedEntryIsEvicted() {
+        cache.put("a", CACHED, new byte[30000], null, null, null, 1000, cache.generation());
+        cache.put("b", CACHED, new byte[30000], null, null, null, 1000, cache.generation());
+        cache.get("a");
+        cache.put("c", CACHED, new byte[30000], null, null, null, 1000, cache.generation());
+
+        assertNotNull(cache.get("a"));
+        assertNull(cache.get("b"));
+        assertNotNull(cache.get("c"));
+        assertEquals(1, cache.getEvictionCount());
+    }
+
+    @Test
+    void oversizedResponseIsNotCached() {
+        cache.put("big", CACHED, new byte[65537], null, null, null, 1000, cache.generation());
+        assertNull(cache.get("big"));
+    }
+
+    @Test
+    void mutationInvalidatesConfiguredPrefixes() {
+        cache.put("a", CACHED + "?page=0", new byte[10], null, null, null, 1000, cache.generation());
+        cache.put("b", "/test/other", new byte[10], null, null, null, 1000, cache.generation());
+
+        cache.onMutation("/test/mutate");
+
+        assertNull(cache.get("a"));
+        assertNotNull(cache.get("b"));
+    }
+
+    @Test
+    void responseStartedBeforeInvalidationIsNotCached() {
+        long generation = cache.generation();
+        cache.invalidate(CACHED);
+        cache.put("k", CACHED, new byte[10], null, null, null, 1000, generation);
+        assertNull(cache.get("k"));
+    }
+
+    @Test
+    void expiredEntryIsRevalidatedWithEtag() throws Exception {
+        StubBackend backend = StubBackend.start();
+        ApiClient.clearCache();
+        backend.handle(CACHED, (exchange, request) -> {
+            if ("\"v1\"".equals(request.headers().getFirst("If-None-Match"))) {
+                StubBackend.respond(exchange, 304, new byte[0]);
+            } else {
+                exchange.getResponseHeaders().set("ETag", "\"v1\"");
+                StubBackend.respond(exchange, 200, "[\"v1\"]");
+            }
+        });
+        ApiClient apiClient = new ApiClient();
+
+        assertEquals(List.of("v1"), get(apiClient));
+        assertEquals(List.of("v1"), get(apiClient));
+        assertEquals(1, backend.requests(CACHED).size());
+
+        Thread.sleep(350);
+        assertEquals(List.of("v1"), get(apiClient));
+        assertEquals(2, backend.requests(CACHED).size());
+        assertEquals("\"v1\"", backend.requests(CACHED).get(1).headers().getFirst("If-None-Match"));
+    }
+
+    @Test
+    void notModifiedForEvictedEntryRefetches() throws Exception {
+        StubBackend backend = StubBackend.start();
+        ApiClient.clearCache();
+        backend.handle(CACHED, (exchange, request) -> {
+            if (request.headers().containsKey("If-None-Match")) {
+                // 条件请求在途时缓存条目被清掉
+                ApiClient.clearCache();
+                StubBackend.respond(exchange, 304, new byte[0]);
+            } else {
+                exchange.getResponseHeaders().set("ETag", "\"v" + backend.requests(CACHED).size() + "\"");
+                StubBackend.respond(exchange, 200, "[\"第" + backend.requests(CACHED).size() + "次\"]");
+            }
+        });
+        ApiClient apiClient = new ApiClient();
+
+        assertEquals(List.of("第1次"), get(apiClient));
+        Thread.sleep(350);
+        assertEquals(List.of("第3次"), get(apiClient));
+        assertEquals(3, backend.requests(CACHED).size());
+        assertFalse(backend.requests(CACHED).get(2).headers().containsKey("If-None-Match"));
+    }
+
+    private static List<String> get(ApiClient apiClient) throws Exception {
+        return apiClient.getAsync(CACHED, STRINGS).get(10, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,162 @@
+package com.database.gametradefrontend.client;
+
+import com.database.gametradefrontend.StubBackend;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ConnectException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 重试策略测试：可重试的请求和失败、退避时间，以及通过桩服务验证实际的重试行为
+ * 测试配置：最多3次尝试，退避基础间隔10ms、上限50ms，/test/query 是安全的POST查询接口，/test/update 是可重试的PUT接口
+ */
+class RetryPolicyTest {
+    private static final TypeReference<List<String>> STRINGS = new TypeReference<>() {};
+
+    private final RetryPolicy policy = new RetryPolicy();
+
+    @Test
+    void onlyIdempotentOrListedRequestsAreRetried() {
+        assertTrue(policy.isRetryable("GET", "/buyers/orders"));
+        assertTrue(policy.isRetryable("PUT", "/test/update"));
+        assertFalse(policy.isRetryable("PUT", "/buyers/orders/pay"));
+        assertFalse(policy.isRetryable("PUT", "/buyers/orders/cancel"));
+        assertTrue(policy.isRetryable("DELETE", "/buyers/orders"));
+        assertTrue(policy.isRetryable("POST", "/test/query"));
+        assertFalse(policy.isRetryable("POST", "/buyers/orders"));
+        assertFalse(policy.isRetryable("PATCH", "/test/query"));
+    }
+
+    @Test
+    void onlyNetworkErrorsAndRetryableStatusesAreRetried() {
+        assertTrue(policy.isRetryableFailure(new ConnectException("连接被拒绝")));
+        assertTrue(policy.isRetryableFailure(new UncheckedIOException(new IOException("连接重置"))));
+        assertTrue(policy.isRetryableFailure(new ApiClient.ApiException("HTTP 503", 503)));
+        assertTrue(policy.isRetryableFailure(new ApiClient.ApiException("HTTP 429", 429)));
+        assertFalse(policy.isRetryableFailure(new ApiClient.ApiException("HTTP 500", 500)));
+        assertFalse(policy.isRetryableFailure(new ApiClient.ApiException("HTTP 400", 400)));
+        assertFalse(policy.isRetryableFailure(new JsonParseException(null, "响应格式错误")));
+        assertFalse(policy.isRetryableFailure(new IllegalStateException()));
+        assertFalse(policy.isRetryableFailure(new CircuitBreaker.CircuitOpenException("localhost:8080", 1000)));
+        assertFalse(policy.isRetryableFailure(new Deadline.DeadlineExceededException("查询", 5000)));
+    }
+
+    @Test
+    void serverErrorsCountAsBackendFailures() {
+        assertTrue(policy.isServerFailure(new ApiClient.ApiException("HTTP 500", 500)));
+        assertTrue(policy.isServerFailure(new ApiClient.ApiException("HTTP 429", 429)));
+        assertTrue(policy.isServerFailure(new ConnectException()));
+        assertFalse(policy.isServerFailure(new ApiClient.ApiException("HTTP 404", 404)));
+        assertFalse(policy.isServerFailure(new CircuitBreaker.CircuitOpenException("localhost:8080", 1000)));
+        assertFalse(policy.isServerFailure(new Deadline.DeadlineExceededException("查询", 5000)));
+    }
+
+    @Test
+    void attemptsAreLimited() {
+        assertTrue(policy.hasAttemptsLeft(1));
+        assertTrue(policy.hasAttemptsLeft(2));
+        assertFalse(policy.hasAttemptsLeft(3));
+    }
+
+    @Test
+    void backoffIsJitteredWithinGrowingCeiling() {
+        for (int i = 0; i < 200; i++) {
+            assertTrue(policy.backoffDelay(1) <= 10);
+            assertTrue(policy.backoffDelay(2) <= 20);
+            assertTrue(policy.backoffDelay(3) <= 40);
+            assertTrue(policy.backoffDelay(30) <= 50);
+            assertTrue(policy.backoffDelay(30) >= 0);
+        }
+    }
+
+    @Test
+    void getIsRetriedUntilSuccess() throws Exception {
+        StubBackend backend = StubBackend.start();
+        backend.handle("/test/flaky", (exchange, request) -> {
+            if (backend.requests("/test/flaky").size() < 3) {
+                StubBackend.respond(exchange, 503, "{\"message\":\"维护中\"}");
+            } else {
+                StubBackend.respond(exchange, 200, "[\"成功\"]");
+            }
+        });
+
+        assertEquals(List.of("成功"), new ApiClient().getAsync("/test/flaky", STRINGS).get(10, TimeUnit.SECONDS));
+        assertEquals(3, backend.requests("/test/flaky").size());
+    }
+
+    @Test
+    void unsafePostIsNotRetried() throws Exception {
+        StubBackend backend = StubBackend.start();
+        backend.handle("/test/flaky", (exchange, request) -> StubBackend.respond(exchange, 503, "{\"message\":\"维护中\"}"));
+
+        ExecutionException error = assertThrows(ExecutionException.class, () -> new ApiClient()
+                .postAsync("/test/flaky", Map.of("id", 1), STRINGS).get(10, TimeUnit.SECONDS));
+
+        assertInstanceOf(ApiClient.ApiException.class, ApiClient.unwrap(error));
+        assertEquals(503, ((ApiClient.ApiException) ApiClient.unwrap(error)).getStatusCode());
+        assertEquals(1, backend.requests("/test/flaky").size());
+    }
+
+    @Test
+    void unlistedPutIsNotRetried() throws Exception {
+        StubBackend backend = StubBackend.start();
+        backend.handle("/test/pay", (exchange, request) -> StubBackend.respond(exchange, 503, "{\"message\":\"维护中\"}"));
+        backend.handle("/test/update", (exchange, request) -> {
+            if (backend.requests("/test/update").size() < 2) {
+                StubBackend.respond(exchange, 503, "{\"message\":\"维护中\"}");
+            } else {
+                StubBackend.respond(exchange, 200, "[\"成功\"]");
+            }
+        });
+        ApiClient apiClient = new ApiClient();
+
+        assertThrows(ExecutionException.class, () -> apiClient
+                .putAsync("/test/pay?orderId=1", Map.of(), Object.class).get(10, TimeUnit.SECONDS));
+        assertEquals(1, backend.requests("/test/pay").size());
+        assertEquals(List.of("成功"), apiClient
+                .putAsync("/test/update", Map.of("gameName", "星露谷物语"), Object.class).get(10, TimeUnit.SECONDS));
+        assertEquals(2, backend.requests("/test/update").size());
+    }
+
+    @Test
+    void clientErrorIsNotRetried() throws Exception {
+        StubBackend backend = StubBackend.start();
+        backend.handle("/test/query", (exchange, request) -> StubBackend.respond(exchange, 400, "{\"message\":\"参数错误\"}"));
+
+        assertThrows(ExecutionException.class, () -> new ApiClient()
+                .postAsync("/test/query", Map.of("id", 1), STRINGS).get(10, TimeUnit.SECONDS));
+        assertEquals(1, backend.requests("/test/query").size());
+    }
+
+    @Test
+    void safePostIsRetriedWithSameBody() throws Exception {
+        StubBackend backend = StubBackend.start();
+        backend.handle("/test/query", (exchange, request) -> {
+            if (backend.requests("/test/query").size() < 2) {
+                StubBackend.respond(exchange, 502, "{\"message\":\"网关错误\"}");
+            } else {
+                StubBackend.respond(exchange, 200, "[\"成功\"]");
+            }
+        });
+
+        assertEquals(List.of("成功"), new ApiClient()
+                .postAsync("/test/query", Map.of("gameName", "星露谷物语"), STRINGS).get(10, TimeUnit.SECONDS));
+        List<StubBackend.Request> requests = backend.requests("/test/query");
+        assertEquals(2, requests.size());
+        assertEquals("{\"gameName\":\"星露谷物语\"}", requests.get(1).bodyText());
+        assertEquals(requests.get(0).bodyText(), requests.get(1).bodyText());
+    }
+}
@@ -0,0 +1,143 @@
+package com.database.gametradefrontend.client;
+
+import com.database.gametradefrontend.StubBackend;
+import com.database.gametradefrontend.config.AppConfig;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 按名称搜索游戏（/buyers/games/search-by-name）的延迟基准：
+ * 原来的HttpURLConnection传输方式与共享HttpClient的ApiClient比较p50/p99，同时统计用到的连接数
+ * 桩服务模拟10ms往返延迟的链路（新连接多一个往返的握手），回环网络上建立连接几乎没有开销，不能反映实际差别
+ * 不在常规测试中运行，执行：mvn test -Dtest=SearchLatencyBenchmark
+ */
+class SearchLatencyBenchmark {
+    private static final String PATH = "/buyers/games/search-by-name";
+    private static final long ROUND_TRIP_MILLIS = 10;
+    private static final int GAMES = 200;
+    private static final int WARMUP = 50;
+    private static final int REQUESTS = 500;
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @Test
+    void searchByNameLatency() throws Exception {
+        StubBackend backend = StubBackend.start();
+        byte[] json = mapper.writeValueAsBytes(games());
+        backend.handle(PATH, (exchange, request) -> {
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            StubBackend.respond(exchange, 200, json);
+        });
+        backend.link(ROUND_TRIP_MILLIS, 0);
+        ApiClient apiClient = new ApiClient();
+        String endpoint = PATH + "?gameName=";
+
+        for (int i = 0; i < WARMUP; i++) {
+            perConnection(endpoint);
+            apiClient.get(endpoint, Object.class);
+        }
+        backend.reset();
+        backend.handle(PATH, (exchange, request) -> {
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            StubBackend.respond(exchange, 200, json);
+        });
+        backend.link(ROUND_TRIP_MILLIS, 0);
+        long[] before = new long[REQUESTS];
+        for (int i = 0; i < REQUESTS; i++) {
+            long start = System.nanoTime();
+            perConnection(endpoint);
+            before[i] = System.nanoTime() - start;
+        }
+        long beforeConnections = connections(backend);
+        backend.reset();
+        backend.handle(PATH, (exchange, request) -> {
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            StubBackend.respond(exchange, 200, json);
+        });
+        backend.link(ROUND_TRIP_MILLIS, 0);
+        long[] after = new long[REQUESTS];
+        for (int i = 0; i < REQUESTS; i++) {
+            long start = System.nanoTime();
+            apiClient.get(endpoint, Object.class);
+            after[i] = System.nanoTime() - start;
+        }
+        long afterConnections = connections(backend);
+        assertEquals(REQUESTS, backend.requests(PATH).size());
+
+        System.out.println("search-by-name（" + GAMES + " 个游戏, " + json.length + " 字节, 往返延迟 " + ROUND_TRIP_MILLIS
+                + "ms, " + REQUESTS + " 次请求）");
+        System.out.println("  HttpURLConnection: " + percentiles(before) + ", " + beforeConnections + " 个连接");
+        System.out.println("  共享HttpClient: " + percentiles(after) + ", " + afterConnections + " 个连接");
+    }
+
+    /**
+     * 原来的传输方式：每个请求打开HttpURLConnection，逐行读取响应后disconnect
+     */
+    private Object perConnection(String endpoint) throws Exception {
+        HttpURLConnection connection = (HttpURLConnection) URI.create(AppConfig.getApiBaseUrl() + endpoint).toURL()
+                .openConnection();
+        try {
+            connection.setRequestMethod("GET");
+            connection.setRequestProperty("Content-Type", "application/json");
+            connection.setRequestProperty("Accept", "application/json");
+            connection.setConnectTimeout(AppConfig.getApiConnectTimeout());
+            connection.setReadTimeout(AppConfig.getApiReadTimeout());
+            assertEquals(200, connection.getResponseCode());
+            try (BufferedReader br = new BufferedReader(
+                    new InputStreamReader(connection.getInputStream(), StandardCharsets.UTF_8))) {
+                StringBuilder response = new StringBuilder();
+                String line;
+                while ((line = br.readLine()) != null) {
+                    response.append(line.trim());
+                }
+                return mapper.readValue(response.toString(), Object.class);
+            }
+        } finally {
+            connection.disconnect();
+        }
+    }
+
+    private static long connections(StubBackend backend) {
+        return backend.requests(PATH).stream().map(request -> request.remoteAddress().getPort()).distinct().count();
+    }
+
+    private static String percentiles(long[] nanos) {
+        long[] sorted = nanos.clone();
+        Arrays.sort(sorted);
+        return String.format("p50 %.3fms, p99 %.3fms", percentile(sorted, 0.50), percentile(sorted, 0.99));
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1_000_000.0;
+    }
+
+    private static List<Map<String, Object>> games() {
+        List<Map<String, Object>> games = new ArrayList<>();
+        for (int i = 0; i < GAMES; i++) {
+            Map<String, Object> game = new LinkedHashMap<>();
+            game.put("gameName", "游戏" + i);
+            game.put("category", i % 2 == 0 ? "动作" : "角色扮演");
+            game.put("price", String.valueOf(30 + i % 70));
+            game.put("rating", "8." + i % 10);
+            game.put("popularity", String.valueOf(i * 13));
+            game.put("companyName", "厂商" + i % 20);
+            game.put("description", "这是一款关于冒险与探索的游戏，编号" + i);
+            games.add(game);
+        }
+        return games;
+    }
+}
@@ -0,0 +1,59 @@
+package com.database.gametradefrontend.client;
+
+import com.database.gametradefrontend.StubBackend;
+import com.database.gametradefrontend.config.AppConfig;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 共享HTTP客户端测试：通过桩服务比较共享的长连接客户端和每次请求新建的客户端
+ * 共享客户端的连续请求复用keep-alive连接，每次新建的客户端每个请求都要重新建立连接
+ */
+class SharedHttpClientTest {
+    private static final String PATH = "/test/keep-alive";
+    private static final int REQUESTS = 20;
+
+    @Test
+    void sharedClientReusesConnections() throws Exception {
+        StubBackend backend = StubBackend.start();
+        backend.handle(PATH, (exchange, request) -> StubBackend.respond(exchange, 200, "[\"ok\"]"));
+
+        for (int i = 0; i < REQUESTS; i++) {
+            // 不同的ApiClient实例也共享同一个HttpClient
+            new ApiClient().get(PATH + "?n=" + i, Object.class);
+        }
+        Set<Integer> sharedConnections = connections(backend);
+
+        backend.reset();
+        backend.handle(PATH, (exchange, request) -> StubBackend.respond(exchange, 200, "[\"ok\"]"));
+        for (int i = 0; i < REQUESTS; i++) {
+            try (HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build()) {
+                HttpResponse<String> response = client.send(
+                        HttpRequest.newBuilder(URI.create(AppConfig.getApiBaseUrl() + PATH + "?n=" + i)).build(),
+                        HttpResponse.BodyHandlers.ofString());
+                assertEquals(200, response.statusCode());
+            }
+        }
+        Set<Integer> perCallConnections = connections(backend);
+
+        assertEquals(REQUESTS, perCallConnections.size());
+        // 连续请求只使用连接池中保留的空闲连接（之前的测试可能留下多个），不会为每个请求新建连接
+        assertTrue(sharedConnections.size() <= AppConfig.getApiConnectionPoolSize(),
+                "共享客户端使用了 " + sharedConnections.size() + " 个连接");
+    }
+
+    private static Set<Integer> connections(StubBackend backend) {
+        return backend.requests(PATH).stream()
+                .map(request -> request.remoteAddress().getPort())
+                .collect(Collectors.toSet());
+    }
+}
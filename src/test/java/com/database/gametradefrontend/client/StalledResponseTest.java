@@ -0,0 +1,93 @@
+package com.database.gametradefrontend.client;
+
+import com.database.gametradefrontend.StubBackend;
+import com.sun.net.httpserver.HttpExchange;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 响应体读取超时测试：桩服务发出响应头和部分响应体后停住，请求仍在时限内失败并释放连接
+ * 测试配置：/test/stalled 使用stall档位（读超时300ms，总时限3000ms），其他接口读超时5000ms
+ */
+class StalledResponseTest {
+    private static final String STALLED = "/test/stalled";
+    private static final String STALLED_POST = "/test/stalled-post";
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    void releaseHandlers() {
+        release.countDown();
+    }
+
+    @Test
+    void stalledBodyTimesOutEachAttempt() throws Exception {
+        StubBackend backend = StubBackend.start();
+        backend.handle(STALLED, this::stall);
+        backend.handle("/test/ok", (exchange, request) -> StubBackend.respond(exchange, 200, "{\"ok\":true}"));
+        ApiClient apiClient = new ApiClient();
+
+        long start = System.nanoTime();
+        ExecutionException error = assertThrows(ExecutionException.class,
+                () -> apiClient.getAsync(STALLED, Map.class).get(10, TimeUnit.SECONDS));
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // 每次尝试读到一半停住，300ms后中止并重试，三次后放弃
+        assertInstanceOf(HttpTimeoutException.class, ApiClient.unwrap(error), error.toString());
+        assertEquals(3, backend.requests(STALLED).size());
+        assertTrue(elapsed < 2000, "耗时 " + elapsed + "ms");
+        // 停住的连接已中止，之后的请求不受影响
+        assertEquals(Map.of("ok", true), apiClient.getAsync("/test/ok", Map.class).get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void stalledBodyFailsAtCallDeadline() throws Exception {
+        StubBackend backend = StubBackend.start();
+        backend.handle(STALLED_POST, this::stall);
+        ApiClient apiClient = new ApiClient().withDeadline(Deadline.after(300));
+
+        long start = System.nanoTime();
+        CompletableFuture<Map> call = apiClient.postAsync(STALLED_POST, Map.of("gameName", "Hades"), Map.class);
+        ExecutionException error = assertThrows(ExecutionException.class, () -> call.get(10, TimeUnit.SECONDS));
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // 截止时间和本次尝试的时限同时到期，哪个先触发都以超时结束，不会等到默认的5000ms读超时
+        Throwable cause = ApiClient.unwrap(error);
+        assertTrue(cause instanceof Deadline.DeadlineExceededException || cause instanceof HttpTimeoutException,
+                cause.toString());
+        assertEquals(1, backend.requests(STALLED_POST).size());
+        assertTrue(elapsed < 1500, "耗时 " + elapsed + "ms");
+    }
+
+    /**
+     * 声明100字节的响应体，只写出一部分后停住，直到测试结束
+     */
+    private void stall(HttpExchange exchange, StubBackend.Request request) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(200, 100);
+        OutputStream out = exchange.getResponseBody();
+        out.write("{\"gameName\":".getBytes(StandardCharsets.UTF_8));
+        out.flush();
+        try {
+            release.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        exchange.close();
+    }
+}
@@ -0,0 +1,77 @@
+package com.database.gametradefrontend.client;
+
+import com.database.gametradefrontend.Allocations;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 响应解码的分配基准：10000个游戏的目录响应，
+ * 原来逐行读取、trim后拼接成字符串再解析，与直接从输入流流式解析比较每次请求的堆分配
+ * 不在常规测试中运行，执行：mvn test -Dtest=StreamingDecodeBenchmark
+ */
+class StreamingDecodeBenchmark {
+    private static final int GAMES = 10_000;
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @Test
+    void decodeAllocation() throws Exception {
+        byte[] payload = mapper.writeValueAsBytes(games());
+        assertEquals(readLineConcat(new ByteArrayInputStream(payload)), stream(new ByteArrayInputStream(payload)));
+
+        Allocations.Result before = Allocations.measure(20, 50, () -> readLineConcat(new ByteArrayInputStream(payload)));
+        Allocations.Result after = Allocations.measure(20, 50, () -> stream(new ByteArrayInputStream(payload)));
+
+        System.out.println("目录响应（" + GAMES + " 个游戏, " + payload.length + " 字节）解码为Object");
+        System.out.println("  readLine+trim+拼接: " + before);
+        System.out.println("  输入流流式解析: " + after);
+    }
+
+    /**
+     * 原来的读取方式：逐行读取并trim，拼接成完整字符串后解析
+     */
+    private Object readLineConcat(InputStream body) throws Exception {
+        try (BufferedReader br = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            StringBuilder response = new StringBuilder();
+            String line;
+            while ((line = br.readLine()) != null) {
+                response.append(line.trim());
+            }
+            return mapper.readValue(response.toString(), Object.class);
+        }
+    }
+
+    private Object stream(InputStream body) throws Exception {
+        try (body) {
+            return mapper.readValue(body, Object.class);
+        }
+    }
+
+    static List<Map<String, Object>> games() {
+        List<Map<String, Object>> games = new ArrayList<>();
+        for (int i = 0; i < GAMES; i++) {
+            Map<String, Object> game = new LinkedHashMap<>();
+            game.put("gameName", "游戏" + i);
+            game.put("category", i % 2 == 0 ? "动作" : "角色扮演");
+            game.put("price", String.valueOf(30 + i % 70));
+            game.put("rating", "8." + i % 10);
+            game.put("popularity", String.valueOf(i * 13));
+            game.put("companyName", "厂商" + i % 20);
+            game.put("description", "这是一款关于冒险与探索的游戏，编号" + i);
+            games.add(game);
+        }
+        return games;
+    }
+}
@@ -0,0 +1,82 @@
+package com.database.gametradefrontend.client;
+
+import com.database.gametradefrontend.Allocations;
+import com.database.gametradefrontend.model.GameSummary;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 列表绑定基准：10000个游戏的目录响应，
+ * 原来解析为List&lt;Map&gt;再逐个getOrDefault(...).toString()取字段，与直接绑定到GameSummary记录比较解码耗时和堆分配
+ * 不在常规测试中运行，执行：mvn test -Dtest=TypedBindingBenchmark
+ */
+class TypedBindingBenchmark {
+    private static final int GAMES = 10_000;
+
+    private final ObjectMapper mapper = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    @Test
+    void bindingCostPerResponse() throws Exception {
+        byte[] payload = mapper.writeValueAsBytes(games());
+        assertEquals(viaMaps(payload), typed(payload));
+
+        Allocations.Result before = Allocations.measure(20, 50, () -> viaMaps(payload));
+        Allocations.Result after = Allocations.measure(20, 50, () -> typed(payload));
+
+        System.out.println("目录响应（" + GAMES + " 个游戏, " + payload.length + " 字节）解码为游戏条目");
+        System.out.println("  List<Map> + getOrDefault: " + before);
+        System.out.println("  TypeReference绑定GameSummary: " + after);
+    }
+
+    /**
+     * 原来的做法：解析为Object得到List&lt;Map&gt;，再按字段名取值并转成字符串
+     */
+    @SuppressWarnings("unchecked")
+    private List<GameSummary> viaMaps(byte[] payload) throws Exception {
+        List<Map<String, Object>> rows = (List<Map<String, Object>>) mapper.readValue(
+                new ByteArrayInputStream(payload), Object.class);
+        List<GameSummary> games = new ArrayList<>(rows.size());
+        for (Map<String, Object> row : rows) {
+            games.add(new GameSummary(
+                    row.getOrDefault("gameName", "未知游戏").toString(),
+                    row.getOrDefault("category", "未知类别").toString(),
+                    row.getOrDefault("price", "免费").toString(),
+                    row.getOrDefault("score", "0").toString(),
+                    row.getOrDefault("salesVolume", "0").toString(),
+                    row.getOrDefault("companyName", "未知厂商").toString(),
+                    row.getOrDefault("description", "暂无简介").toString()));
+        }
+        return games;
+    }
+
+    private List<GameSummary> typed(byte[] payload) throws Exception {
+        return mapper.readValue(new ByteArrayInputStream(payload), GameSummary.LIST_TYPE);
+    }
+
+    private static List<Map<String, Object>> games() {
+        List<Map<String, Object>> games = new ArrayList<>();
+        for (int i = 0; i < GAMES; i++) {
+            Map<String, Object> game = new LinkedHashMap<>();
+            game.put("gameName", "游戏" + i);
+            game.put("category", i % 2 == 0 ? "动作" : "角色扮演");
+            game.put("price", 30 + i % 70);
+            game.put("score", 8.0 + i % 10 / 10.0);
+            game.put("salesVolume", i * 13);
+            game.put("companyName", "厂商" + i % 20);
+            game.put("description", "这是一款关于冒险与探索的游戏，编号" + i);
+            game.put("releaseDate", "2024-01-01");
+            games.add(game);
+        }
+        return games;
+    }
+}
@@ -0,0 +1,111 @@
+package com.database.gametradefrontend.service;
+
+import com.database.gametradefrontend.StubBackend;
+import com.database.gametradefrontend.client.ApiClient;
+import com.database.gametradefrontend.model.GameSummary;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * 游戏目录同步测试：增量变更的合并、增量接口不存在时改为全量分页拉取
+ * 测试配置中目录每页2条
+ */
+class GameCatalogTest {
+    private static final String CHANGES = "/buyers/games/changes";
+    private static final String SEARCH = "/buyers/games/search-by-name";
+
+    private StubBackend backend;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        backend = StubBackend.start();
+        ApiClient.clearCache();
+    }
+
+    @Test
+    void deltaSyncMergesChangesInPlace() throws Exception {
+        backend.handle(CHANGES, (exchange, request) -> {
+            if (request.query().equals("since=")) {
+                StubBackend.respond(exchange, 200, """
+                        {"cursor":"c1","full":true,"upserts":[%s,%s,%s]}"""
+                        .formatted(game("A", "10"), game("B", "20"), game("C", "30")));
+            } else {
+                StubBackend.respond(exchange, 200, """
+                        {"cursor":"c2","full":false,"upserts":[%s,%s],"deletes":["A"]}"""
+                        .formatted(game("B", "25"), game("D", "40")));
+            }
+        });
+        GameCatalog catalog = new GameCatalog();
+
+        assertEquals(List.of("A", "B", "C"), names(refresh(catalog)));
+
+        GameSearchIndex merged = refresh(catalog);
+        // 修改的游戏保持原位置，新增的追加到末尾
+        assertEquals(List.of("B", "C", "D"), names(merged));
+        assertEquals("25", merged.getGames().get(0).price());
+        assertEquals("since=c1", backend.requests(CHANGES).get(1).query());
+        assertSame(merged, catalog.getIndex());
+    }
+
+    @Test
+    void emptyDeltaKeepsCurrentIndex() throws Exception {
+        backend.handle(CHANGES, (exchange, request) -> StubBackend.respond(exchange, 200,
+                request.query().equals("since=")
+                        ? "{\"cursor\":\"c1\",\"full\":true,\"upserts\":[" + game("A", "10") + "]}"
+                        : "{\"cursor\":\"c1\",\"full\":false}"));
+        GameCatalog catalog = new GameCatalog();
+
+        GameSearchIndex first = refresh(catalog);
+        assertSame(first, refresh(catalog));
+    }
+
+    @Test
+    void fallsBackToFullFetchOn404() throws Exception {
+        assertFallsBackToFullFetch(404);
+    }
+
+    @Test
+    void fallsBackToFullFetchOn405() throws Exception {
+        assertFallsBackToFullFetch(405);
+    }
+
+    @Test
+    void fallsBackToFullFetchOn501() throws Exception {
+        assertFallsBackToFullFetch(501);
+    }
+
+    private void assertFallsBackToFullFetch(int status) throws Exception {
+        backend.handle(CHANGES, (exchange, request) -> StubBackend.respond(exchange, status, "{\"message\":\"不支持\"}"));
+        backend.handle(SEARCH, (exchange, request) -> StubBackend.respond(exchange, 200,
+                request.query().contains("page=0")
+                        ? "[" + game("A", "10") + "," + game("B", "20") + "]"
+                        : "[" + game("C", "30") + "]"));
+        GameCatalog catalog = new GameCatalog();
+
+        assertEquals(List.of("A", "B", "C"), names(refresh(catalog)));
+        assertEquals(2, backend.requests(SEARCH).size());
+
+        // 本次运行期间不再尝试增量接口
+        refresh(catalog);
+        assertEquals(1, backend.requests(CHANGES).size());
+        assertEquals(4, backend.requests(SEARCH).size());
+    }
+
+    private static GameSearchIndex refresh(GameCatalog catalog) throws Exception {
+        return catalog.refresh(new ApiClient()).get(10, TimeUnit.SECONDS);
+    }
+
+    private static List<String> names(GameSearchIndex index) {
+        return index.getGames().stream().map(GameSummary::gameName).toList();
+    }
+
+    private static String game(String name, String price) {
+        return "{\"gameName\":\"" + name + "\",\"price\":\"" + price + "\"}";
+    }
+}
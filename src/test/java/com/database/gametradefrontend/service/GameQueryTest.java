@@ -0,0 +1,89 @@
+package com.database.gametradefrontend.service;
+
+import com.database.gametradefrontend.model.GameSummary;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 组合筛选条件测试：类别、热度、偏好与文本搜索同时生效
+ */
+class GameQueryTest {
+    private static final GameSearchIndex INDEX = GameSearchIndex.build(List.of(
+            game("Hades", "动作", "700", "9.4"),
+            game("Hollow Knight", "动作", "400", "9.0"),
+            game("星露谷物语", "模拟", "900", "9.6"),
+            game("模拟城市", "模拟", "200", "8.0"),
+            game("Celeste", "平台跳跃", "100", "9.2")));
+
+    @Test
+    void categoryFilterKeepsPopularityOrder() {
+        assertEquals(List.of("Hades", "Hollow Knight"), names(new GameQuery(null, "动作", 0, null)));
+    }
+
+    @Test
+    void categoryIsNormalized() {
+        assertEquals(List.of("Celeste"), names(new GameQuery("", " 平台跳跃 ", 0, null)));
+    }
+
+    @Test
+    void unknownCategoryMatchesNothing() {
+        assertTrue(names(new GameQuery(null, "射击", 0, null)).isEmpty());
+    }
+
+    @Test
+    void minPopularityIncludesThreshold() {
+        assertEquals(List.of("星露谷物语", "Hades", "Hollow Knight"), names(new GameQuery(null, null, 400, null)));
+        assertEquals(List.of("星露谷物语"), names(new GameQuery(null, null, 701, null)));
+        assertTrue(names(new GameQuery(null, null, 1000, null)).isEmpty());
+    }
+
+    @Test
+    void preferredGamesFilterByName() {
+        Set<String> preferred = Set.of("celeste", "模拟城市", "不存在的游戏");
+        assertEquals(List.of("模拟城市", "Celeste"), names(new GameQuery(null, null, 0, preferred)));
+    }
+
+    @Test
+    void allConditionsApplyTogether() {
+        assertEquals(List.of("Hades"), names(new GameQuery(null, "动作", 500, null)));
+        assertEquals(List.of("模拟城市"), names(new GameQuery("城市", "模拟", 0, null)));
+        assertTrue(names(new GameQuery("hades", "模拟", 0, null)).isEmpty());
+        assertEquals(List.of("Hollow Knight"),
+                names(new GameQuery("h", "动作", 0, Set.of("Hollow Knight", "星露谷物语"))));
+    }
+
+    @Test
+    void hasFiltersIgnoresText() {
+        assertFalse(GameQuery.ALL.hasFilters());
+        assertFalse(GameQuery.text("hades").hasFilters());
+        assertTrue(new GameQuery(null, "动作", 0, null).hasFilters());
+        assertTrue(new GameQuery(null, null, 1, null).hasFilters());
+        assertTrue(new GameQuery(null, null, 0, Set.of()).hasFilters());
+    }
+
+    @Test
+    void preferredGamesAreCopied() {
+        Set<String> preferred = new HashSet<>(Arrays.asList("Hades"));
+        GameQuery query = new GameQuery(null, null, 0, preferred);
+        preferred.add("Celeste");
+
+        assertEquals(Set.of("Hades"), query.preferredGames());
+        assertEquals(new GameQuery(null, null, 0, Set.of("Hades")), query);
+    }
+
+    private static List<String> names(GameQuery query) {
+        return Arrays.stream(INDEX.search(query)).mapToObj(doc -> INDEX.getGames().get(doc).gameName()).toList();
+    }
+
+    private static GameSummary game(String name, String category, String sales, String score) {
+        return new GameSummary(name, category, "0", score, sales, "厂商", "简介");
+    }
+}
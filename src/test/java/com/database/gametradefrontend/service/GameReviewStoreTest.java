@@ -0,0 +1,113 @@
+package com.database.gametradefrontend.service;
+
+import com.database.gametradefrontend.StubBackend;
+import com.database.gametradefrontend.client.ApiClient;
+import com.database.gametradefrontend.model.GameReview;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 评价缓存测试：本地分页、总页数、同一游戏的并发请求只查询一次
+ * 测试配置中每页5条
+ */
+class GameReviewStoreTest {
+    private static final String GAME = "星露谷物语";
+    private static final String PATH = "/vendors/query-game-reviews";
+
+    private final GameReviewStore store = GameReviewStore.getInstance();
+
+    @BeforeEach
+    void clear() {
+        store.clear();
+    }
+
+    @Test
+    void reviewsArePagedLocally() {
+        List<GameReview> all = reviews(12);
+        store.store(GAME, all);
+
+        assertEquals(3, store.getPageCount(GAME));
+        assertEquals(all.subList(0, 5), store.getCachedPage(GAME, 0));
+        assertEquals(all.subList(5, 10), store.getCachedPage(GAME, 1));
+        assertEquals(all.subList(10, 12), store.getCachedPage(GAME, 2));
+        assertEquals(List.of(), store.getCachedPage(GAME, 3));
+    }
+
+    @Test
+    void fullLastPageHasNoExtraPage() {
+        store.store(GAME, reviews(10));
+
+        assertEquals(2, store.getPageCount(GAME));
+        assertEquals(List.of(), store.getCachedPage(GAME, 2));
+    }
+
+    @Test
+    void noReviewsMeansNoPages() {
+        store.store(GAME, null);
+
+        assertEquals(0, store.getPageCount(GAME));
+        assertEquals(List.of(), store.getCachedPage(GAME, 0));
+    }
+
+    @Test
+    void unknownGameIsNotCached() {
+        assertNull(store.getCachedPage(GAME, 0));
+        assertEquals(-1, store.getPageCount(GAME));
+    }
+
+    @Test
+    void invalidateDropsCachedReviews() {
+        store.store(GAME, reviews(3));
+        store.invalidate(GAME);
+
+        assertNull(store.getCachedPage(GAME, 0));
+    }
+
+    @Test
+    void concurrentRequestsShareOneQuery() throws Exception {
+        StubBackend backend = StubBackend.start();
+        ApiClient.clearCache();
+        CompletableFuture<Void> release = new CompletableFuture<>();
+        StringBuilder body = new StringBuilder("[");
+        for (int i = 0; i < 7; i++) {
+            body.append(i > 0 ? "," : "").append("{\"nickname\":\"玩家").append(i).append("\",\"score\":\"9\"}");
+        }
+        String json = body.append("]").toString();
+        backend.handle(PATH, (exchange, request) -> {
+            release.join();
+            StubBackend.respond(exchange, 200, json);
+        });
+        ApiClient apiClient = new ApiClient();
+
+        CompletableFuture<List<GameReview>> first = store.getPage(apiClient, "buyer001", GAME, 0);
+        CompletableFuture<List<GameReview>> second = store.getPage(apiClient, "buyer001", GAME, 1);
+        release.complete(null);
+
+        assertEquals(5, first.get(10, TimeUnit.SECONDS).size());
+        assertEquals("玩家5", second.get(10, TimeUnit.SECONDS).get(0).nickname());
+        assertEquals(2, store.getPageCount(GAME));
+        assertTrue(store.getPage(apiClient, "buyer001", GAME, 1).isDone());
+        List<StubBackend.Request> requests = backend.requests(PATH);
+        assertEquals(1, requests.size());
+        assertEquals("POST", requests.get(0).method());
+        assertTrue(requests.get(0).bodyText().contains("\"gameName\":\"星露谷物语\""), requests.get(0).bodyText());
+        assertTrue(requests.get(0).bodyText().contains("\"account\":\"buyer001\""), requests.get(0).bodyText());
+    }
+
+    private static List<GameReview> reviews(int count) {
+        List<GameReview> reviews = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            reviews.add(new GameReview("玩家" + i, "9", "评价" + i, "2024-01-01"));
+        }
+        return reviews;
+    }
+}
@@ -0,0 +1,87 @@
+package com.database.gametradefrontend.service;
+
+import com.database.gametradefrontend.model.GameSummary;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 游戏目录索引测试：中文bigram子串匹配、字母数字前缀匹配、相关度和热度排序
+ */
+class GameSearchIndexTest {
+    private static final GameSearchIndex INDEX = GameSearchIndex.build(List.of(
+            game("塞尔达传说", "冒险", "500", "9.8", "任天堂", "开放世界冒险"),
+            game("传说之下", "角色扮演", "300", "9.5", "Toby Fox", "像素风格"),
+            game("星露谷物语", "模拟", "900", "9.6", "ConcernedApe", "种田 小镇传说"),
+            game("Hollow Knight", "动作", "700", "9.0", "Team Cherry", "地下王国"),
+            game("Hades", "动作", "700", "9.4", "Supergiant", "逃离冥界")));
+
+    @Test
+    void chineseQueryMatchesSubstring() {
+        assertEquals(List.of("塞尔达传说"), names("尔达"));
+        assertEquals(List.of("星露谷物语"), names("露谷物"));
+    }
+
+    @Test
+    void chineseQueryRequiresCharactersInOrder() {
+        assertTrue(names("达尔").isEmpty());
+    }
+
+    @Test
+    void singleChineseCharacterMatchesAnyField() {
+        assertEquals(List.of("传说之下", "塞尔达传说", "星露谷物语"), names("传"));
+    }
+
+    @Test
+    void wordQueryMatchesByPrefix() {
+        assertEquals(List.of("Hollow Knight"), names("hol"));
+        assertEquals(List.of("Hollow Knight"), names("Kni"));
+        assertEquals(List.of("Hades"), names("supergi"));
+    }
+
+    @Test
+    void queryIsNormalizedForWidthAndCase() {
+        assertEquals(List.of("Hades"), names("ＨＡＤ"));
+    }
+
+    @Test
+    void allTermsMustMatch() {
+        assertEquals(List.of("Hollow Knight"), names("hollow 王国"));
+        assertTrue(names("hollow 传说").isEmpty());
+    }
+
+    @Test
+    void nameMatchesRankAboveOtherFields() {
+        // 游戏名以查询开头的最前，其次是游戏名包含查询的，简介匹配的最后（即使热度最高）
+        assertEquals(List.of("传说之下", "塞尔达传说", "星露谷物语"), names("传说"));
+    }
+
+    @Test
+    void categoryAndCompanyRankAboveDescription() {
+        assertEquals(List.of("Hades", "Hollow Knight"), names("动作"));
+    }
+
+    @Test
+    void emptyQueryReturnsAllByPopularityThenRating() {
+        assertEquals(List.of("星露谷物语", "Hades", "Hollow Knight", "塞尔达传说", "传说之下"), names(""));
+        assertEquals(0, INDEX.getPopularityRank(2));
+        assertEquals(4, INDEX.getPopularityRank(1));
+    }
+
+    @Test
+    void unknownTokenReturnsNothing() {
+        assertEquals(0, INDEX.search("minecraft").length);
+    }
+
+    private static List<String> names(String query) {
+        return INDEX.searchGames(query).stream().map(GameSummary::gameName).toList();
+    }
+
+    private static GameSummary game(String name, String category, String sales, String score,
+                                    String company, String description) {
+        return new GameSummary(name, category, "0", score, sales, company, description);
+    }
+}
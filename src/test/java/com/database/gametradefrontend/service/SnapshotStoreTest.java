@@ -0,0 +1,52 @@
+package com.database.gametradefrontend.service;
+
+import com.database.gametradefrontend.model.GameSummary;
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * 本地快照读写测试（测试配置中快照保存在target/test-snapshots）
+ */
+class SnapshotStoreTest {
+    private static final TypeReference<List<String>> STRINGS = new TypeReference<>() {};
+
+    @Test
+    void savedSnapshotLoadsBack() throws Exception {
+        List<GameSummary> games = List.of(
+                new GameSummary("星露谷物语", "模拟", "48", "9.6", "1200", "ConcernedApe", "种田"),
+                new GameSummary("Hades", "动作", "80", "9.4", "800", "Supergiant", null));
+
+        SnapshotStore.save("test-round-trip", games).get(10, TimeUnit.SECONDS);
+
+        assertEquals(games, SnapshotStore.load("test-round-trip", GameSummary.LIST_TYPE));
+    }
+
+    @Test
+    void laterSaveReplacesSnapshot() throws Exception {
+        SnapshotStore.save("test-replace", List.of("旧")).get(10, TimeUnit.SECONDS);
+        SnapshotStore.save("test-replace", List.of("新")).get(10, TimeUnit.SECONDS);
+
+        assertEquals(List.of("新"), SnapshotStore.load("test-replace", STRINGS));
+    }
+
+    @Test
+    void keysWithSameFileNameDoNotCollide() throws Exception {
+        // 两个键的非法字符替换后文件名相同，靠键的哈希区分
+        SnapshotStore.save("orders:甲", List.of("甲的订单")).get(10, TimeUnit.SECONDS);
+        SnapshotStore.save("orders:乙", List.of("乙的订单")).get(10, TimeUnit.SECONDS);
+
+        assertEquals(List.of("甲的订单"), SnapshotStore.load("orders:甲", STRINGS));
+        assertEquals(List.of("乙的订单"), SnapshotStore.load("orders:乙", STRINGS));
+    }
+
+    @Test
+    void missingSnapshotLoadsAsNull() {
+        assertNull(SnapshotStore.load("test-missing", GameSummary.LIST_TYPE));
+    }
+}
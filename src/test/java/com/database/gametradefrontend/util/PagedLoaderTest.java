@@ -0,0 +1,103 @@
+package com.database.gametradefrontend.util;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 分页加载测试：按页追加、不足一页时停止，以及服务器忽略分页参数时不会无限加载
+ * 回调直接在调用线程上执行，不绑定控件，不需要启动JavaFX
+ */
+class PagedLoaderTest {
+    private static final int PAGE_SIZE = 3;
+
+    private final ObservableList<String> target = FXCollections.observableArrayList();
+    private final List<Integer> requestedPages = new ArrayList<>();
+
+    @Test
+    void pagesAreAppendedUntilShortPage() {
+        List<String> all = List.of("a", "b", "c", "d", "e", "f", "g");
+        PagedLoader<String> loader = loader(page -> CompletableFuture.completedFuture(
+                all.subList(Math.min(page * PAGE_SIZE, all.size()), Math.min((page + 1) * PAGE_SIZE, all.size()))));
+
+        loadAll(loader);
+
+        assertEquals(all, target);
+        assertEquals(List.of(0, 1, 2), requestedPages);
+    }
+
+    @Test
+    void fullLastPageStopsAfterEmptyPage() {
+        List<String> all = List.of("a", "b", "c");
+        PagedLoader<String> loader = loader(page -> CompletableFuture.completedFuture(page == 0 ? all : List.of()));
+
+        loadAll(loader);
+
+        assertEquals(all, target);
+        assertEquals(List.of(0, 1), requestedPages);
+    }
+
+    @Test
+    void repeatedPageFromServerIgnoringPagingStopsLoading() {
+        // 服务器忽略分页参数，每页都返回同样的三条（恰好等于每页条数）
+        PagedLoader<String> loader = loader(page -> CompletableFuture.completedFuture(List.of("a", "b", "c")));
+
+        loadAll(loader);
+
+        assertEquals(List.of("a", "b", "c"), target);
+        assertEquals(List.of(0, 1), requestedPages);
+    }
+
+    @Test
+    void repeatedPageIsRecognizedByItemKey() {
+        // 视图模型每次都是新对象，按键识别重复页
+        PagedLoader<StringBuilder> loader = new PagedLoader<>(FXCollections.observableArrayList(), PAGE_SIZE,
+                page -> {
+                    requestedPages.add(page);
+                    return CompletableFuture.completedFuture(List.of(
+                            new StringBuilder("a"), new StringBuilder("b"), new StringBuilder("c")));
+                }, Runnable::run);
+        loader.setItemKey(StringBuilder::toString);
+
+        loader.reload();
+        for (int i = 0; i < 5; i++) {
+            loader.loadNext();
+        }
+
+        assertEquals(List.of(0, 1), requestedPages);
+    }
+
+    @Test
+    void serverReturningEverythingOnFirstPageStops() {
+        PagedLoader<String> loader = loader(page -> CompletableFuture.completedFuture(List.of("a", "b", "c", "d", "e")));
+
+        loadAll(loader);
+
+        assertEquals(5, target.size());
+        assertEquals(List.of(0), requestedPages);
+    }
+
+    private PagedLoader<String> loader(IntFunction<CompletableFuture<List<String>>> fetcher) {
+        return new PagedLoader<>(target, PAGE_SIZE, page -> {
+            requestedPages.add(page);
+            return fetcher.apply(page);
+        }, Runnable::run);
+    }
+
+    /**
+     * 模拟用户一直滚动到底部：反复请求下一页，已无更多数据时loadNext不做任何事
+     */
+    private static void loadAll(PagedLoader<?> loader) {
+        loader.reload();
+        for (int i = 0; i < 10; i++) {
+            loader.loadNext();
+        }
+    }
+}
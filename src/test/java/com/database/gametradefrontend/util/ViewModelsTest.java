@@ -0,0 +1,52 @@
+package com.database.gametradefrontend.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * 视图模型转换测试：跳过null条目和null转换结果、排序、结果不可变
+ */
+class ViewModelsTest {
+
+    @Test
+    void nullItemsAndNullResultsAreSkipped() {
+        List<String> source = Arrays.asList("Hades", null, "", "Celeste");
+
+        List<Integer> lengths = ViewModels.mapList(source, name -> name.isEmpty() ? null : name.length());
+
+        assertEquals(List.of(5, 7), lengths);
+    }
+
+    @Test
+    void resultIsSortedAndImmutable() {
+        List<String> sorted = ViewModels.mapList(List.of("b", "c", "a"), String::toUpperCase,
+                Comparator.naturalOrder());
+
+        assertEquals(List.of("A", "B", "C"), sorted);
+        assertThrows(UnsupportedOperationException.class, () -> sorted.add("D"));
+    }
+
+    @Test
+    void nullListStaysNull() {
+        assertNull(ViewModels.mapList(null, String::valueOf));
+    }
+
+    @Test
+    void asyncMappingSkipsNullResults() throws Exception {
+        CompletableFuture<List<String>> source = CompletableFuture.completedFuture(List.of("星露谷物语", "", "Hades"));
+
+        List<String> mapped = ViewModels.mapAsync(source, name -> name.isEmpty() ? null : name + "!")
+                .get(5, TimeUnit.SECONDS);
+
+        assertEquals(List.of("星露谷物语!", "Hades!"), mapped);
+    }
+}